@@ -0,0 +1,21 @@
+package io.github.catalogo.admin.application.category.create;
+
+import io.github.catalogo.admin.domain.validation.handler.Notification;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code errors} is keyed by the position of the rejected command in the request.
+ */
+public record CreateCategoriesOutput(
+        List<CreateCategoryOutput> created,
+        Map<Integer, Notification> errors
+) {
+    public static CreateCategoriesOutput with(
+            final List<CreateCategoryOutput> created,
+            final Map<Integer, Notification> errors
+    ) {
+        return new CreateCategoriesOutput(created, errors);
+    }
+}
@@ -0,0 +1,12 @@
+package io.github.catalogo.admin.application.category.create;
+
+import io.github.catalogo.admin.application.UseCase;
+import io.github.catalogo.admin.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.List;
+
+public abstract class CreateCategoriesUseCase
+        extends UseCase<List<CreateCategoryCommand>, Either<Notification, CreateCategoriesOutput>> {
+
+}
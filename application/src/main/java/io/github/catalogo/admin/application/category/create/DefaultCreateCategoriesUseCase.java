@@ -0,0 +1,67 @@
+package io.github.catalogo.admin.application.category.create;
+
+import io.github.catalogo.admin.domain.category.Category;
+import io.github.catalogo.admin.domain.category.CategoryGateway;
+import io.github.catalogo.admin.domain.utils.IdGenerator;
+import io.github.catalogo.admin.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static io.vavr.API.Right;
+import static io.vavr.API.Try;
+
+public class DefaultCreateCategoriesUseCase extends CreateCategoriesUseCase {
+
+    private final CategoryGateway gateway;
+    private final IdGenerator idGenerator;
+
+    public DefaultCreateCategoriesUseCase(final CategoryGateway aGateway, final IdGenerator anIdGenerator) {
+        this.gateway = Objects.requireNonNull(aGateway);
+        this.idGenerator = Objects.requireNonNull(anIdGenerator);
+    }
+
+    @Override
+    public Either<Notification, CreateCategoriesOutput> execute(final List<CreateCategoryCommand> aCommands) {
+        final var validCategories = new ArrayList<Category>(aCommands.size());
+        final var errors = new LinkedHashMap<Integer, Notification>();
+
+        for (int index = 0; index < aCommands.size(); index++) {
+            final var aCommand = aCommands.get(index);
+            final var notification = Notification.create();
+            final var aCategory = Category.newCategory(this.idGenerator, aCommand.name(), aCommand.description(), aCommand.isActive());
+            aCategory.validate(notification);
+
+            if (notification.hasError()) {
+                errors.put(index, notification);
+            } else {
+                validCategories.add(aCategory);
+            }
+        }
+
+        if (validCategories.isEmpty()) {
+            return Right(CreateCategoriesOutput.with(List.of(), errors));
+        }
+
+        return createAll(validCategories, errors);
+    }
+
+    private Either<Notification, CreateCategoriesOutput> createAll(
+            final List<Category> aCategories,
+            final Map<Integer, Notification> errors
+    ) {
+        return Try(() -> this.gateway.createAll(aCategories))
+                .toEither()
+                .bimap(
+                        Notification::create,
+                        created -> CreateCategoriesOutput.with(
+                                created.stream().map(CreateCategoryOutput::from).toList(),
+                                errors
+                        )
+                );
+    }
+}
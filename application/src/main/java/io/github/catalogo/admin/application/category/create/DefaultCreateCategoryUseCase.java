@@ -2,6 +2,7 @@ package io.github.catalogo.admin.application.category.create;
 
 import io.github.catalogo.admin.domain.category.Category;
 import io.github.catalogo.admin.domain.category.CategoryGateway;
+import io.github.catalogo.admin.domain.utils.IdGenerator;
 import io.github.catalogo.admin.domain.validation.handler.Notification;
 import io.vavr.control.Either;
 
@@ -13,15 +14,17 @@ import static io.vavr.API.Try;
 public class DefaultCreateCategoryUseCase extends CreateCategoryUseCase {
 
     private final CategoryGateway gateway;
+    private final IdGenerator idGenerator;
 
-    public DefaultCreateCategoryUseCase(CategoryGateway aGateway) {
+    public DefaultCreateCategoryUseCase(final CategoryGateway aGateway, final IdGenerator anIdGenerator) {
         this.gateway = Objects.requireNonNull(aGateway);
+        this.idGenerator = Objects.requireNonNull(anIdGenerator);
     }
 
     @Override
     public Either<Notification, CreateCategoryOutput> execute(final CreateCategoryCommand aCommand) {
         final var notification = Notification.create();
-        final var aCategory = Category.newCategory(aCommand.name(), aCommand.description(), aCommand.isActive());
+        final var aCategory = Category.newCategory(this.idGenerator, aCommand.name(), aCommand.description(), aCommand.isActive());
         aCategory.validate(notification);
 
         return notification.hasError() ? Left(notification) : create(aCategory);
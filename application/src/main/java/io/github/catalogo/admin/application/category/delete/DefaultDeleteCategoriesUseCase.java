@@ -0,0 +1,30 @@
+package io.github.catalogo.admin.application.category.delete;
+
+import io.github.catalogo.admin.domain.category.CategoryGateway;
+import io.github.catalogo.admin.domain.category.CategoryId;
+import io.github.catalogo.admin.domain.exceptions.DomainException;
+import io.github.catalogo.admin.domain.validation.Error;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultDeleteCategoriesUseCase extends DeleteCategoriesUseCase {
+
+    private final CategoryGateway gateway;
+
+    public DefaultDeleteCategoriesUseCase(final CategoryGateway aGateway) {
+        this.gateway = Objects.requireNonNull(aGateway);
+    }
+
+    @Override
+    public void execute(final List<String> anIds) {
+        if (anIds == null || anIds.isEmpty()) {
+            return;
+        }
+        if (anIds.size() > MAX_IDS) {
+            throw DomainException.with(new Error("'ids' must not have more than %d entries".formatted(MAX_IDS)));
+        }
+
+        this.gateway.deleteAllById(anIds.stream().map(CategoryId::from).toList());
+    }
+}
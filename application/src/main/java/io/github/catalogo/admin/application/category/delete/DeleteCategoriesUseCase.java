@@ -0,0 +1,10 @@
+package io.github.catalogo.admin.application.category.delete;
+
+import io.github.catalogo.admin.application.UnitUseCase;
+
+import java.util.List;
+
+public abstract class DeleteCategoriesUseCase extends UnitUseCase<List<String>> {
+
+    public static final int MAX_IDS = 1_000;
+}
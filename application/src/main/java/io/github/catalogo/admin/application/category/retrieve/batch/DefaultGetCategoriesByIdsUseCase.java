@@ -0,0 +1,38 @@
+package io.github.catalogo.admin.application.category.retrieve.batch;
+
+import io.github.catalogo.admin.application.category.retrieve.get.CategoryOutput;
+import io.github.catalogo.admin.domain.category.CategoryGateway;
+import io.github.catalogo.admin.domain.category.CategoryId;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+
+/*
+ * Loads every requested category with one gateway call, asking for each id once however many
+ * times it was requested. Ids that do not exist are left out of the result.
+ */
+public class DefaultGetCategoriesByIdsUseCase extends GetCategoriesByIdsUseCase {
+
+    private final CategoryGateway gateway;
+
+    public DefaultGetCategoriesByIdsUseCase(final CategoryGateway aGateway) {
+        this.gateway = Objects.requireNonNull(aGateway);
+    }
+
+    @Override
+    public List<CategoryOutput> execute(final Collection<String> ids) {
+        final var distinctIds = new LinkedHashSet<>(ids).stream()
+                .map(CategoryId::from)
+                .toList();
+
+        if (distinctIds.isEmpty()) {
+            return List.of();
+        }
+
+        return this.gateway.findAllByIds(distinctIds).stream()
+                .map(CategoryOutput::from)
+                .toList();
+    }
+}
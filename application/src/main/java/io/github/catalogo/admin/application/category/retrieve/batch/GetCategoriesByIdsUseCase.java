@@ -0,0 +1,11 @@
+package io.github.catalogo.admin.application.category.retrieve.batch;
+
+import io.github.catalogo.admin.application.UseCase;
+import io.github.catalogo.admin.application.category.retrieve.get.CategoryOutput;
+
+import java.util.Collection;
+import java.util.List;
+
+public abstract class GetCategoriesByIdsUseCase
+        extends UseCase<Collection<String>, List<CategoryOutput>> {
+}
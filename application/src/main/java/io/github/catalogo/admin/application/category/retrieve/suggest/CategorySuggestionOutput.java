@@ -0,0 +1,11 @@
+package io.github.catalogo.admin.application.category.retrieve.suggest;
+
+import io.github.catalogo.admin.domain.category.CategoryId;
+import io.github.catalogo.admin.domain.pagination.Suggestion;
+
+public record CategorySuggestionOutput(CategoryId id, String name) {
+
+    public static CategorySuggestionOutput from(final Suggestion aSuggestion) {
+        return new CategorySuggestionOutput(CategoryId.from(aSuggestion.id()), aSuggestion.name());
+    }
+}
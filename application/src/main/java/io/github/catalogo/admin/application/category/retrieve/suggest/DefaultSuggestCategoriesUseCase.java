@@ -0,0 +1,23 @@
+package io.github.catalogo.admin.application.category.retrieve.suggest;
+
+import io.github.catalogo.admin.domain.category.CategoryGateway;
+import io.github.catalogo.admin.domain.pagination.SuggestQuery;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultSuggestCategoriesUseCase extends SuggestCategoriesUseCase {
+
+    private final CategoryGateway gateway;
+
+    public DefaultSuggestCategoriesUseCase(final CategoryGateway aGateway) {
+        this.gateway = Objects.requireNonNull(aGateway);
+    }
+
+    @Override
+    public List<CategorySuggestionOutput> execute(final SuggestQuery aQuery) {
+        return this.gateway.suggest(aQuery).stream()
+                .map(CategorySuggestionOutput::from)
+                .toList();
+    }
+}
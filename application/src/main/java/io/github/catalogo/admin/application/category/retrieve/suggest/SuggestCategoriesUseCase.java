@@ -0,0 +1,10 @@
+package io.github.catalogo.admin.application.category.retrieve.suggest;
+
+import io.github.catalogo.admin.application.UseCase;
+import io.github.catalogo.admin.domain.pagination.SuggestQuery;
+
+import java.util.List;
+
+public abstract class SuggestCategoriesUseCase extends
+        UseCase<SuggestQuery, List<CategorySuggestionOutput>> {
+}
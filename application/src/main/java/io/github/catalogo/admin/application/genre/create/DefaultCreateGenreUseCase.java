@@ -5,11 +5,12 @@ import io.github.catalogo.admin.domain.category.CategoryId;
 import io.github.catalogo.admin.domain.exceptions.NotificationException;
 import io.github.catalogo.admin.domain.genre.Genre;
 import io.github.catalogo.admin.domain.genre.GenreGateway;
+import io.github.catalogo.admin.domain.utils.IdGenerator;
 import io.github.catalogo.admin.domain.validation.Error;
 import io.github.catalogo.admin.domain.validation.ValidationHandler;
 import io.github.catalogo.admin.domain.validation.handler.Notification;
 
-import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -18,13 +19,16 @@ public class DefaultCreateGenreUseCase extends CreateGenreUseCase {
 
     private final CategoryGateway categoryGateway;
     private final GenreGateway genreGateway;
+    private final IdGenerator idGenerator;
 
     public DefaultCreateGenreUseCase(
             final CategoryGateway categoryGateway,
-            final GenreGateway genreGateway
+            final GenreGateway genreGateway,
+            final IdGenerator idGenerator
     ) {
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
         this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.idGenerator = Objects.requireNonNull(idGenerator);
     }
 
     @Override
@@ -36,7 +40,7 @@ public class DefaultCreateGenreUseCase extends CreateGenreUseCase {
         final var notification = Notification.create();
         notification.append(validateCategories(categories));
 
-        final var aGenre = notification.validate(() -> Genre.newGenre(aName, isActive));
+        final var aGenre = notification.validate(() -> Genre.newGenre(this.idGenerator, aName, isActive));
 
         if (notification.hasError()) {
             throw new NotificationException("Could not create Aggregate Genre", notification);
@@ -56,7 +60,8 @@ public class DefaultCreateGenreUseCase extends CreateGenreUseCase {
         final var retrievedIds = categoryGateway.existsByIds(ids);
 
         if (ids.size() != retrievedIds.size()) {
-            final var missingIds = new ArrayList<>(ids);
+            // fewer ids were found than asked for, so removeAll walks the found ones and never calls contains on them
+            final var missingIds = new LinkedHashSet<>(ids);
             missingIds.removeAll(retrievedIds);
 
             final var missingIdsMessage = missingIds.stream()
@@ -72,6 +77,7 @@ public class DefaultCreateGenreUseCase extends CreateGenreUseCase {
     private List<CategoryId> toCategoryID(final List<String> categories) {
         return categories.stream()
                 .map(CategoryId::from)
+                .distinct()
                 .toList();
     }
 }
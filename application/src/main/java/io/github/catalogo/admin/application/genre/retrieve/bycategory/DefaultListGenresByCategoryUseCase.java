@@ -0,0 +1,47 @@
+package io.github.catalogo.admin.application.genre.retrieve.bycategory;
+
+import io.github.catalogo.admin.domain.category.Category;
+import io.github.catalogo.admin.domain.category.CategoryGateway;
+import io.github.catalogo.admin.domain.category.CategoryId;
+import io.github.catalogo.admin.domain.exceptions.DomainException;
+import io.github.catalogo.admin.domain.exceptions.NotFoundException;
+import io.github.catalogo.admin.domain.genre.GenreGateway;
+import io.github.catalogo.admin.domain.genre.GenreId;
+import io.github.catalogo.admin.domain.pagination.Pagination;
+import io.github.catalogo.admin.domain.validation.Error;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultListGenresByCategoryUseCase extends ListGenresByCategoryUseCase {
+
+    private final CategoryGateway categoryGateway;
+    private final GenreGateway genreGateway;
+
+    public DefaultListGenresByCategoryUseCase(
+            final CategoryGateway categoryGateway,
+            final GenreGateway genreGateway
+    ) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public Pagination<String> execute(final ListGenresByCategoryCommand aCommand) {
+        if (aCommand.perPage() < 1) {
+            throw DomainException.with(new Error("'perPage' must be greater than zero"));
+        }
+        if (aCommand.perPage() > ListGenresByCategoryCommand.MAX_PER_PAGE) {
+            throw DomainException.with(new Error(
+                    "'perPage' must not be greater than %d".formatted(ListGenresByCategoryCommand.MAX_PER_PAGE)));
+        }
+
+        final var aCategoryId = CategoryId.from(aCommand.categoryId());
+        if (this.categoryGateway.existsByIds(List.of(aCategoryId)).isEmpty()) {
+            throw NotFoundException.with(Category.class, aCategoryId);
+        }
+
+        return this.genreGateway.findIdsByCategory(aCategoryId, aCommand.cursor(), aCommand.perPage())
+                .map(GenreId::getValue);
+    }
+}
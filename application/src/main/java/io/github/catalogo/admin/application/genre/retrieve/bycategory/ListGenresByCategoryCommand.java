@@ -0,0 +1,18 @@
+package io.github.catalogo.admin.application.genre.retrieve.bycategory;
+
+public record ListGenresByCategoryCommand(
+        String categoryId,
+        String cursor,
+        int perPage
+) {
+
+    public static final int MAX_PER_PAGE = 1_000;
+
+    public static ListGenresByCategoryCommand with(
+            final String aCategoryId,
+            final String aCursor,
+            final int perPage
+    ) {
+        return new ListGenresByCategoryCommand(aCategoryId, aCursor, perPage);
+    }
+}
@@ -0,0 +1,8 @@
+package io.github.catalogo.admin.application.genre.retrieve.bycategory;
+
+import io.github.catalogo.admin.application.UseCase;
+import io.github.catalogo.admin.domain.pagination.Pagination;
+
+public abstract class ListGenresByCategoryUseCase
+        extends UseCase<ListGenresByCategoryCommand, Pagination<String>> {
+}
@@ -0,0 +1,40 @@
+package io.github.catalogo.admin.application.genre.retrieve.categories;
+
+import io.github.catalogo.admin.domain.category.CategoryId;
+import io.github.catalogo.admin.domain.exceptions.DomainException;
+import io.github.catalogo.admin.domain.exceptions.NotFoundException;
+import io.github.catalogo.admin.domain.genre.Genre;
+import io.github.catalogo.admin.domain.genre.GenreGateway;
+import io.github.catalogo.admin.domain.genre.GenreId;
+import io.github.catalogo.admin.domain.pagination.Pagination;
+import io.github.catalogo.admin.domain.validation.Error;
+
+import java.util.Objects;
+
+public class DefaultListGenreCategoriesUseCase extends ListGenreCategoriesUseCase {
+
+    private final GenreGateway genreGateway;
+
+    public DefaultListGenreCategoriesUseCase(final GenreGateway genreGateway) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public Pagination<String> execute(final ListGenreCategoriesCommand aCommand) {
+        if (aCommand.perPage() < 1) {
+            throw DomainException.with(new Error("'perPage' must be greater than zero"));
+        }
+        if (aCommand.perPage() > ListGenreCategoriesCommand.MAX_PER_PAGE) {
+            throw DomainException.with(new Error(
+                    "'perPage' must not be greater than %d".formatted(ListGenreCategoriesCommand.MAX_PER_PAGE)));
+        }
+
+        final var aGenreId = GenreId.from(aCommand.genreId());
+        if (!this.genreGateway.existsById(aGenreId)) {
+            throw NotFoundException.with(Genre.class, aGenreId);
+        }
+
+        return this.genreGateway.findCategoryIds(aGenreId, aCommand.cursor(), aCommand.perPage())
+                .map(CategoryId::getValue);
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.catalogo.admin.application.genre.retrieve.categories;
+
+public record ListGenreCategoriesCommand(
+        String genreId,
+        String cursor,
+        int perPage
+) {
+
+    public static final int MAX_PER_PAGE = 1_000;
+
+    public static ListGenreCategoriesCommand with(
+            final String aGenreId,
+            final String aCursor,
+            final int perPage
+    ) {
+        return new ListGenreCategoriesCommand(aGenreId, aCursor, perPage);
+    }
+}
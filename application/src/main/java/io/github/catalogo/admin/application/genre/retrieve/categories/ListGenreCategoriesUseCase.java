@@ -0,0 +1,8 @@
+package io.github.catalogo.admin.application.genre.retrieve.categories;
+
+import io.github.catalogo.admin.application.UseCase;
+import io.github.catalogo.admin.domain.pagination.Pagination;
+
+public abstract class ListGenreCategoriesUseCase
+        extends UseCase<ListGenreCategoriesCommand, Pagination<String>> {
+}
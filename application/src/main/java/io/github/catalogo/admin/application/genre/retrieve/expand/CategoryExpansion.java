@@ -0,0 +1,37 @@
+package io.github.catalogo.admin.application.genre.retrieve.expand;
+
+import io.github.catalogo.admin.application.category.retrieve.batch.GetCategoriesByIdsUseCase;
+import io.github.catalogo.admin.application.category.retrieve.get.CategoryOutput;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/*
+ * Every category id of the response is collected first, so they are all loaded in one batch and
+ * then handed back to each genre in its own order.
+ */
+final class CategoryExpansion {
+
+    private final Map<String, CategoryOutput> categories;
+
+    private CategoryExpansion(final Map<String, CategoryOutput> categories) {
+        this.categories = categories;
+    }
+
+    static CategoryExpansion load(final GetCategoriesByIdsUseCase aUseCase, final Collection<String> ids) {
+        return new CategoryExpansion(aUseCase.execute(ids).stream()
+                .collect(Collectors.toMap(it -> it.id().getValue(), Function.identity())));
+    }
+
+    // a category deleted after the genre was read is left out
+    List<CategoryOutput> of(final List<String> ids) {
+        return ids.stream()
+                .map(this.categories::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.catalogo.admin.application.genre.retrieve.expand;
+
+import io.github.catalogo.admin.application.category.retrieve.batch.GetCategoriesByIdsUseCase;
+import io.github.catalogo.admin.application.genre.retrieve.get.GenreOutput;
+import io.github.catalogo.admin.domain.exceptions.NotFoundException;
+import io.github.catalogo.admin.domain.genre.Genre;
+import io.github.catalogo.admin.domain.genre.GenreGateway;
+import io.github.catalogo.admin.domain.genre.GenreId;
+
+import java.util.Objects;
+
+public class DefaultGetGenreWithCategoriesUseCase extends GetGenreWithCategoriesUseCase {
+
+    private final GenreGateway genreGateway;
+    private final GetCategoriesByIdsUseCase getCategoriesByIdsUseCase;
+
+    public DefaultGetGenreWithCategoriesUseCase(
+            final GenreGateway genreGateway,
+            final GetCategoriesByIdsUseCase getCategoriesByIdsUseCase
+    ) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.getCategoriesByIdsUseCase = Objects.requireNonNull(getCategoriesByIdsUseCase);
+    }
+
+    @Override
+    public GenreWithCategoriesOutput execute(final String anIn) {
+        final var aGenreId = GenreId.from(anIn);
+        final var aGenre = this.genreGateway.findById(aGenreId)
+                .map(GenreOutput::from)
+                .orElseThrow(() -> NotFoundException.with(Genre.class, aGenreId));
+
+        final var categories = CategoryExpansion.load(this.getCategoriesByIdsUseCase, aGenre.categories());
+        return new GenreWithCategoriesOutput(aGenre, categories.of(aGenre.categories()));
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.catalogo.admin.application.genre.retrieve.expand;
+
+import io.github.catalogo.admin.application.category.retrieve.batch.GetCategoriesByIdsUseCase;
+import io.github.catalogo.admin.application.genre.retrieve.list.GenreListOutput;
+import io.github.catalogo.admin.domain.genre.GenreGateway;
+import io.github.catalogo.admin.domain.pagination.Pagination;
+import io.github.catalogo.admin.domain.pagination.SearchQuery;
+
+import java.util.Objects;
+
+public class DefaultListGenresWithCategoriesUseCase extends ListGenresWithCategoriesUseCase {
+
+    private final GenreGateway genreGateway;
+    private final GetCategoriesByIdsUseCase getCategoriesByIdsUseCase;
+
+    public DefaultListGenresWithCategoriesUseCase(
+            final GenreGateway genreGateway,
+            final GetCategoriesByIdsUseCase getCategoriesByIdsUseCase
+    ) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.getCategoriesByIdsUseCase = Objects.requireNonNull(getCategoriesByIdsUseCase);
+    }
+
+    @Override
+    public Pagination<GenreListWithCategoriesOutput> execute(final SearchQuery aQuery) {
+        final var aPage = this.genreGateway.findAll(aQuery)
+                .map(GenreListOutput::from);
+
+        final var categories = CategoryExpansion.load(this.getCategoriesByIdsUseCase, aPage.items().stream()
+                .flatMap(aGenre -> aGenre.categories().stream())
+                .toList());
+        return aPage.map(aGenre -> new GenreListWithCategoriesOutput(aGenre, categories.of(aGenre.categories())));
+    }
+}
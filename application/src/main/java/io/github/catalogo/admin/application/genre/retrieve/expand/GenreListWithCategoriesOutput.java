@@ -0,0 +1,12 @@
+package io.github.catalogo.admin.application.genre.retrieve.expand;
+
+import io.github.catalogo.admin.application.category.retrieve.get.CategoryOutput;
+import io.github.catalogo.admin.application.genre.retrieve.list.GenreListOutput;
+
+import java.util.List;
+
+public record GenreListWithCategoriesOutput(
+        GenreListOutput genre,
+        List<CategoryOutput> categories
+) {
+}
@@ -0,0 +1,12 @@
+package io.github.catalogo.admin.application.genre.retrieve.expand;
+
+import io.github.catalogo.admin.application.category.retrieve.get.CategoryOutput;
+import io.github.catalogo.admin.application.genre.retrieve.get.GenreOutput;
+
+import java.util.List;
+
+public record GenreWithCategoriesOutput(
+        GenreOutput genre,
+        List<CategoryOutput> categories
+) {
+}
@@ -0,0 +1,7 @@
+package io.github.catalogo.admin.application.genre.retrieve.expand;
+
+import io.github.catalogo.admin.application.UseCase;
+
+public abstract class GetGenreWithCategoriesUseCase
+        extends UseCase<String, GenreWithCategoriesOutput> {
+}
@@ -0,0 +1,9 @@
+package io.github.catalogo.admin.application.genre.retrieve.expand;
+
+import io.github.catalogo.admin.application.UseCase;
+import io.github.catalogo.admin.domain.pagination.Pagination;
+import io.github.catalogo.admin.domain.pagination.SearchQuery;
+
+public abstract class ListGenresWithCategoriesUseCase
+        extends UseCase<SearchQuery, Pagination<GenreListWithCategoriesOutput>> {
+}
@@ -0,0 +1,25 @@
+package io.github.catalogo.admin.application.genre.retrieve.get;
+
+import io.github.catalogo.admin.domain.exceptions.NotFoundException;
+import io.github.catalogo.admin.domain.genre.Genre;
+import io.github.catalogo.admin.domain.genre.GenreGateway;
+import io.github.catalogo.admin.domain.genre.GenreId;
+
+import java.util.Objects;
+
+public class DefaultGetGenreSummaryByIdUseCase extends GetGenreSummaryByIdUseCase {
+
+    private final GenreGateway genreGateway;
+
+    public DefaultGetGenreSummaryByIdUseCase(final GenreGateway genreGateway) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public GenreSummaryOutput execute(final String anIn) {
+        final var aGenreId = GenreId.from(anIn);
+        return this.genreGateway.findSummaryById(aGenreId)
+                .map(GenreSummaryOutput::from)
+                .orElseThrow(() -> NotFoundException.with(Genre.class, aGenreId));
+    }
+}
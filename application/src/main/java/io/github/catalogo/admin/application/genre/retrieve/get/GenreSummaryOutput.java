@@ -0,0 +1,28 @@
+package io.github.catalogo.admin.application.genre.retrieve.get;
+
+import io.github.catalogo.admin.domain.genre.GenreSummary;
+
+import java.time.Instant;
+
+public record GenreSummaryOutput(
+        String id,
+        String name,
+        boolean isActive,
+        long categoriesCount,
+        Instant createdAt,
+        Instant updatedAt,
+        Instant deletedAt
+) {
+
+    public static GenreSummaryOutput from(final GenreSummary aSummary) {
+        return new GenreSummaryOutput(
+                aSummary.id().getValue(),
+                aSummary.name(),
+                aSummary.isActive(),
+                aSummary.categoriesCount(),
+                aSummary.createdAt(),
+                aSummary.updatedAt(),
+                aSummary.deletedAt()
+        );
+    }
+}
@@ -0,0 +1,6 @@
+package io.github.catalogo.admin.application.genre.retrieve.get;
+
+import io.github.catalogo.admin.application.UseCase;
+
+public abstract class GetGenreSummaryByIdUseCase extends UseCase<String, GenreSummaryOutput> {
+}
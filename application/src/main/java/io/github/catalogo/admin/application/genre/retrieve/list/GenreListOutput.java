@@ -7,6 +7,7 @@ import java.time.Instant;
 import java.util.List;
 
 public record GenreListOutput(
+        String id,
         String name,
         boolean isActive,
         List<String> categories,
@@ -16,6 +17,7 @@ public record GenreListOutput(
 
     public static GenreListOutput from(final Genre aGenre) {
         return new GenreListOutput(
+                aGenre.getId().getValue(),
                 aGenre.getName(),
                 aGenre.isActive(),
                 aGenre.getCategories().stream()
@@ -0,0 +1,23 @@
+package io.github.catalogo.admin.application.genre.retrieve.suggest;
+
+import io.github.catalogo.admin.domain.genre.GenreGateway;
+import io.github.catalogo.admin.domain.pagination.SuggestQuery;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultSuggestGenresUseCase extends SuggestGenresUseCase {
+
+    private final GenreGateway gateway;
+
+    public DefaultSuggestGenresUseCase(final GenreGateway aGateway) {
+        this.gateway = Objects.requireNonNull(aGateway);
+    }
+
+    @Override
+    public List<GenreSuggestionOutput> execute(final SuggestQuery aQuery) {
+        return this.gateway.suggest(aQuery).stream()
+                .map(GenreSuggestionOutput::from)
+                .toList();
+    }
+}
@@ -0,0 +1,10 @@
+package io.github.catalogo.admin.application.genre.retrieve.suggest;
+
+import io.github.catalogo.admin.domain.pagination.Suggestion;
+
+public record GenreSuggestionOutput(String id, String name) {
+
+    public static GenreSuggestionOutput from(final Suggestion aSuggestion) {
+        return new GenreSuggestionOutput(aSuggestion.id(), aSuggestion.name());
+    }
+}
@@ -13,7 +13,7 @@ import io.github.catalogo.admin.domain.validation.Error;
 import io.github.catalogo.admin.domain.validation.ValidationHandler;
 import io.github.catalogo.admin.domain.validation.handler.Notification;
 
-import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
@@ -42,8 +42,13 @@ public class DefaultUpdateGenreUseCase extends UpdateGenreUseCase {
         final var aGenre = this.genreGateway.findById(anId)
                 .orElseThrow(notFound(anId));
 
+        // links the genre already has were validated when they were added
+        final var addedCategories = categories.stream()
+                .filter(aCategoryId -> !aGenre.hasCategory(aCategoryId))
+                .toList();
+
         final var notification = Notification.create();
-        notification.append(validateCategories(categories));
+        notification.append(validateCategories(addedCategories));
         notification.validate(() -> aGenre.update(aName, isActive, categories));
 
         if (notification.hasError()) {
@@ -64,7 +69,7 @@ public class DefaultUpdateGenreUseCase extends UpdateGenreUseCase {
         final var retrievedIds = categoryGateway.existsByIds(ids);
 
         if (ids.size() != retrievedIds.size()) {
-            final var missingIds = new ArrayList<>(ids);
+            final var missingIds = new LinkedHashSet<>(ids);
             missingIds.removeAll(retrievedIds);
 
             final var missingIdsMessage = missingIds.stream()
@@ -84,6 +89,7 @@ public class DefaultUpdateGenreUseCase extends UpdateGenreUseCase {
     private List<CategoryId> toCategoryId(final List<String> categories) {
         return categories.stream()
                 .map(CategoryId::from)
+                .distinct()
                 .toList();
     }
 }
@@ -0,0 +1,108 @@
+package io.github.catalogo.admin.application.category.create;
+
+import io.github.catalogo.admin.application.UseCaseTest;
+import io.github.catalogo.admin.domain.category.CategoryGateway;
+import io.github.catalogo.admin.domain.utils.IdGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CreateCategoriesUseCaseTests extends UseCaseTest {
+
+    private DefaultCreateCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway gateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(gateway);
+    }
+
+    @BeforeEach
+    void setUp() {
+        this.useCase = new DefaultCreateCategoriesUseCase(gateway, IdGenerator.RANDOM);
+    }
+
+    @Test
+    void givenValidCommands_whenCallsCreateCategories_shouldCreateThemInASingleGatewayCall() {
+        final var aCommands = List.of(
+                CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true),
+                CreateCategoryCommand.with("Series", null, false)
+        );
+
+        when(gateway.createAll(Mockito.any()))
+                .thenAnswer(returnsFirstArg());
+
+        final var actualOutput = useCase.execute(aCommands).get();
+
+        assertEquals(2, actualOutput.created().size());
+        assertTrue(actualOutput.errors().isEmpty());
+
+        verify(gateway, times(1)).createAll(argThat(categories ->
+                categories.size() == 2
+                        && Objects.equals("Filmes", categories.get(0).getName())
+                        && Objects.equals("Series", categories.get(1).getName())
+                        && Objects.nonNull(categories.get(1).getDeletedAt())));
+        verify(gateway, never()).create(any());
+    }
+
+    @Test
+    void givenSomeInvalidCommands_whenCallsCreateCategories_shouldReportErrorsByPositionAndCreateTheRest() {
+        final var expectErrorMessage = "'name' should not be null";
+        final var aCommands = List.of(
+                CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true),
+                CreateCategoryCommand.with(null, "Sem nome", true),
+                CreateCategoryCommand.with("Series", null, true)
+        );
+
+        when(gateway.createAll(Mockito.any()))
+                .thenAnswer(returnsFirstArg());
+
+        final var actualOutput = useCase.execute(aCommands).get();
+
+        assertEquals(2, actualOutput.created().size());
+        assertEquals(1, actualOutput.errors().size());
+        assertEquals(expectErrorMessage, actualOutput.errors().get(1).firtsError().message());
+
+        verify(gateway).createAll(argThat(categories -> categories.size() == 2));
+    }
+
+    @Test
+    void givenOnlyInvalidCommands_whenCallsCreateCategories_shouldNotCallTheGateway() {
+        final var aCommands = List.of(CreateCategoryCommand.with(null, null, true));
+
+        final var actualOutput = useCase.execute(aCommands).get();
+
+        assertTrue(actualOutput.created().isEmpty());
+        assertEquals(1, actualOutput.errors().size());
+
+        verify(gateway, never()).createAll(any());
+    }
+
+    @Test
+    void givenValidCommands_whenGatewayThrowsRandomException_shouldReturnANotification() {
+        final var expectErrorMessage = "gateway error test";
+        final var aCommands = List.of(CreateCategoryCommand.with("Filmes", null, true));
+
+        when(gateway.createAll(Mockito.any()))
+                .thenThrow(new IllegalStateException(expectErrorMessage));
+
+        final var notification = useCase.execute(aCommands).getLeft();
+
+        assertEquals(1, notification.getErrors().size());
+        assertEquals(expectErrorMessage, notification.firtsError().message());
+    }
+}
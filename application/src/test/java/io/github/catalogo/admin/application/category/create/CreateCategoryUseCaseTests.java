@@ -2,15 +2,18 @@ package io.github.catalogo.admin.application.category.create;
 
 import io.github.catalogo.admin.application.UseCaseTest;
 import io.github.catalogo.admin.domain.category.CategoryGateway;
+import io.github.catalogo.admin.domain.category.CategoryId;
+import io.github.catalogo.admin.domain.utils.IdGenerator;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
@@ -20,7 +23,6 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 public class CreateCategoryUseCaseTests extends UseCaseTest {
 
-    @InjectMocks
     private DefaultCreateCategoryUseCase useCase;
 
     @Mock
@@ -31,6 +33,11 @@ public class CreateCategoryUseCaseTests extends UseCaseTest {
         return List.of(gateway);
     }
 
+    @BeforeEach
+    void setUp() {
+        this.useCase = new DefaultCreateCategoryUseCase(gateway, IdGenerator.RANDOM);
+    }
+
     @Test
     void givenAValidCommand_whenCallsCreateCategory_shouldReturnCategoryId() {
         final var expectedName = "Filmes";
@@ -57,6 +64,19 @@ public class CreateCategoryUseCaseTests extends UseCaseTest {
                         && Objects.isNull(aCategory.getDeletedAt())));
     }
 
+    @Test
+    void givenAnIdGenerator_whenCallsCreateCategory_shouldUseItForTheNewId() {
+        final var expectedId = UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8057");
+        final var aCommand = CreateCategoryCommand.with("Filmes", null, true);
+
+        when(gateway.create(Mockito.any()))
+                .thenAnswer(returnsFirstArg());
+
+        final var actualOutput = new DefaultCreateCategoryUseCase(gateway, () -> expectedId).execute(aCommand).get();
+
+        assertEquals(CategoryId.from(expectedId), actualOutput.id());
+    }
+
     @Test
     void givenAnInvalidName_whenCallsCreateCategory_shouldThrowAnDomainException() {
         final String expectedName = null;
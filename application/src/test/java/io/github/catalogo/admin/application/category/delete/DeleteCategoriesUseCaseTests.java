@@ -0,0 +1,68 @@
+package io.github.catalogo.admin.application.category.delete;
+
+import io.github.catalogo.admin.application.UseCaseTest;
+import io.github.catalogo.admin.domain.category.CategoryGateway;
+import io.github.catalogo.admin.domain.category.CategoryId;
+import io.github.catalogo.admin.domain.exceptions.DomainException;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class DeleteCategoriesUseCaseTests extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultDeleteCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway gateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(gateway);
+    }
+
+    @Test
+    void givenSomeIds_whenCallsDeleteCategories_shouldDeleteThemInASingleGatewayCall() {
+        final var expectedIds = List.of(CategoryId.unique(), CategoryId.unique());
+
+        doNothing().when(gateway).deleteAllById(eq(expectedIds));
+
+        assertDoesNotThrow(() -> useCase.execute(expectedIds.stream().map(CategoryId::getValue).toList()));
+
+        verify(gateway, times(1)).deleteAllById(eq(expectedIds));
+        verify(gateway, never()).deleteById(any());
+    }
+
+    @Test
+    void givenNoIds_whenCallsDeleteCategories_shouldNotCallTheGateway() {
+        assertDoesNotThrow(() -> useCase.execute(List.of()));
+
+        verify(gateway, never()).deleteAllById(any());
+    }
+
+    @Test
+    void givenMoreIdsThanTheLimit_whenCallsDeleteCategories_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'ids' must not have more than 1000 entries";
+        final var ids = Collections.nCopies(DeleteCategoriesUseCase.MAX_IDS + 1, CategoryId.unique().getValue());
+
+        final var actualException = assertThrows(DomainException.class, () -> useCase.execute(ids));
+
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        verify(gateway, never()).deleteAllById(any());
+    }
+
+    @Test
+    void givenSomeIds_whenGatewayThrowsAnRandomError_shouldReturnAnException() {
+        doThrow(new IllegalStateException("Gateway error")).when(gateway).deleteAllById(any());
+
+        assertThrows(IllegalStateException.class, () -> useCase.execute(List.of("123")));
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.catalogo.admin.application.category.retrieve.batch;
+
+import io.github.catalogo.admin.application.category.retrieve.get.CategoryOutput;
+import io.github.catalogo.admin.domain.category.Category;
+import io.github.catalogo.admin.domain.category.CategoryGateway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class GetCategoriesByIdsUseCaseTests {
+
+    @InjectMocks
+    private DefaultGetCategoriesByIdsUseCase useCase;
+
+    @Mock
+    private CategoryGateway gateway;
+
+    @Test
+    void givenRepeatedIds_whenCallsGetCategoriesByIds_thenShouldLoadEachIdOnceInOneCall() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, true);
+
+        when(gateway.findAllByIds(any()))
+                .thenReturn(List.of(filmes, series));
+
+        final var actualOutput = useCase.execute(List.of(
+                filmes.getId().getValue(),
+                series.getId().getValue(),
+                filmes.getId().getValue()
+        ));
+
+        assertEquals(List.of(CategoryOutput.from(filmes), CategoryOutput.from(series)), actualOutput);
+        verify(gateway, times(1)).findAllByIds(eq(List.of(filmes.getId(), series.getId())));
+    }
+
+    @Test
+    void givenNoIds_whenCallsGetCategoriesByIds_thenShouldNotCallTheGateway() {
+        final var actualOutput = useCase.execute(List.of());
+
+        assertTrue(actualOutput.isEmpty());
+        verify(gateway, never()).findAllByIds(any());
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.catalogo.admin.application.category.retrieve.suggest;
+
+import io.github.catalogo.admin.domain.category.CategoryGateway;
+import io.github.catalogo.admin.domain.category.CategoryId;
+import io.github.catalogo.admin.domain.exceptions.DomainException;
+import io.github.catalogo.admin.domain.pagination.SuggestQuery;
+import io.github.catalogo.admin.domain.pagination.Suggestion;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class SuggestCategoriesUseCaseTests {
+
+    @InjectMocks
+    private DefaultSuggestCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway gateway;
+
+    @Test
+    void givenAPrefix_whenCallsSuggestCategories_thenShouldReturnTheGatewaySuggestions() {
+        final var aQuery = new SuggestQuery("fil", 5);
+        final var expectedId = CategoryId.unique();
+
+        when(gateway.suggest(eq(aQuery)))
+                .thenReturn(List.of(new Suggestion(expectedId.getValue(), "Filmes")));
+
+        final var actualOutput = useCase.execute(aQuery);
+
+        assertEquals(List.of(new CategorySuggestionOutput(expectedId, "Filmes")), actualOutput);
+        verify(gateway).suggest(eq(aQuery));
+    }
+
+    @Test
+    void givenALimitAboveTheMaximum_whenBuildsSuggestQuery_thenShouldThrowDomainException() {
+        final var actualException = assertThrows(DomainException.class, () -> new SuggestQuery("fil", 11));
+
+        assertEquals("'limit' must be between 1 and 10", actualException.getErrors().get(0).message());
+    }
+}
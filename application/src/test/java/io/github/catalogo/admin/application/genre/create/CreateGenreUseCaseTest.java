@@ -4,9 +4,10 @@ import io.github.catalogo.admin.domain.category.CategoryGateway;
 import io.github.catalogo.admin.domain.category.CategoryId;
 import io.github.catalogo.admin.domain.exceptions.NotificationException;
 import io.github.catalogo.admin.domain.genre.GenreGateway;
+import io.github.catalogo.admin.domain.utils.IdGenerator;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -19,7 +20,6 @@ import static org.mockito.Mockito.*;
 
 public class CreateGenreUseCaseTest extends UseCaseTest {
 
-    @InjectMocks
     private DefaultCreateGenreUseCase useCase;
 
     @Mock
@@ -33,6 +33,11 @@ public class CreateGenreUseCaseTest extends UseCaseTest {
         return List.of(categoryGateway, genreGateway);
     }
 
+    @BeforeEach
+    void setUp() {
+        this.useCase = new DefaultCreateGenreUseCase(categoryGateway, genreGateway, IdGenerator.RANDOM);
+    }
+
     @Test
     public void givenAValidCommand_whenCallsCreateGenre_shouldReturnGenreId() {
         // given
@@ -103,6 +108,32 @@ public class CreateGenreUseCaseTest extends UseCaseTest {
         ));
     }
 
+    @Test
+    public void givenACommandWithRepeatedCategories_whenCallsCreateGenre_shouldValidateAndLinkThemOnce() {
+        // given
+        final var filmes = CategoryId.from("123");
+        final var series = CategoryId.from("456");
+        final var expectedCategories = List.of(filmes, series);
+
+        final var aCommand =
+                CreateGenreCommand.with("Ação", true, asString(List.of(filmes, series, filmes)));
+
+        when(categoryGateway.existsByIds(any()))
+                .thenReturn(expectedCategories);
+
+        when(genreGateway.create(any()))
+                .thenAnswer(returnsFirstArg());
+
+        // when
+        useCase.execute(aCommand);
+
+        // then
+        verify(categoryGateway, times(1)).existsByIds(expectedCategories);
+
+        verify(genreGateway, times(1)).create(argThat(aGenre ->
+                Objects.equals(expectedCategories, aGenre.getCategories())));
+    }
+
     @Test
     public void givenAValidCommandWithInactiveGenre_whenCallsCreateGenre_shouldReturnGenreId() {
         // given
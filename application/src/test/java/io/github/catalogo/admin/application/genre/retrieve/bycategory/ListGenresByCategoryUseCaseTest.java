@@ -0,0 +1,101 @@
+package io.github.catalogo.admin.application.genre.retrieve.bycategory;
+
+import io.github.catalogo.admin.application.UseCaseTest;
+import io.github.catalogo.admin.domain.category.CategoryGateway;
+import io.github.catalogo.admin.domain.category.CategoryId;
+import io.github.catalogo.admin.domain.exceptions.DomainException;
+import io.github.catalogo.admin.domain.exceptions.NotFoundException;
+import io.github.catalogo.admin.domain.genre.GenreGateway;
+import io.github.catalogo.admin.domain.genre.GenreId;
+import io.github.catalogo.admin.domain.pagination.Pagination;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ListGenresByCategoryUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultListGenresByCategoryUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway, genreGateway);
+    }
+
+    @Test
+    public void givenAnExistingCategory_whenCallsListGenresByCategory_shouldReturnTheGenreIds() {
+        // given
+        final var aCategoryId = CategoryId.from("123");
+        final var expectedIds = List.of(GenreId.from("456"), GenreId.from("789"));
+        final var expectedCursor = "bjA3OjEyMw";
+        final var expectedNext = "bjA3Ojc4OQ";
+        final var expectedPerPage = 2;
+
+        when(categoryGateway.existsByIds(any()))
+                .thenReturn(List.of(aCategoryId));
+
+        when(genreGateway.findIdsByCategory(any(), any(), anyInt()))
+                .thenReturn(new Pagination<>(0, expectedPerPage, Pagination.UNKNOWN_TOTAL, expectedIds, expectedNext, null));
+
+        // when
+        final var actualResult = useCase.execute(
+                ListGenresByCategoryCommand.with(aCategoryId.getValue(), expectedCursor, expectedPerPage));
+
+        // then
+        assertEquals(List.of("456", "789"), actualResult.items());
+        assertEquals(expectedNext, actualResult.next());
+        assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+
+        verify(genreGateway).findIdsByCategory(eq(aCategoryId), eq(expectedCursor), eq(expectedPerPage));
+    }
+
+    @Test
+    public void givenAnUnknownCategory_whenCallsListGenresByCategory_shouldReturnNotFound() {
+        // given
+        final var expectedErrorMessage = "Category with id 123 was not found";
+
+        when(categoryGateway.existsByIds(any()))
+                .thenReturn(List.of());
+
+        // when
+        final var actualException = assertThrows(NotFoundException.class,
+                () -> useCase.execute(ListGenresByCategoryCommand.with("123", null, 10)));
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+
+        verify(genreGateway, never()).findIdsByCategory(any(), any(), anyInt());
+    }
+
+    @Test
+    public void givenAPerPageAboveTheMaximum_whenCallsListGenresByCategory_shouldReturnDomainException() {
+        // given
+        final var expectedErrorMessage = "'perPage' must not be greater than 1000";
+
+        // when
+        final var actualException = assertThrows(DomainException.class,
+                () -> useCase.execute(ListGenresByCategoryCommand.with("123", null, 1_001)));
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+
+        verify(genreGateway, never()).findIdsByCategory(any(), any(), anyInt());
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.catalogo.admin.application.genre.retrieve.categories;
+
+import io.github.catalogo.admin.application.UseCaseTest;
+import io.github.catalogo.admin.domain.category.CategoryId;
+import io.github.catalogo.admin.domain.exceptions.DomainException;
+import io.github.catalogo.admin.domain.exceptions.NotFoundException;
+import io.github.catalogo.admin.domain.genre.GenreGateway;
+import io.github.catalogo.admin.domain.genre.GenreId;
+import io.github.catalogo.admin.domain.pagination.Pagination;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ListGenreCategoriesUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultListGenreCategoriesUseCase useCase;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(genreGateway);
+    }
+
+    @Test
+    public void givenAnExistingGenre_whenCallsListGenreCategories_shouldReturnTheCategoryIds() {
+        // given
+        final var aGenreId = GenreId.from("123");
+        final var expectedNext = "bjA3Ojc4OQ";
+
+        when(genreGateway.existsById(eq(aGenreId)))
+                .thenReturn(true);
+
+        when(genreGateway.findCategoryIds(any(), any(), anyInt()))
+                .thenReturn(new Pagination<>(0, 2, Pagination.UNKNOWN_TOTAL,
+                        List.of(CategoryId.from("456"), CategoryId.from("789")), expectedNext, null));
+
+        // when
+        final var actualResult = useCase.execute(ListGenreCategoriesCommand.with("123", null, 2));
+
+        // then
+        assertEquals(List.of("456", "789"), actualResult.items());
+        assertEquals(expectedNext, actualResult.next());
+
+        verify(genreGateway).findCategoryIds(eq(aGenreId), eq(null), eq(2));
+    }
+
+    @Test
+    public void givenAnUnknownGenre_whenCallsListGenreCategories_shouldReturnNotFound() {
+        // given
+        when(genreGateway.existsById(any()))
+                .thenReturn(false);
+
+        // when
+        final var actualException = assertThrows(NotFoundException.class,
+                () -> useCase.execute(ListGenreCategoriesCommand.with("123", null, 10)));
+
+        // then
+        assertEquals("Genre with id 123 was not found", actualException.getMessage());
+
+        verify(genreGateway, never()).findCategoryIds(any(), any(), anyInt());
+    }
+
+    @Test
+    public void givenAPerPageOfZero_whenCallsListGenreCategories_shouldReturnDomainException() {
+        // when
+        final var actualException = assertThrows(DomainException.class,
+                () -> useCase.execute(ListGenreCategoriesCommand.with("123", null, 0)));
+
+        // then
+        assertEquals("'perPage' must be greater than zero", actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenAPerPageAboveTheMaximum_whenCallsListGenreCategories_shouldReturnDomainException() {
+        // when
+        final var actualException = assertThrows(DomainException.class,
+                () -> useCase.execute(ListGenreCategoriesCommand.with("123", null, 1_001)));
+
+        // then
+        assertEquals("'perPage' must not be greater than 1000", actualException.getErrors().get(0).message());
+
+        verify(genreGateway, never()).findCategoryIds(any(), any(), anyInt());
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.catalogo.admin.application.genre.retrieve.expand;
+
+import io.github.catalogo.admin.application.UseCaseTest;
+import io.github.catalogo.admin.application.category.retrieve.batch.GetCategoriesByIdsUseCase;
+import io.github.catalogo.admin.application.category.retrieve.get.CategoryOutput;
+import io.github.catalogo.admin.domain.category.Category;
+import io.github.catalogo.admin.domain.exceptions.NotFoundException;
+import io.github.catalogo.admin.domain.genre.Genre;
+import io.github.catalogo.admin.domain.genre.GenreGateway;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class GetGenreWithCategoriesUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultGetGenreWithCategoriesUseCase useCase;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Mock
+    private GetCategoriesByIdsUseCase getCategoriesByIdsUseCase;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(genreGateway, getCategoriesByIdsUseCase);
+    }
+
+    @Test
+    public void givenAGenreWithCategories_whenCallsGetGenreWithCategories_shouldReturnThemInTheGenreOrder() {
+        // given
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, true);
+
+        final var aGenre = Genre.newGenre("Ação", true)
+                .addCategories(List.of(series.getId(), filmes.getId()));
+        final var expectedId = aGenre.getId();
+
+        when(genreGateway.findById(any()))
+                .thenReturn(Optional.of(aGenre));
+
+        when(getCategoriesByIdsUseCase.execute(any()))
+                .thenReturn(List.of(CategoryOutput.from(filmes), CategoryOutput.from(series)));
+
+        // when
+        final var actualOutput = useCase.execute(expectedId.getValue());
+
+        // then
+        assertEquals(expectedId.getValue(), actualOutput.genre().id());
+        assertEquals(List.of(CategoryOutput.from(series), CategoryOutput.from(filmes)), actualOutput.categories());
+
+        verify(genreGateway).findById(eq(expectedId));
+        verify(getCategoriesByIdsUseCase).execute(eq(List.of(series.getId().getValue(), filmes.getId().getValue())));
+    }
+
+    @Test
+    public void givenAnUnknownGenre_whenCallsGetGenreWithCategories_shouldReturnNotFound() {
+        // given
+        final var expectedErrorMessage = "Genre with id 123 was not found";
+
+        when(genreGateway.findById(any()))
+                .thenReturn(Optional.empty());
+
+        // when
+        final var actualException = assertThrows(NotFoundException.class, () -> useCase.execute("123"));
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+
+        verify(getCategoriesByIdsUseCase, never()).execute(any());
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.catalogo.admin.application.genre.retrieve.expand;
+
+import io.github.catalogo.admin.application.UseCaseTest;
+import io.github.catalogo.admin.application.category.retrieve.batch.GetCategoriesByIdsUseCase;
+import io.github.catalogo.admin.application.category.retrieve.get.CategoryOutput;
+import io.github.catalogo.admin.domain.category.Category;
+import io.github.catalogo.admin.domain.genre.Genre;
+import io.github.catalogo.admin.domain.genre.GenreGateway;
+import io.github.catalogo.admin.domain.pagination.Pagination;
+import io.github.catalogo.admin.domain.pagination.SearchQuery;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ListGenresWithCategoriesUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultListGenresWithCategoriesUseCase useCase;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Mock
+    private GetCategoriesByIdsUseCase getCategoriesByIdsUseCase;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(genreGateway, getCategoriesByIdsUseCase);
+    }
+
+    @Test
+    public void givenAPageOfGenres_whenCallsListGenresWithCategories_shouldLoadEveryCategoryInOneBatch() {
+        // given
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, true);
+
+        final var acao = Genre.newGenre("Ação", true)
+                .addCategories(List.of(filmes.getId(), series.getId()));
+        final var drama = Genre.newGenre("Drama", true)
+                .addCategory(filmes.getId());
+
+        final var aQuery = new SearchQuery(0, 10, "", "name", "asc");
+
+        when(genreGateway.findAll(any()))
+                .thenReturn(new Pagination<>(0, 10, 2, List.of(acao, drama)));
+
+        when(getCategoriesByIdsUseCase.execute(any()))
+                .thenReturn(List.of(CategoryOutput.from(filmes), CategoryOutput.from(series)));
+
+        // when
+        final var actualResult = useCase.execute(aQuery);
+
+        // then
+        assertEquals(2, actualResult.total());
+        assertEquals(acao.getId().getValue(), actualResult.items().get(0).genre().id());
+        assertEquals(
+                List.of(CategoryOutput.from(filmes), CategoryOutput.from(series)),
+                actualResult.items().get(0).categories()
+        );
+        assertEquals(List.of(CategoryOutput.from(filmes)), actualResult.items().get(1).categories());
+
+        verify(genreGateway).findAll(eq(aQuery));
+        verify(getCategoriesByIdsUseCase, times(1)).execute(eq(List.of(
+                filmes.getId().getValue(),
+                series.getId().getValue(),
+                filmes.getId().getValue()
+        )));
+    }
+
+    @Test
+    public void givenACategoryDeletedAfterTheGenreWasRead_whenCallsListGenresWithCategories_shouldLeaveItOut() {
+        // given
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, true);
+
+        final var acao = Genre.newGenre("Ação", true)
+                .addCategories(List.of(filmes.getId(), series.getId()));
+
+        when(genreGateway.findAll(any()))
+                .thenReturn(new Pagination<>(0, 10, 1, List.of(acao)));
+
+        when(getCategoriesByIdsUseCase.execute(any()))
+                .thenReturn(List.of(CategoryOutput.from(series)));
+
+        // when
+        final var actualResult = useCase.execute(new SearchQuery(0, 10, "", "name", "asc"));
+
+        // then
+        assertEquals(List.of(CategoryOutput.from(series)), actualResult.items().get(0).categories());
+        assertEquals(
+                List.of(filmes.getId().getValue(), series.getId().getValue()),
+                actualResult.items().get(0).genre().categories()
+        );
+    }
+}
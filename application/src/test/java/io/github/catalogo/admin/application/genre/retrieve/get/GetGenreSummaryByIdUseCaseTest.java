@@ -0,0 +1,72 @@
+package io.github.catalogo.admin.application.genre.retrieve.get;
+
+import io.github.catalogo.admin.application.UseCaseTest;
+import io.github.catalogo.admin.domain.exceptions.NotFoundException;
+import io.github.catalogo.admin.domain.genre.GenreGateway;
+import io.github.catalogo.admin.domain.genre.GenreId;
+import io.github.catalogo.admin.domain.genre.GenreSummary;
+import io.github.catalogo.admin.domain.utils.InstantUtils;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class GetGenreSummaryByIdUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultGetGenreSummaryByIdUseCase useCase;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(genreGateway);
+    }
+
+    @Test
+    public void givenAValidId_whenCallsGetGenreSummary_shouldReturnTheCategoriesCountOnly() {
+        // given
+        final var expectedId = GenreId.from("123");
+        final var now = InstantUtils.now();
+        final var expectedCount = 25_000L;
+
+        when(genreGateway.findSummaryById(eq(expectedId)))
+                .thenReturn(Optional.of(new GenreSummary(expectedId, "Ação", true, expectedCount, now, now, null)));
+
+        // when
+        final var actualOutput = useCase.execute(expectedId.getValue());
+
+        // then
+        assertEquals(expectedId.getValue(), actualOutput.id());
+        assertEquals("Ação", actualOutput.name());
+        assertEquals(expectedCount, actualOutput.categoriesCount());
+
+        verify(genreGateway, never()).findById(eq(expectedId));
+    }
+
+    @Test
+    public void givenAnUnknownId_whenCallsGetGenreSummary_shouldReturnNotFound() {
+        // given
+        final var expectedId = GenreId.from("123");
+
+        when(genreGateway.findSummaryById(eq(expectedId)))
+                .thenReturn(Optional.empty());
+
+        // when
+        final var actualException = assertThrows(NotFoundException.class,
+                () -> useCase.execute(expectedId.getValue()));
+
+        // then
+        assertEquals("Genre with id 123 was not found", actualException.getMessage());
+    }
+}
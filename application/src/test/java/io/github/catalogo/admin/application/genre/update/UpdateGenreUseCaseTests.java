@@ -15,6 +15,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
@@ -262,6 +263,84 @@ public class UpdateGenreUseCaseTests extends UseCaseTest {
         verify(genreGateway, never()).update(any());
     }
 
+    @Test
+    public void givenAGenreWithCategories_whenCallsUpdateGenreAddingOne_shouldValidateOnlyTheAddedCategory() {
+        // given
+        final var filmes = CategoryId.from("123");
+        final var series = CategoryId.from("456");
+        final var documentarios = CategoryId.from("789");
+
+        final var aGenre = Genre.newGenre("Ação", true);
+        aGenre.addCategories(List.of(filmes, series));
+
+        final var expectedId = aGenre.getId();
+        final var expectedCategories = List.of(filmes, series, documentarios);
+
+        final var aCommand = UpdateGenreCommand.with(
+                expectedId.getValue(),
+                "Ação",
+                true,
+                asString(expectedCategories)
+        );
+
+        when(genreGateway.findById(any()))
+                .thenReturn(Optional.of(Genre.with(aGenre)));
+
+        when(categoryGateway.existsByIds(any()))
+                .thenReturn(List.of(documentarios));
+
+        when(genreGateway.update(any()))
+                .thenAnswer(returnsFirstArg());
+
+        // when
+        useCase.execute(aCommand);
+
+        // then
+        verify(categoryGateway, times(1)).existsByIds(eq(List.of(documentarios)));
+
+        verify(genreGateway).update(argThat(aUpdatedGenre ->
+                Objects.equals(expectedCategories, aUpdatedGenre.getCategories())
+                        && Objects.equals(Set.of(documentarios), aUpdatedGenre.getAddedCategories())
+                        && aUpdatedGenre.getRemovedCategories().isEmpty()
+        ));
+    }
+
+    @Test
+    public void givenAGenreWithCategories_whenCallsUpdateGenreRemovingOne_shouldNotValidateCategories() {
+        // given
+        final var filmes = CategoryId.from("123");
+        final var series = CategoryId.from("456");
+
+        final var aGenre = Genre.newGenre("Ação", true);
+        aGenre.addCategories(List.of(filmes, series));
+
+        final var expectedId = aGenre.getId();
+
+        final var aCommand = UpdateGenreCommand.with(
+                expectedId.getValue(),
+                "Ação",
+                true,
+                asString(List.of(series))
+        );
+
+        when(genreGateway.findById(any()))
+                .thenReturn(Optional.of(Genre.with(aGenre)));
+
+        when(genreGateway.update(any()))
+                .thenAnswer(returnsFirstArg());
+
+        // when
+        useCase.execute(aCommand);
+
+        // then
+        verify(categoryGateway, never()).existsByIds(any());
+
+        verify(genreGateway).update(argThat(aUpdatedGenre ->
+                Objects.equals(Set.of(filmes), aUpdatedGenre.getRemovedCategories())
+                        && aUpdatedGenre.getAddedCategories().isEmpty()
+        ));
+    }
+
     private List<String> asString(final List<CategoryId> ids) {
         return ids.stream()
                 .map(CategoryId::getValue)
@@ -0,0 +1,91 @@
+package io.github.catalogo.admin.domain.genre;
+
+import io.github.catalogo.admin.domain.category.CategoryId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Category membership of a large genre. The arrayList* methods replay the list operations the
+ * aggregate and the genre use cases ran before they moved to sets, as the baseline.
+ * Run with ./gradlew :domain:jmh.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GenreBenchmark {
+
+    @Param({"10000"})
+    private int categories;
+
+    private List<CategoryId> ids;
+    private List<CategoryId> idsWithDuplicates;
+    private List<CategoryId> removedIds;
+    private List<CategoryId> foundIds;
+
+    @Setup
+    public void setUp() {
+        this.ids = new ArrayList<>(this.categories);
+        for (int i = 0; i < this.categories; i++) {
+            this.ids.add(CategoryId.unique());
+        }
+
+        this.idsWithDuplicates = new ArrayList<>(this.ids);
+        this.idsWithDuplicates.addAll(this.ids);
+
+        // every tenth category is removed from the genre, or missing from the database
+        this.removedIds = new ArrayList<>();
+        this.foundIds = new ArrayList<>();
+        for (int i = 0; i < this.categories; i++) {
+            if (i % 10 == 0) {
+                this.removedIds.add(this.ids.get(i));
+            } else {
+                this.foundIds.add(this.ids.get(i));
+            }
+        }
+    }
+
+    @Benchmark
+    public Genre addCategoriesWithDuplicates() {
+        return Genre.newGenre("Filmes", true).addCategories(this.idsWithDuplicates);
+    }
+
+    @Benchmark
+    public Genre removeCategories() {
+        final var aGenre = Genre.newGenre("Filmes", true).addCategories(this.ids);
+        this.removedIds.forEach(aGenre::removeCategory);
+        return aGenre;
+    }
+
+    @Benchmark
+    public List<CategoryId> arrayListRemoveCategories() {
+        final var aList = new ArrayList<>(this.ids);
+        this.removedIds.forEach(aList::remove);
+        return aList;
+    }
+
+    @Benchmark
+    public Set<CategoryId> missingIdsBySetDifference() {
+        final var missing = new LinkedHashSet<>(this.ids);
+        missing.removeAll(this.foundIds);
+        return missing;
+    }
+
+    @Benchmark
+    public List<CategoryId> arrayListMissingIdsByRemoveAll() {
+        final var missing = new ArrayList<>(this.ids);
+        missing.removeAll(this.foundIds);
+        return missing;
+    }
+}
@@ -0,0 +1,31 @@
+package io.github.catalogo.admin.domain.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Id generation under contention: UUID.randomUUID() shares one SecureRandom, the v7 generator
+ * shares one AtomicLong and draws its random tail from ThreadLocalRandom.
+ * Run with ./gradlew :domain:jmh.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class IdUtilsBenchmark {
+
+    @Benchmark
+    public UUID randomV4() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    public UUID timeOrderedV7() {
+        return IdUtils.uuidV7();
+    }
+}
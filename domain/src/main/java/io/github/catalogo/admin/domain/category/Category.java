@@ -1,6 +1,7 @@
 package io.github.catalogo.admin.domain.category;
 
 import io.github.catalogo.admin.domain.AggregatedRoot;
+import io.github.catalogo.admin.domain.utils.IdGenerator;
 import io.github.catalogo.admin.domain.validation.ValidationHandler;
 
 import java.time.Instant;
@@ -35,7 +36,14 @@ public class Category extends AggregatedRoot<CategoryId> implements Cloneable {
     public static Category newCategory(final String aName,
                                        final String aDescription,
                                        final boolean isActive) {
-        final var id = CategoryId.unique();
+        return newCategory(IdGenerator.RANDOM, aName, aDescription, isActive);
+    }
+
+    public static Category newCategory(final IdGenerator anIdGenerator,
+                                       final String aName,
+                                       final String aDescription,
+                                       final boolean isActive) {
+        final var id = CategoryId.unique(anIdGenerator);
         final var nowTimestamp = Instant.now();
         final var deletedAt = isActive ? null : nowTimestamp;
         return new Category(id, aName, aDescription, isActive, nowTimestamp, nowTimestamp, deletedAt);
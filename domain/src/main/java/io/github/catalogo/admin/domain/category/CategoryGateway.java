@@ -2,6 +2,8 @@ package io.github.catalogo.admin.domain.category;
 
 import io.github.catalogo.admin.domain.pagination.SearchQuery;
 import io.github.catalogo.admin.domain.pagination.Pagination;
+import io.github.catalogo.admin.domain.pagination.SuggestQuery;
+import io.github.catalogo.admin.domain.pagination.Suggestion;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,14 +12,22 @@ public interface CategoryGateway {
 
     Category create(Category aCategory);
 
+    List<Category> createAll(List<Category> aCategories);
+
     Category update(Category aCategory);
 
     Pagination<Category> findAll(SearchQuery aQuery);
 
+    List<Suggestion> suggest(SuggestQuery aQuery);
+
     Optional<Category> findById(CategoryId anId);
 
+    List<Category> findAllByIds(Iterable<CategoryId> ids);
+
     void deleteById(CategoryId anId);
 
+    void deleteAllById(Iterable<CategoryId> ids);
+
     List<CategoryId> existsByIds(Iterable<CategoryId> ids);
 
 }
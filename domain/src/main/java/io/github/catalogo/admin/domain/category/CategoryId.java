@@ -1,6 +1,7 @@
 package io.github.catalogo.admin.domain.category;
 
 import io.github.catalogo.admin.domain.Identifier;
+import io.github.catalogo.admin.domain.utils.IdGenerator;
 
 import java.util.Objects;
 import java.util.UUID;
@@ -14,7 +15,11 @@ public class CategoryId extends Identifier {
     }
 
     public static CategoryId unique() {
-        return CategoryId.from(UUID.randomUUID());
+        return unique(IdGenerator.RANDOM);
+    }
+
+    public static CategoryId unique(final IdGenerator anIdGenerator) {
+        return CategoryId.from(anIdGenerator.next());
     }
 
     public static CategoryId from(final String anId) {
@@ -3,25 +3,32 @@ package io.github.catalogo.admin.domain.genre;
 import io.github.catalogo.admin.domain.AggregatedRoot;
 import io.github.catalogo.admin.domain.category.CategoryId;
 import io.github.catalogo.admin.domain.exceptions.NotificationException;
+import io.github.catalogo.admin.domain.utils.IdGenerator;
 import io.github.catalogo.admin.domain.utils.InstantUtils;
 import io.github.catalogo.admin.domain.validation.ValidationHandler;
 import io.github.catalogo.admin.domain.validation.handler.Notification;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableSet;
 
 public class Genre extends AggregatedRoot<GenreId> {
 
     private String name;
     private boolean active;
-    private List<CategoryId> categories;
+    private Set<CategoryId> categories;
+    private List<CategoryId> categoriesView;
     private Instant createdAt;
     private Instant updatedAt;
     private Instant deletedAt;
+    private final Set<CategoryId> addedCategories = new LinkedHashSet<>();
+    private final Set<CategoryId> removedCategories = new LinkedHashSet<>();
 
     protected Genre(
             final GenreId anId,
@@ -34,7 +41,7 @@ public class Genre extends AggregatedRoot<GenreId> {
     ) {
         super(anId);
         this.name = aName;
-        this.categories = new ArrayList<>(categories != null ? categories : emptyList());
+        this.categories = new LinkedHashSet<>(categories != null ? categories : emptyList());
         this.active = isActive;
         this.createdAt = aCreatedAt;
         this.updatedAt = aUpdatedAt;
@@ -43,7 +50,11 @@ public class Genre extends AggregatedRoot<GenreId> {
     }
 
     public static Genre newGenre(final String aName, final boolean isActive) {
-        final var anId = GenreId.unique();
+        return newGenre(IdGenerator.RANDOM, aName, isActive);
+    }
+
+    public static Genre newGenre(final IdGenerator anIdGenerator, final String aName, final boolean isActive) {
+        final var anId = GenreId.unique(anIdGenerator);
         final var now = InstantUtils.now();
         final var deletedAt = isActive ? null : now;
         return new Genre(anId, aName, isActive, new ArrayList<>(), now, now, deletedAt);
@@ -66,7 +77,7 @@ public class Genre extends AggregatedRoot<GenreId> {
                 aGenre.id,
                 aGenre.name,
                 aGenre.active,
-                new ArrayList<>(aGenre.categories),
+                aGenre.getCategories(),
                 aGenre.createdAt,
                 aGenre.updatedAt,
                 aGenre.deletedAt
@@ -85,7 +96,10 @@ public class Genre extends AggregatedRoot<GenreId> {
             deactivate();
         }
         this.name = aName;
-        this.categories = new ArrayList<>(categories);
+        final var next = new LinkedHashSet<>(categories != null ? categories : emptyList());
+        trackCategoryChanges(next);
+        this.categories = next;
+        this.categoriesView = null;
         this.updatedAt = InstantUtils.now();
         selfValidate();
         return this;
@@ -115,8 +129,30 @@ public class Genre extends AggregatedRoot<GenreId> {
         return active;
     }
 
+    /**
+     * Distinct categories in the order they were linked. The list is built once and shared until the
+     * categories change again.
+     */
     public List<CategoryId> getCategories() {
-        return categories;
+        if (categoriesView == null) {
+            categoriesView = unmodifiableList(new ArrayList<>(categories));
+        }
+        return categoriesView;
+    }
+
+    public boolean hasCategory(final CategoryId anId) {
+        return categories.contains(anId);
+    }
+
+    /**
+     * Categories linked since this instance was loaded, so a gateway can write only the delta.
+     */
+    public Set<CategoryId> getAddedCategories() {
+        return unmodifiableSet(addedCategories);
+    }
+
+    public Set<CategoryId> getRemovedCategories() {
+        return unmodifiableSet(removedCategories);
     }
 
     public Instant getCreatedAt() {
@@ -144,7 +180,9 @@ public class Genre extends AggregatedRoot<GenreId> {
         if (aCategoryID == null) {
             return this;
         }
-        this.categories.add(aCategoryID);
+        if (this.categories.add(aCategoryID)) {
+            categoryAdded(aCategoryID);
+        }
         this.updatedAt = InstantUtils.now();
         return this;
     }
@@ -153,7 +191,9 @@ public class Genre extends AggregatedRoot<GenreId> {
         if (aCategoryID == null) {
             return this;
         }
-        this.categories.remove(aCategoryID);
+        if (this.categories.remove(aCategoryID)) {
+            categoryRemoved(aCategoryID);
+        }
         this.updatedAt = InstantUtils.now();
         return this;
     }
@@ -162,8 +202,35 @@ public class Genre extends AggregatedRoot<GenreId> {
         if (categories == null || categories.isEmpty()) {
             return this;
         }
-        this.categories.addAll(categories);
+        for (final var aCategoryID : categories) {
+            if (this.categories.add(aCategoryID)) {
+                categoryAdded(aCategoryID);
+            }
+        }
         this.updatedAt = InstantUtils.now();
         return this;
     }
+
+    private void trackCategoryChanges(final Set<CategoryId> next) {
+        this.categories.stream()
+                .filter(anId -> !next.contains(anId))
+                .forEach(this::categoryRemoved);
+        next.stream()
+                .filter(anId -> !this.categories.contains(anId))
+                .forEach(this::categoryAdded);
+    }
+
+    private void categoryAdded(final CategoryId anId) {
+        this.categoriesView = null;
+        if (!this.removedCategories.remove(anId)) {
+            this.addedCategories.add(anId);
+        }
+    }
+
+    private void categoryRemoved(final CategoryId anId) {
+        this.categoriesView = null;
+        if (!this.addedCategories.remove(anId)) {
+            this.removedCategories.add(anId);
+        }
+    }
 }
@@ -1,8 +1,12 @@
 package io.github.catalogo.admin.domain.genre;
 
+import io.github.catalogo.admin.domain.category.CategoryId;
 import io.github.catalogo.admin.domain.pagination.Pagination;
 import io.github.catalogo.admin.domain.pagination.SearchQuery;
+import io.github.catalogo.admin.domain.pagination.SuggestQuery;
+import io.github.catalogo.admin.domain.pagination.Suggestion;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface GenreGateway {
@@ -13,7 +17,17 @@ public interface GenreGateway {
 
     Optional<Genre> findById(GenreId anId);
 
+    Optional<GenreSummary> findSummaryById(GenreId anId);
+
+    boolean existsById(GenreId anId);
+
     Genre update(Genre aGenre);
 
     Pagination<Genre> findAll(SearchQuery aQuery);
+
+    List<Suggestion> suggest(SuggestQuery aQuery);
+
+    Pagination<GenreId> findIdsByCategory(CategoryId aCategoryId, String aCursor, int perPage);
+
+    Pagination<CategoryId> findCategoryIds(GenreId anId, String aCursor, int perPage);
 }
@@ -1,6 +1,7 @@
 package io.github.catalogo.admin.domain.genre;
 
 import io.github.catalogo.admin.domain.Identifier;
+import io.github.catalogo.admin.domain.utils.IdGenerator;
 import io.github.catalogo.admin.domain.category.CategoryId;
 
 import java.util.Objects;
@@ -16,7 +17,11 @@ public class GenreId extends Identifier {
     }
 
     public static GenreId unique() {
-        return GenreId.from(UUID.randomUUID());
+        return unique(IdGenerator.RANDOM);
+    }
+
+    public static GenreId unique(final IdGenerator anIdGenerator) {
+        return GenreId.from(anIdGenerator.next());
     }
 
     public static GenreId from(final String anId) {
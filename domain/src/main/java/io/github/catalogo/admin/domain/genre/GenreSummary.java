@@ -0,0 +1,17 @@
+package io.github.catalogo.admin.domain.genre;
+
+import java.time.Instant;
+
+/**
+ * A genre read without its category links, which are only counted.
+ */
+public record GenreSummary(
+        GenreId id,
+        String name,
+        boolean isActive,
+        long categoriesCount,
+        Instant createdAt,
+        Instant updatedAt,
+        Instant deletedAt
+) {
+}
@@ -0,0 +1,23 @@
+package io.github.catalogo.admin.domain.pagination;
+
+import io.github.catalogo.admin.domain.exceptions.DomainException;
+import io.github.catalogo.admin.domain.validation.Error;
+
+public enum CountMode {
+    EXACT,
+    NONE,
+    WINDOW,
+    CACHED;
+
+    public static CountMode of(final String aValue) {
+        if (aValue == null || aValue.isBlank()) {
+            return EXACT;
+        }
+        for (final var aMode : values()) {
+            if (aMode.name().equalsIgnoreCase(aValue.trim())) {
+                return aMode;
+            }
+        }
+        throw DomainException.with(new Error("Invalid count mode '%s'".formatted(aValue)));
+    }
+}
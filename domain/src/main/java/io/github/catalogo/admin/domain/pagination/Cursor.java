@@ -0,0 +1,67 @@
+package io.github.catalogo.admin.domain.pagination;
+
+import io.github.catalogo.admin.domain.exceptions.DomainException;
+import io.github.catalogo.admin.domain.validation.Error;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+public record Cursor(
+        String key,
+        String id,
+        boolean before
+) {
+
+    private static final char AFTER = 'n';
+    private static final char BEFORE = 'p';
+    private static final char NULL_KEY = '0';
+    private static final char PRESENT_KEY = '1';
+    private static final char SEPARATOR = ':';
+
+    public Cursor {
+        Objects.requireNonNull(id, "'id' should not be null");
+    }
+
+    public static Cursor after(final String aKey, final String anId) {
+        return new Cursor(aKey, anId, false);
+    }
+
+    public static Cursor before(final String aKey, final String anId) {
+        return new Cursor(aKey, anId, true);
+    }
+
+    public static Cursor decode(final String aToken) {
+        try {
+            final var raw = new String(Base64.getUrlDecoder().decode(aToken), StandardCharsets.UTF_8);
+            final var separator = raw.indexOf(SEPARATOR);
+            final var idLength = Integer.parseInt(raw.substring(2, separator));
+            final var anId = raw.substring(separator + 1, separator + 1 + idLength);
+            final var aKey = raw.charAt(1) == PRESENT_KEY ? raw.substring(separator + 1 + idLength) : null;
+            return switch (raw.charAt(0)) {
+                case AFTER -> after(aKey, anId);
+                case BEFORE -> before(aKey, anId);
+                default -> throw invalid(aToken);
+            };
+        } catch (final IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw invalid(aToken);
+        }
+    }
+
+    public String encode() {
+        final var raw = new StringBuilder()
+                .append(before ? BEFORE : AFTER)
+                .append(key == null ? NULL_KEY : PRESENT_KEY)
+                .append(id.length())
+                .append(SEPARATOR)
+                .append(id)
+                .append(key == null ? "" : key)
+                .toString();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static DomainException invalid(final String aToken) {
+        return DomainException.with(new Error("Invalid cursor '%s'".formatted(aToken)));
+    }
+}
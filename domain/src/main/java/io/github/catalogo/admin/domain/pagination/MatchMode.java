@@ -0,0 +1,21 @@
+package io.github.catalogo.admin.domain.pagination;
+
+import io.github.catalogo.admin.domain.exceptions.DomainException;
+import io.github.catalogo.admin.domain.validation.Error;
+
+public enum MatchMode {
+    CONTAINS,
+    PREFIX;
+
+    public static MatchMode of(final String aValue) {
+        if (aValue == null || aValue.isBlank()) {
+            return CONTAINS;
+        }
+        for (final var aMode : values()) {
+            if (aMode.name().equalsIgnoreCase(aValue.trim())) {
+                return aMode;
+            }
+        }
+        throw DomainException.with(new Error("Invalid match mode '%s'".formatted(aValue)));
+    }
+}
@@ -1,10 +1,52 @@
 package io.github.catalogo.admin.domain.pagination;
 
+import java.util.Optional;
+
 public record SearchQuery(
         int page,
         int perPage,
         String terms,
         String sort,
-        String direction
+        String direction,
+        String cursor,
+        CountMode count,
+        MatchMode match
 ) {
+
+    public SearchQuery {
+        if (count == null) {
+            count = CountMode.EXACT;
+        }
+        if (match == null) {
+            match = MatchMode.CONTAINS;
+        }
+    }
+
+    public SearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction
+    ) {
+        this(page, perPage, terms, sort, direction, null, CountMode.EXACT, MatchMode.CONTAINS);
+    }
+
+    public SearchQuery withCursor(final String aCursor) {
+        return new SearchQuery(page, perPage, terms, sort, direction, aCursor, count, match);
+    }
+
+    public SearchQuery withCount(final CountMode aCount) {
+        return new SearchQuery(page, perPage, terms, sort, direction, cursor, aCount, match);
+    }
+
+    public SearchQuery withMatch(final MatchMode aMatch) {
+        return new SearchQuery(page, perPage, terms, sort, direction, cursor, count, aMatch);
+    }
+
+    public Optional<Cursor> decodedCursor() {
+        return Optional.ofNullable(cursor)
+                .filter(token -> !token.isBlank())
+                .map(Cursor::decode);
+    }
 }
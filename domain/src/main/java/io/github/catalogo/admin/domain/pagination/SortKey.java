@@ -0,0 +1,40 @@
+package io.github.catalogo.admin.domain.pagination;
+
+import io.github.catalogo.admin.domain.exceptions.DomainException;
+import io.github.catalogo.admin.domain.validation.Error;
+
+import java.util.Arrays;
+
+/**
+ * Public sort keys accepted by category and genre listings. Each one is backed by an index whose
+ * trailing column is id, the tie-breaker every listing appends.
+ */
+public enum SortKey {
+
+    ID("id", "id"),
+    NAME("name", "name"),
+    CREATED_AT("createdAt", "created_at");
+
+    private final String property;
+    private final String column;
+
+    SortKey(final String aProperty, final String aColumn) {
+        this.property = aProperty;
+        this.column = aColumn;
+    }
+
+    public static SortKey of(final String aSort) {
+        return Arrays.stream(values())
+                .filter(it -> it.property.equals(aSort))
+                .findFirst()
+                .orElseThrow(() -> DomainException.with(new Error("Invalid sort '%s'".formatted(aSort))));
+    }
+
+    public String property() {
+        return property;
+    }
+
+    public String column() {
+        return column;
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.catalogo.admin.domain.pagination;
+
+import io.github.catalogo.admin.domain.exceptions.DomainException;
+import io.github.catalogo.admin.domain.validation.Error;
+
+public record SuggestQuery(String prefix, int limit) {
+
+    public static final int MAX_LIMIT = 10;
+
+    public SuggestQuery {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw DomainException.with(new Error("'limit' must be between 1 and %d".formatted(MAX_LIMIT)));
+        }
+        prefix = prefix == null ? "" : prefix;
+    }
+}
@@ -0,0 +1,4 @@
+package io.github.catalogo.admin.domain.pagination;
+
+public record Suggestion(String id, String name) {
+}
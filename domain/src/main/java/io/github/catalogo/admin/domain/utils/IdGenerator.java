@@ -0,0 +1,26 @@
+package io.github.catalogo.admin.domain.utils;
+
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Mints the UUIDs behind new aggregate ids; which version is a deployment choice, so callers get it
+ * injected rather than reading it from shared state.
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+    IdGenerator RANDOM = UUID::randomUUID;
+
+    IdGenerator TIME_ORDERED = IdUtils::uuidV7;
+
+    UUID next();
+
+    static IdGenerator of(final String aVersion) {
+        return switch (aVersion.trim().toLowerCase(Locale.ROOT)) {
+            case "v4" -> RANDOM;
+            case "v7" -> TIME_ORDERED;
+            default -> throw new IllegalArgumentException("Unsupported UUID version: " + aVersion);
+        };
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.catalogo.admin.domain.utils;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class IdUtils {
+
+    private static final int COUNTER_BITS = 12;
+
+    // last issued (unix millis << COUNTER_BITS | counter), only ever moves forward
+    private static final AtomicLong LAST_V7_STATE = new AtomicLong();
+
+    private IdUtils() {}
+
+    /*
+     * RFC 9562 UUIDv7: 48 bits of unix millis, then the 12 bits of rand_a used as a counter so ids
+     * minted within the same millisecond keep increasing. An exhausted counter or a clock moving
+     * backwards borrows from the next millisecond instead of blocking.
+     */
+    public static UUID uuidV7() {
+        final long state = nextV7State();
+
+        final long mostSigBits = (state >>> COUNTER_BITS) << 16
+                | 0x7000L
+                | (state & ((1L << COUNTER_BITS) - 1));
+        final long leastSigBits = ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL
+                | 0x8000000000000000L;
+
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private static long nextV7State() {
+        while (true) {
+            final long last = LAST_V7_STATE.get();
+            final long next = Math.max(System.currentTimeMillis() << COUNTER_BITS, last + 1);
+            if (LAST_V7_STATE.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+}
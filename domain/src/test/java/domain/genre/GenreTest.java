@@ -8,6 +8,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 public class GenreTest {
 
@@ -363,4 +364,83 @@ public class GenreTest {
         Assertions.assertEquals(actualUpdatedAt, actualGenre.getUpdatedAt());
         Assertions.assertNull(actualGenre.getDeletedAt());
     }
+
+    @Test
+    public void givenALoadedGenreWithCategories_whenCallUpdate_shouldTrackOnlyTheChangedLinks() {
+        final var filmes = CategoryId.from("123");
+        final var series = CategoryId.from("456");
+        final var documentarios = CategoryId.from("789");
+
+        final var aGenre = Genre.newGenre("acao", true);
+        aGenre.addCategories(List.of(filmes, series));
+        final var actualGenre = Genre.with(aGenre);
+
+        Assertions.assertTrue(actualGenre.getAddedCategories().isEmpty());
+        Assertions.assertTrue(actualGenre.getRemovedCategories().isEmpty());
+
+        actualGenre.update("Ação", true, List.of(series, documentarios));
+
+        Assertions.assertEquals(Set.of(documentarios), actualGenre.getAddedCategories());
+        Assertions.assertEquals(Set.of(filmes), actualGenre.getRemovedCategories());
+
+        actualGenre.removeCategory(documentarios);
+        actualGenre.addCategory(filmes);
+
+        Assertions.assertTrue(actualGenre.getAddedCategories().isEmpty());
+        Assertions.assertTrue(actualGenre.getRemovedCategories().isEmpty());
+    }
+
+    @Test
+    public void givenALoadedGenreWithCategories_whenCallUpdateWithNullCategories_shouldUnlinkThemAll() {
+        final var filmes = CategoryId.from("123");
+        final var series = CategoryId.from("456");
+
+        final var aGenre = Genre.newGenre("acao", true);
+        aGenre.addCategories(List.of(filmes, series));
+        final var actualGenre = Genre.with(aGenre);
+
+        actualGenre.update("Ação", true, null);
+
+        Assertions.assertTrue(actualGenre.getCategories().isEmpty());
+        Assertions.assertTrue(actualGenre.getAddedCategories().isEmpty());
+        Assertions.assertEquals(Set.of(filmes, series), actualGenre.getRemovedCategories());
+    }
+
+    @Test
+    public void givenAGenreWithCategories_whenCallGetCategoriesTwice_shouldShareTheListUntilTheCategoriesChange() {
+        final var seriesID = CategoryId.from("123");
+        final var moviesID = CategoryId.from("456");
+
+        final var actualGenre = Genre.newGenre("Ação", true);
+        actualGenre.addCategories(List.of(seriesID, moviesID));
+
+        final var actualCategories = actualGenre.getCategories();
+
+        Assertions.assertSame(actualCategories, actualGenre.getCategories());
+        Assertions.assertTrue(actualGenre.hasCategory(moviesID));
+
+        actualGenre.removeCategory(moviesID);
+
+        Assertions.assertEquals(List.of(seriesID, moviesID), actualCategories);
+        Assertions.assertEquals(List.of(seriesID), actualGenre.getCategories());
+        Assertions.assertFalse(actualGenre.hasCategory(moviesID));
+    }
+
+    @Test
+    public void givenRepeatedCategories_whenCallAddCategories_shouldKeepThemOnceInInsertionOrder() {
+        final var seriesID = CategoryId.from("123");
+        final var moviesID = CategoryId.from("456");
+
+        final var actualGenre = Genre.newGenre("Ação", true);
+        actualGenre.addCategories(List.of(moviesID, seriesID, moviesID));
+        actualGenre.addCategory(seriesID);
+
+        Assertions.assertEquals(List.of(moviesID, seriesID), actualGenre.getCategories());
+
+        actualGenre.removeCategory(moviesID);
+
+        Assertions.assertEquals(List.of(seriesID), actualGenre.getCategories());
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                () -> actualGenre.getCategories().add(moviesID));
+    }
 }
@@ -0,0 +1,51 @@
+package domain.pagination;
+
+import io.github.catalogo.admin.domain.exceptions.DomainException;
+import io.github.catalogo.admin.domain.pagination.Cursor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CursorTest {
+
+    @Test
+    public void givenAnAfterCursor_whenCallsEncodeAndDecode_shouldReturnTheSameCursor() {
+        final var expectedKey = "Ação: filmes";
+        final var expectedId = "0b7d1a4e-8b4a-4c55-9f0e-2f5a1f0a2f10";
+
+        final var aToken = Cursor.after(expectedKey, expectedId).encode();
+        final var actualCursor = Cursor.decode(aToken);
+
+        Assertions.assertEquals(expectedKey, actualCursor.key());
+        Assertions.assertEquals(expectedId, actualCursor.id());
+        Assertions.assertFalse(actualCursor.before());
+    }
+
+    @Test
+    public void givenABeforeCursorWithNullKey_whenCallsEncodeAndDecode_shouldKeepTheNullKey() {
+        final var expectedId = "123";
+
+        final var aToken = Cursor.before(null, expectedId).encode();
+        final var actualCursor = Cursor.decode(aToken);
+
+        Assertions.assertNull(actualCursor.key());
+        Assertions.assertEquals(expectedId, actualCursor.id());
+        Assertions.assertTrue(actualCursor.before());
+    }
+
+    @Test
+    public void givenAnEmptyKey_whenCallsEncodeAndDecode_shouldNotConfuseItWithNull() {
+        final var actualCursor = Cursor.decode(Cursor.after("", "123").encode());
+
+        Assertions.assertEquals("", actualCursor.key());
+    }
+
+    @Test
+    public void givenAnInvalidToken_whenCallsDecode_shouldThrowDomainException() {
+        final var expectedErrorMessage = "Invalid cursor 'not-a-cursor'";
+
+        final var actualException =
+                Assertions.assertThrows(DomainException.class, () -> Cursor.decode("not-a-cursor"));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+}
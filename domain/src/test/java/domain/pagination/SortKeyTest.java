@@ -0,0 +1,25 @@
+package domain.pagination;
+
+import io.github.catalogo.admin.domain.exceptions.DomainException;
+import io.github.catalogo.admin.domain.pagination.SortKey;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SortKeyTest {
+
+    @Test
+    public void givenAPublicSortProperty_whenCallsOf_shouldReturnTheKeyAndItsColumn() {
+        final var actualKey = SortKey.of("createdAt");
+
+        Assertions.assertEquals(SortKey.CREATED_AT, actualKey);
+        Assertions.assertEquals("createdAt", actualKey.property());
+        Assertions.assertEquals("created_at", actualKey.column());
+    }
+
+    @Test
+    public void givenASortWithoutAnIndex_whenCallsOf_shouldThrowDomainException() {
+        final var actualException = Assertions.assertThrows(DomainException.class, () -> SortKey.of("description"));
+
+        Assertions.assertEquals("Invalid sort 'description'", actualException.getErrors().get(0).message());
+    }
+}
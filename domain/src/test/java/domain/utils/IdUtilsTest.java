@@ -0,0 +1,71 @@
+package domain.utils;
+
+import io.github.catalogo.admin.domain.category.CategoryId;
+import io.github.catalogo.admin.domain.utils.IdGenerator;
+import io.github.catalogo.admin.domain.utils.IdUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+public class IdUtilsTest {
+
+    @Test
+    public void givenManyCalls_whenCallsUuidV7_shouldReturnVersion7IdsInStrictlyIncreasingOrder() {
+        var previous = IdUtils.uuidV7();
+
+        for (int i = 0; i < 50_000; i++) {
+            final var actual = IdUtils.uuidV7();
+
+            Assertions.assertEquals(7, actual.version());
+            Assertions.assertEquals(2, actual.variant());
+            Assertions.assertTrue(actual.toString().compareTo(previous.toString()) > 0);
+            previous = actual;
+        }
+    }
+
+    @Test
+    public void givenTheCurrentTime_whenCallsUuidV7_shouldPrefixTheIdWithTheUnixMillis() {
+        final var before = System.currentTimeMillis();
+        final var actual = IdUtils.uuidV7();
+
+        final var actualMillis = actual.getMostSignificantBits() >>> 16;
+
+        Assertions.assertTrue(actualMillis >= before);
+    }
+
+    @Test
+    public void givenConcurrentCallers_whenCallsUuidV7_shouldNeverRepeatAnId() {
+        final Set<UUID> ids = ConcurrentHashMap.newKeySet();
+
+        IntStream.range(0, 100_000).parallel().forEach(i -> ids.add(IdUtils.uuidV7()));
+
+        Assertions.assertEquals(100_000, ids.size());
+    }
+
+    @Test
+    public void givenVersion7Selected_whenCallsCategoryIdUnique_shouldUseATimeOrderedId() {
+        final var anIdGenerator = IdGenerator.of(" V7 ");
+
+        final var actualId = UUID.fromString(CategoryId.unique(anIdGenerator).getValue());
+
+        Assertions.assertEquals(7, actualId.version());
+    }
+
+    @Test
+    public void givenTheDefaultVersion_whenCallsCategoryIdUnique_shouldUseARandomId() {
+        final var actualId = UUID.fromString(CategoryId.unique().getValue());
+
+        Assertions.assertEquals(4, actualId.version());
+    }
+
+    @Test
+    public void givenAnUnknownVersion_whenCallsIdGeneratorOf_shouldThrowIllegalArgumentException() {
+        final var actualException = Assertions.assertThrows(IllegalArgumentException.class, () -> IdGenerator.of("v1"));
+
+        Assertions.assertEquals("Unsupported UUID version: v1", actualException.getMessage());
+    }
+}
@@ -0,0 +1,54 @@
+package db.migration;
+
+import io.github.catalogo.admin.infrastructure.utils.SearchTermUtils;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Rewrites name_search with {@link SearchTermUtils#normalize}, the value the entities write.
+ * V6 could only approximate it in SQL, with a fixed list of accented letters and without
+ * collapsing inner whitespace, so rows it backfilled could miss prefix searches.
+ */
+public class V8__Backfill_Name_Search extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Override
+    public void migrate(final Context context) throws Exception {
+        final var aConnection = context.getConnection();
+        backfill(aConnection, "category");
+        backfill(aConnection, "genres");
+    }
+
+    // walks the table in id order a page at a time, so the updates never run against an open cursor
+    private static void backfill(final Connection aConnection, final String aTable) throws SQLException {
+        final var aSelect = "SELECT id, name, name_search FROM %s WHERE id > ? ORDER BY id LIMIT %d".formatted(aTable, BATCH_SIZE);
+        final var anUpdate = "UPDATE %s SET name_search = ? WHERE id = ?".formatted(aTable);
+
+        try (final var select = aConnection.prepareStatement(aSelect);
+             final var update = aConnection.prepareStatement(anUpdate)) {
+            var lastId = new byte[0];
+            var rows = BATCH_SIZE;
+            while (rows == BATCH_SIZE) {
+                rows = 0;
+                select.setBytes(1, lastId);
+                try (final var aPage = select.executeQuery()) {
+                    while (aPage.next()) {
+                        rows++;
+                        lastId = aPage.getBytes("id");
+                        final var aNameSearch = SearchTermUtils.normalize(aPage.getString("name"));
+                        if (!aNameSearch.equals(aPage.getString("name_search"))) {
+                            update.setString(1, aNameSearch);
+                            update.setBytes(2, lastId);
+                            update.addBatch();
+                        }
+                    }
+                }
+                update.executeBatch();
+            }
+        }
+    }
+}
@@ -3,6 +3,7 @@ package io.github.catalogo.admin.infrastructure.api;
 import io.github.catalogo.admin.domain.pagination.Pagination;
 import io.github.catalogo.admin.infrastructure.category.models.CategoryListResponse;
 import io.github.catalogo.admin.infrastructure.category.models.CategoryResponse;
+import io.github.catalogo.admin.infrastructure.category.models.CategorySuggestionResponse;
 import io.github.catalogo.admin.infrastructure.category.models.CreateCategoryRequest;
 import io.github.catalogo.admin.infrastructure.category.models.UpdateCategoryRequest;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,7 +14,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
+import java.util.List;
 
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
@@ -31,20 +34,59 @@ public interface CategoryAPI {
     })
     ResponseEntity<?> createCategory(@RequestBody @Valid CreateCategoryRequest input);
 
+    @PostMapping(value = "bulk",
+                 consumes = APPLICATION_JSON_VALUE,
+                 produces = APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Create many categories at once",
+            description = "errors are keyed by the position of the rejected item in the request"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Every category was created"),
+            @ApiResponse(responseCode = "200", description = "Some categories were created and some were rejected"),
+            @ApiResponse(responseCode = "422", description = "No category could be created"),
+            @ApiResponse(responseCode = "500", description = "An unexpected server error was throw")
+    })
+    ResponseEntity<?> createCategories(@RequestBody @Valid List<CreateCategoryRequest> input);
+
     @GetMapping(produces = APPLICATION_JSON_VALUE)
-    @Operation(summary = "List all categories pagineted")
+    @Operation(
+            summary = "List all categories pagineted",
+            description = "sort: name (default), createdAt or id; "
+                    + "count: exact (default), none (total is -1, use has_next), window or cached; "
+                    + "match: contains (default) or prefix, both ignoring case and accents"
+    )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "304", description = "The page did not change since the given ETag"),
             @ApiResponse(responseCode = "422", description = "An invalid parameter was received"),
             @ApiResponse(responseCode = "500", description = "An unexpected server error was throw")
     })
-    Pagination<CategoryListResponse> listCategories(
+    ResponseEntity<Pagination<CategoryListResponse>> listCategories(
             @RequestParam(name = "search", required = false, defaultValue = "") final String search,
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
-            @RequestParam(name = "sort", required = false, defaultValue = "nema") final String sort,
-            @RequestParam(name = "direction", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
+            @RequestParam(name = "direction", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "count", required = false, defaultValue = "exact") final String count,
+            @RequestParam(name = "match", required = false, defaultValue = "contains") final String match,
+            @RequestHeader(name = IF_NONE_MATCH, required = false) final String ifNoneMatch
+    );
 
+    @GetMapping(value = "suggest", produces = APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Suggest categories whose name starts with the prefix",
+            description = "served from memory, ignoring case and accents, in name order"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "422", description = "An invalid limit was received"),
+            @ApiResponse(responseCode = "500", description = "An unexpected server error was throw")
+    })
+    List<CategorySuggestionResponse> suggestCategories(
+            @RequestParam(name = "prefix", required = false, defaultValue = "") final String prefix,
+            @RequestParam(name = "limit", required = false, defaultValue = "10") final int limit
     );
 
     @GetMapping(value = "{id}",
@@ -53,10 +95,29 @@ public interface CategoryAPI {
     @Operation(summary = "Get a Category by identifier")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "304", description = "The Category did not change since the given ETag"),
             @ApiResponse(responseCode = "404", description = "A Category was not found"),
             @ApiResponse(responseCode = "500", description = "An unexpected server error was throw")
     })
-    CategoryResponse getById(@PathVariable(name = "id") String id);
+    ResponseEntity<CategoryResponse> getById(@PathVariable(name = "id") String id,
+                                             @RequestHeader(name = IF_NONE_MATCH, required = false) String ifNoneMatch);
+
+    @GetMapping(value = "{id}/genres", produces = APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "List the identifiers of the genres linked to a category",
+            description = "in identifier order, paged by the next cursor only, perPage 1 to 1000; total is -1"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "404", description = "A Category was not found"),
+            @ApiResponse(responseCode = "422", description = "An invalid parameter was received"),
+            @ApiResponse(responseCode = "500", description = "An unexpected server error was throw")
+    })
+    Pagination<String> listGenres(
+            @PathVariable(name = "id") String id,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "perPage", required = false, defaultValue = "100") final int perPage
+    );
 
     @PutMapping(value = "{id}",
             consumes = APPLICATION_JSON_VALUE,
@@ -79,4 +140,14 @@ public interface CategoryAPI {
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
     void deleteById(@PathVariable(name = "id") String id);
+
+    @DeleteMapping(value = "bulk", consumes = APPLICATION_JSON_VALUE)
+    @ResponseStatus(NO_CONTENT)
+    @Operation(summary = "Delete up to 1000 categories by their identifiers, 512 per statement")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Categories deleted successfully"),
+            @ApiResponse(responseCode = "422", description = "More than 1000 identifiers were sent"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    void deleteCategories(@RequestBody List<String> ids);
 }
@@ -0,0 +1,98 @@
+package io.github.catalogo.admin.infrastructure.api;
+
+import io.github.catalogo.admin.domain.pagination.Pagination;
+import io.github.catalogo.admin.infrastructure.genre.models.GenreListResponse;
+import io.github.catalogo.admin.infrastructure.genre.models.GenreResponse;
+import io.github.catalogo.admin.infrastructure.genre.models.GenreSuggestionResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+@RequestMapping("genres")
+@Tag(name = "Genre")
+public interface GenreAPI {
+
+    @GetMapping(produces = APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "List all genres paginated",
+            description = "match: contains (default) or prefix, both ignoring case and accents; "
+                    + "count: exact (default), none (total is -1, use has_next) or cached, on cursor pages; "
+                    + "expand=categories embeds the categories of the page, loaded in one batch"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "422", description = "An invalid parameter was received"),
+            @ApiResponse(responseCode = "500", description = "An unexpected server error was throw")
+    })
+    Pagination<GenreListResponse> listGenres(
+            @RequestParam(name = "search", required = false, defaultValue = "") final String search,
+            @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
+            @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
+            @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
+            @RequestParam(name = "direction", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "count", required = false, defaultValue = "exact") final String count,
+            @RequestParam(name = "match", required = false, defaultValue = "contains") final String match,
+            @RequestParam(name = "expand", required = false, defaultValue = "") final String expand
+    );
+
+    @GetMapping(value = "suggest", produces = APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Suggest genres whose name starts with the prefix",
+            description = "served from memory, ignoring case and accents, in name order"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "422", description = "An invalid limit was received"),
+            @ApiResponse(responseCode = "500", description = "An unexpected server error was throw")
+    })
+    List<GenreSuggestionResponse> suggestGenres(
+            @RequestParam(name = "prefix", required = false, defaultValue = "") final String prefix,
+            @RequestParam(name = "limit", required = false, defaultValue = "10") final int limit
+    );
+
+    @GetMapping(value = "{id}", produces = APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Get a genre by identifier",
+            description = "categories: count (default) returns only categories_count, "
+                    + "ids also embeds every linked category id; page the links with {id}/categories. "
+                    + "expand=categories embeds the linked categories and implies categories=ids"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Genre retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Genre was not found"),
+            @ApiResponse(responseCode = "422", description = "An invalid parameter was received"),
+            @ApiResponse(responseCode = "500", description = "An unexpected server error was throw")
+    })
+    GenreResponse getById(
+            @PathVariable(name = "id") String id,
+            @RequestParam(name = "categories", required = false, defaultValue = "count") final String categories,
+            @RequestParam(name = "expand", required = false, defaultValue = "") final String expand
+    );
+
+    @GetMapping(value = "{id}/categories", produces = APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "List the identifiers of the categories linked to a genre",
+            description = "in identifier order, paged by the next cursor only, perPage 1 to 1000; total is -1"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "404", description = "Genre was not found"),
+            @ApiResponse(responseCode = "422", description = "An invalid parameter was received"),
+            @ApiResponse(responseCode = "500", description = "An unexpected server error was throw")
+    })
+    Pagination<String> listCategories(
+            @PathVariable(name = "id") String id,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "perPage", required = false, defaultValue = "100") final int perPage
+    );
+}
@@ -1,24 +1,38 @@
 package io.github.catalogo.admin.infrastructure.api.controllers;
 
+import io.github.catalogo.admin.application.category.create.CreateCategoriesUseCase;
 import io.github.catalogo.admin.application.category.create.CreateCategoryCommand;
 import io.github.catalogo.admin.application.category.create.CreateCategoryUseCase;
+import io.github.catalogo.admin.application.category.delete.DeleteCategoriesUseCase;
 import io.github.catalogo.admin.application.category.delete.DeleteCategoryUseCase;
 import io.github.catalogo.admin.application.category.retrieve.get.GetCategoryByIddUseCase;
 import io.github.catalogo.admin.application.category.retrieve.list.ListCategoryUseCase;
+import io.github.catalogo.admin.application.category.retrieve.suggest.SuggestCategoriesUseCase;
 import io.github.catalogo.admin.application.category.update.UpdateCategoryCommand;
 import io.github.catalogo.admin.application.category.update.UpdateCategoryUseCase;
+import io.github.catalogo.admin.application.genre.retrieve.bycategory.ListGenresByCategoryCommand;
+import io.github.catalogo.admin.application.genre.retrieve.bycategory.ListGenresByCategoryUseCase;
+import io.github.catalogo.admin.domain.pagination.CountMode;
+import io.github.catalogo.admin.domain.pagination.MatchMode;
 import io.github.catalogo.admin.domain.pagination.SearchQuery;
 import io.github.catalogo.admin.domain.pagination.Pagination;
+import io.github.catalogo.admin.domain.pagination.SuggestQuery;
 import io.github.catalogo.admin.infrastructure.api.CategoryAPI;
 import io.github.catalogo.admin.infrastructure.category.models.CategoryListResponse;
 import io.github.catalogo.admin.infrastructure.category.models.CategoryResponse;
+import io.github.catalogo.admin.infrastructure.category.models.CategorySuggestionResponse;
 import io.github.catalogo.admin.infrastructure.category.models.CreateCategoryRequest;
 import io.github.catalogo.admin.infrastructure.category.models.UpdateCategoryRequest;
 import io.github.catalogo.admin.infrastructure.category.presenters.CategoryApiPresenter;
+import io.github.catalogo.admin.infrastructure.utils.ETagUtils;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import static java.util.Objects.requireNonNull;
 
@@ -26,21 +40,33 @@ import static java.util.Objects.requireNonNull;
 public class CategoryController implements CategoryAPI {
 
     private final CreateCategoryUseCase createCategoryUseCase;
+    private final CreateCategoriesUseCase createCategoriesUseCase;
     private final GetCategoryByIddUseCase getCategoryByIddUseCase;
     private final UpdateCategoryUseCase updateCategoryUseCase;
     private final DeleteCategoryUseCase deleteCategoryUseCase;
+    private final DeleteCategoriesUseCase deleteCategoriesUseCase;
     private final ListCategoryUseCase listCategoryUseCase;
+    private final SuggestCategoriesUseCase suggestCategoriesUseCase;
+    private final ListGenresByCategoryUseCase listGenresByCategoryUseCase;
 
     public CategoryController(final CreateCategoryUseCase aCreateCategoryUseCase,
+                              final CreateCategoriesUseCase aCreateCategoriesUseCase,
                               final GetCategoryByIddUseCase aGetCategoryByIddUseCase,
                               final UpdateCategoryUseCase aUpdateCategoryUseCase,
                               final DeleteCategoryUseCase aDeleteCategoryUseCase,
-                              final ListCategoryUseCase aListCategoryUseCase) {
+                              final DeleteCategoriesUseCase aDeleteCategoriesUseCase,
+                              final ListCategoryUseCase aListCategoryUseCase,
+                              final SuggestCategoriesUseCase aSuggestCategoriesUseCase,
+                              final ListGenresByCategoryUseCase aListGenresByCategoryUseCase) {
         this.createCategoryUseCase = requireNonNull(aCreateCategoryUseCase);
+        this.createCategoriesUseCase = requireNonNull(aCreateCategoriesUseCase);
         this.getCategoryByIddUseCase = requireNonNull(aGetCategoryByIddUseCase);
         this.updateCategoryUseCase = requireNonNull(aUpdateCategoryUseCase);
         this.deleteCategoryUseCase = requireNonNull(aDeleteCategoryUseCase);
+        this.deleteCategoriesUseCase = requireNonNull(aDeleteCategoriesUseCase);
         this.listCategoryUseCase = requireNonNull(aListCategoryUseCase);
+        this.suggestCategoriesUseCase = requireNonNull(aSuggestCategoriesUseCase);
+        this.listGenresByCategoryUseCase = requireNonNull(aListGenresByCategoryUseCase);
     }
 
     @Override
@@ -60,19 +86,86 @@ public class CategoryController implements CategoryAPI {
     }
 
     @Override
-    public Pagination<CategoryListResponse> listCategories(String search, int page, int perPage, String sort, String direction) {
-        final var aQuery = new SearchQuery(page, perPage, search, sort, direction);
-        return this.listCategoryUseCase.execute(aQuery)
-                .map(CategoryApiPresenter::present);
+    public ResponseEntity<?> createCategories(final List<CreateCategoryRequest> input) {
+        final var aCommands = input.stream()
+                .map(it -> CreateCategoryCommand.with(
+                        it.name(),
+                        it.description(),
+                        it.active() != null ? it.active() : true))
+                .toList();
+
+        return this.createCategoriesUseCase.execute(aCommands)
+                .fold(
+                        ResponseEntity.unprocessableEntity()::body,
+                        output -> ResponseEntity.status(bulkStatus(output.created().isEmpty(), output.errors().isEmpty()))
+                                .body(CategoryApiPresenter.present(output))
+                );
+    }
+
+    private static HttpStatus bulkStatus(final boolean noneCreated, final boolean noneRejected) {
+        if (noneRejected) {
+            return HttpStatus.CREATED;
+        }
+        return noneCreated ? HttpStatus.UNPROCESSABLE_ENTITY : HttpStatus.OK;
+    }
+
+    @Override
+    public ResponseEntity<Pagination<CategoryListResponse>> listCategories(
+            final String search,
+            final int page,
+            final int perPage,
+            final String sort,
+            final String direction,
+            final String cursor,
+            final String count,
+            final String match,
+            final String ifNoneMatch
+    ) {
+        final var aQuery = new SearchQuery(
+                page, perPage, search, sort, direction, cursor, CountMode.of(count), MatchMode.of(match));
+
+        final var aPage = this.listCategoryUseCase.execute(aQuery).map(CategoryApiPresenter::present);
+        final var anETag = pageETag(aQuery, aPage);
+        if (ETagUtils.matches(ifNoneMatch, anETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(anETag).build();
+        }
+
+        return ResponseEntity.ok().eTag(anETag).body(aPage);
+    }
+
+    // hashed from the query and the page being returned, so the tag always describes this body,
+    // whether it came from the listing caches or the database
+    private static String pageETag(final SearchQuery aQuery, final Pagination<CategoryListResponse> aPage) {
+        final var values = new ArrayList<Object>(Arrays.asList(
+                aQuery.page(), aQuery.perPage(), aQuery.terms(), aQuery.sort(), aQuery.direction(),
+                aQuery.cursor(), aQuery.count(), aQuery.match(),
+                aPage.total(), aPage.hasNext(), aPage.next(), aPage.prev()));
+        aPage.items().forEach(it -> values.addAll(Arrays.asList(
+                it.id(), it.name(), it.description(), it.active(), it.createdAt(), it.deletedAt())));
+        return ETagUtils.ofValues("categories", values);
     }
 
     @Override
-    public CategoryResponse getById(final String id) {
+    public List<CategorySuggestionResponse> suggestCategories(final String prefix, final int limit) {
+        return this.suggestCategoriesUseCase.execute(new SuggestQuery(prefix, limit)).stream()
+                .map(CategoryApiPresenter::present)
+                .toList();
+    }
 
-        return CategoryApiPresenter
-                .present
-                .compose(getCategoryByIddUseCase::execute)
-                .apply(id);
+    @Override
+    public Pagination<String> listGenres(final String id, final String cursor, final int perPage) {
+        return this.listGenresByCategoryUseCase.execute(ListGenresByCategoryCommand.with(id, cursor, perPage));
+    }
+
+    @Override
+    public ResponseEntity<CategoryResponse> getById(final String id, final String ifNoneMatch) {
+        final var output = this.getCategoryByIddUseCase.execute(id);
+        final var anETag = ETagUtils.of(output.id().getValue(), output.updatedAt());
+        if (ETagUtils.matches(ifNoneMatch, anETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(anETag).build();
+        }
+
+        return ResponseEntity.ok().eTag(anETag).body(CategoryApiPresenter.present.apply(output));
     }
 
     @Override
@@ -95,4 +188,9 @@ public class CategoryController implements CategoryAPI {
     public void deleteById(String id) {
         this.deleteCategoryUseCase.execute(id);
     }
+
+    @Override
+    public void deleteCategories(final List<String> ids) {
+        this.deleteCategoriesUseCase.execute(ids);
+    }
 }
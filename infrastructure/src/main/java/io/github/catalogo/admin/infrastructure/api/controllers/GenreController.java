@@ -0,0 +1,119 @@
+package io.github.catalogo.admin.infrastructure.api.controllers;
+
+import io.github.catalogo.admin.application.genre.retrieve.categories.ListGenreCategoriesCommand;
+import io.github.catalogo.admin.application.genre.retrieve.categories.ListGenreCategoriesUseCase;
+import io.github.catalogo.admin.application.genre.retrieve.expand.GetGenreWithCategoriesUseCase;
+import io.github.catalogo.admin.application.genre.retrieve.expand.ListGenresWithCategoriesUseCase;
+import io.github.catalogo.admin.application.genre.retrieve.get.GetGenreByIdUseCase;
+import io.github.catalogo.admin.application.genre.retrieve.get.GetGenreSummaryByIdUseCase;
+import io.github.catalogo.admin.application.genre.retrieve.list.ListGenreUseCase;
+import io.github.catalogo.admin.application.genre.retrieve.suggest.SuggestGenresUseCase;
+import io.github.catalogo.admin.domain.exceptions.DomainException;
+import io.github.catalogo.admin.domain.pagination.CountMode;
+import io.github.catalogo.admin.domain.pagination.MatchMode;
+import io.github.catalogo.admin.domain.pagination.Pagination;
+import io.github.catalogo.admin.domain.pagination.SearchQuery;
+import io.github.catalogo.admin.domain.pagination.SuggestQuery;
+import io.github.catalogo.admin.domain.validation.Error;
+import io.github.catalogo.admin.infrastructure.api.GenreAPI;
+import io.github.catalogo.admin.infrastructure.genre.models.GenreListResponse;
+import io.github.catalogo.admin.infrastructure.genre.models.GenreResponse;
+import io.github.catalogo.admin.infrastructure.genre.models.GenreSuggestionResponse;
+import io.github.catalogo.admin.infrastructure.genre.presenters.GenreApiPresenter;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+@RestController
+public class GenreController implements GenreAPI {
+
+    private final ListGenreUseCase listGenreUseCase;
+    private final SuggestGenresUseCase suggestGenresUseCase;
+    private final GetGenreByIdUseCase getGenreByIdUseCase;
+    private final GetGenreSummaryByIdUseCase getGenreSummaryByIdUseCase;
+    private final ListGenreCategoriesUseCase listGenreCategoriesUseCase;
+    private final ListGenresWithCategoriesUseCase listGenresWithCategoriesUseCase;
+    private final GetGenreWithCategoriesUseCase getGenreWithCategoriesUseCase;
+
+    public GenreController(
+            final ListGenreUseCase aListGenreUseCase,
+            final SuggestGenresUseCase aSuggestGenresUseCase,
+            final GetGenreByIdUseCase aGetGenreByIdUseCase,
+            final GetGenreSummaryByIdUseCase aGetGenreSummaryByIdUseCase,
+            final ListGenreCategoriesUseCase aListGenreCategoriesUseCase,
+            final ListGenresWithCategoriesUseCase aListGenresWithCategoriesUseCase,
+            final GetGenreWithCategoriesUseCase aGetGenreWithCategoriesUseCase
+    ) {
+        this.listGenreUseCase = requireNonNull(aListGenreUseCase);
+        this.suggestGenresUseCase = requireNonNull(aSuggestGenresUseCase);
+        this.getGenreByIdUseCase = requireNonNull(aGetGenreByIdUseCase);
+        this.getGenreSummaryByIdUseCase = requireNonNull(aGetGenreSummaryByIdUseCase);
+        this.listGenreCategoriesUseCase = requireNonNull(aListGenreCategoriesUseCase);
+        this.listGenresWithCategoriesUseCase = requireNonNull(aListGenresWithCategoriesUseCase);
+        this.getGenreWithCategoriesUseCase = requireNonNull(aGetGenreWithCategoriesUseCase);
+    }
+
+    @Override
+    public Pagination<GenreListResponse> listGenres(
+            final String search,
+            final int page,
+            final int perPage,
+            final String sort,
+            final String direction,
+            final String cursor,
+            final String count,
+            final String match,
+            final String expand
+    ) {
+        final var aQuery = new SearchQuery(
+                page, perPage, search, sort, direction, cursor, CountMode.of(count), MatchMode.of(match));
+        if (expandsCategories(expand)) {
+            return this.listGenresWithCategoriesUseCase.execute(aQuery)
+                    .map(GenreApiPresenter::present);
+        }
+
+        return this.listGenreUseCase.execute(aQuery)
+                .map(GenreApiPresenter::present);
+    }
+
+    @Override
+    public List<GenreSuggestionResponse> suggestGenres(final String prefix, final int limit) {
+        return this.suggestGenresUseCase.execute(new SuggestQuery(prefix, limit)).stream()
+                .map(GenreApiPresenter::present)
+                .toList();
+    }
+
+    @Override
+    public GenreResponse getById(final String id, final String categories, final String expand) {
+        if (expandsCategories(expand)) {
+            return GenreApiPresenter.present(this.getGenreWithCategoriesUseCase.execute(id));
+        }
+
+        return switch (categories.trim().toLowerCase()) {
+            case "count" -> GenreApiPresenter.present(this.getGenreSummaryByIdUseCase.execute(id));
+            case "ids" -> GenreApiPresenter.present(this.getGenreByIdUseCase.execute(id));
+            default -> throw DomainException.with(new Error("Invalid categories mode '%s'".formatted(categories)));
+        };
+    }
+
+    @Override
+    public Pagination<String> listCategories(final String id, final String cursor, final int perPage) {
+        return this.listGenreCategoriesUseCase.execute(ListGenreCategoriesCommand.with(id, cursor, perPage));
+    }
+
+    private static boolean expandsCategories(final String expand) {
+        final var fields = Arrays.stream(expand.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .toList();
+        for (final var field : fields) {
+            if (!"categories".equalsIgnoreCase(field)) {
+                throw DomainException.with(new Error("Invalid expand '%s'".formatted(field)));
+            }
+        }
+        return !fields.isEmpty();
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.catalogo.admin.infrastructure.api.controllers;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.time.Duration;
+
+@RestControllerAdvice
+public class StaleResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    private static final String STALE_AGE = StaleResponseAdvice.class.getName() + ".STALE_AGE";
+    private static final String STALE_WARNING = "110 - \"Response is Stale\"";
+
+    public static void markStale(final Duration anAge) {
+        final var attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return;
+        }
+        if (attributes.getAttribute(STALE_AGE, RequestAttributes.SCOPE_REQUEST) instanceof Duration anOlderAge
+                && anOlderAge.compareTo(anAge) >= 0) {
+            return;
+        }
+        attributes.setAttribute(STALE_AGE, anAge, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    @Override
+    public boolean supports(
+            final MethodParameter returnType,
+            final Class<? extends HttpMessageConverter<?>> converterType
+    ) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            final Object body,
+            final MethodParameter returnType,
+            final MediaType selectedContentType,
+            final Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            final ServerHttpRequest request,
+            final ServerHttpResponse response
+    ) {
+        if (request instanceof ServletServerHttpRequest aServletRequest
+                && aServletRequest.getServletRequest().getAttribute(STALE_AGE) instanceof Duration anAge) {
+            response.getHeaders().set(HttpHeaders.AGE, String.valueOf(anAge.toSeconds()));
+            response.getHeaders().set(HttpHeaders.WARNING, STALE_WARNING);
+        }
+        return body;
+    }
+}
@@ -0,0 +1,183 @@
+package io.github.catalogo.admin.infrastructure.category;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.github.catalogo.admin.domain.category.Category;
+import io.github.catalogo.admin.domain.category.CategoryGateway;
+import io.github.catalogo.admin.domain.category.CategoryId;
+import io.github.catalogo.admin.domain.pagination.Pagination;
+import io.github.catalogo.admin.domain.pagination.SearchQuery;
+import io.github.catalogo.admin.domain.pagination.SuggestQuery;
+import io.github.catalogo.admin.domain.pagination.Suggestion;
+import io.github.catalogo.admin.infrastructure.utils.ListingCache;
+import io.github.catalogo.admin.infrastructure.utils.ListingCaches;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Keeps categories read by id in a bounded Caffeine (W-TinyLFU) cache in front of another gateway,
+ * and listing pages too when given {@link ListingCaches}. Writes through this gateway refresh or evict
+ * their entries and invalidate the listings; suggestions and existence checks always reach the
+ * delegate. Categories are copied in and out, so callers may mutate them.
+ */
+public class CachingCategoryGateway implements CategoryGateway {
+
+    // object headers, the id string, the instants and the cache node of one entry, roughly
+    private static final int ENTRY_OVERHEAD_BYTES = 320;
+
+    private final CategoryGateway delegate;
+    private final Cache<CategoryId, Category> cache;
+    private final ListingCache<Category> listings;
+
+    public CachingCategoryGateway(
+            final CategoryGateway aDelegate,
+            final long aMaxMemoryBytes,
+            final Duration anExpireAfterWrite,
+            final ListingCaches aListingCaches
+    ) {
+        this.delegate = Objects.requireNonNull(aDelegate);
+        this.listings = aListingCaches != null
+                ? aListingCaches.create(aDelegate::findAll, Category::clone)
+                : null;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(aMaxMemoryBytes)
+                .weigher(CachingCategoryGateway::weigh)
+                .expireAfterWrite(anExpireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    public Cache<CategoryId, Category> cache() {
+        return cache;
+    }
+
+    public Optional<ListingCache<Category>> listings() {
+        return Optional.ofNullable(this.listings);
+    }
+
+    public CacheStats stats() {
+        return this.cache.stats();
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        try {
+            return put(this.delegate.create(aCategory));
+        } finally {
+            invalidateListings();
+        }
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        try {
+            final var categories = this.delegate.createAll(aCategories);
+            categories.forEach(this::put);
+            return categories;
+        } finally {
+            invalidateListings();
+        }
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        try {
+            return put(this.delegate.update(aCategory));
+        } catch (final RuntimeException e) {
+            this.cache.invalidate(aCategory.getId());
+            throw e;
+        } finally {
+            invalidateListings();
+        }
+    }
+
+    @Override
+    public Pagination<Category> findAll(final SearchQuery aQuery) {
+        return this.listings != null
+                ? this.listings.get(aQuery)
+                : this.delegate.findAll(aQuery);
+    }
+
+    @Override
+    public List<Suggestion> suggest(final SuggestQuery aQuery) {
+        return this.delegate.suggest(aQuery);
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryId anId) {
+        return Optional.ofNullable(this.cache.get(anId, id -> this.delegate.findById(id).orElse(null)))
+                .map(Category::clone);
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Iterable<CategoryId> ids) {
+        final var distinctIds = StreamSupport.stream(ids.spliterator(), false)
+                .distinct()
+                .toList();
+
+        return this.cache.getAll(distinctIds, this::loadAll).values().stream()
+                .map(Category::clone)
+                .toList();
+    }
+
+    @Override
+    public void deleteById(final CategoryId anId) {
+        try {
+            this.delegate.deleteById(anId);
+        } finally {
+            this.cache.invalidate(anId);
+            invalidateListings();
+        }
+    }
+
+    @Override
+    public void deleteAllById(final Iterable<CategoryId> ids) {
+        try {
+            this.delegate.deleteAllById(ids);
+        } finally {
+            this.cache.invalidateAll(ids);
+            invalidateListings();
+        }
+    }
+
+    @Override
+    public List<CategoryId> existsByIds(final Iterable<CategoryId> ids) {
+        return this.delegate.existsByIds(ids);
+    }
+
+    private void invalidateListings() {
+        if (this.listings != null) {
+            this.listings.invalidateAll();
+        }
+    }
+
+    private Category put(final Category aCategory) {
+        this.cache.put(aCategory.getId(), aCategory.clone());
+        return aCategory;
+    }
+
+    private Map<CategoryId, Category> loadAll(final Iterable<? extends CategoryId> ids) {
+        return this.delegate.findAllByIds(StreamSupport.stream(ids.spliterator(), false)
+                        .map(CategoryId.class::cast)
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+    }
+
+    private static int weigh(final CategoryId anId, final Category aCategory) {
+        final var chars = length(aCategory.getName()) + length(aCategory.getDescription());
+        return ENTRY_OVERHEAD_BYTES + 2 * chars;
+    }
+
+    private static int length(final String aValue) {
+        return aValue == null ? 0 : aValue.length();
+    }
+}
@@ -3,90 +3,474 @@ package io.github.catalogo.admin.infrastructure.category;
 import io.github.catalogo.admin.domain.category.Category;
 import io.github.catalogo.admin.domain.category.CategoryGateway;
 import io.github.catalogo.admin.domain.category.CategoryId;
-import io.github.catalogo.admin.domain.pagination.SearchQuery;
+import io.github.catalogo.admin.domain.pagination.CountMode;
+import io.github.catalogo.admin.domain.pagination.MatchMode;
 import io.github.catalogo.admin.domain.pagination.Pagination;
+import io.github.catalogo.admin.domain.pagination.SearchQuery;
+import io.github.catalogo.admin.domain.pagination.SortKey;
+import io.github.catalogo.admin.domain.pagination.SuggestQuery;
+import io.github.catalogo.admin.domain.pagination.Suggestion;
 import io.github.catalogo.admin.infrastructure.category.persistence.CategoryJpaEntity;
+import io.github.catalogo.admin.infrastructure.category.persistence.CategoryListProjection;
 import io.github.catalogo.admin.infrastructure.category.persistence.CategoryRepository;
+import io.github.catalogo.admin.infrastructure.search.LuceneSearchIndex;
+import io.github.catalogo.admin.infrastructure.search.PrefixSuggester;
+import io.github.catalogo.admin.infrastructure.search.SearchIndexRebuild;
+import io.github.catalogo.admin.infrastructure.utils.CountCache;
+import io.github.catalogo.admin.infrastructure.utils.CursorUtils;
+import io.github.catalogo.admin.infrastructure.utils.FullTextUtils;
+import io.github.catalogo.admin.infrastructure.utils.SearchTermUtils;
+import io.github.catalogo.admin.infrastructure.utils.SpecificationUtils;
+import io.github.catalogo.admin.infrastructure.utils.TransactionUtils;
+import io.github.catalogo.admin.infrastructure.utils.UUIDBinaryConverter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 import static io.github.catalogo.admin.infrastructure.category.persistence.CategoryJpaEntity.from;
+import static io.github.catalogo.admin.infrastructure.category.persistence.CategoryJpaEntity.newEntity;
+import static io.github.catalogo.admin.infrastructure.utils.SpecificationUtils.contains;
 import static io.github.catalogo.admin.infrastructure.utils.SpecificationUtils.like;
 
 @Component
 public class CategoryMySQLGateway implements CategoryGateway {
 
+    private static final String SEARCH_INDEX_TYPE = "category";
+    private static final int SEARCH_INDEX_REBUILD_PAGE_SIZE = 500;
+    private static final int CREATE_ALL_BATCH_SIZE = 50;
+    private static final int EXISTS_BY_IDS_CHUNK_SIZE = 512;
+
     private final CategoryRepository categoryRepository;
+    private final EntityManager entityManager;
+    private final CountCache countCache;
+    private final boolean fullTextSearch;
+    private final LuceneSearchIndex searchIndex;
+    private final PrefixSuggester suggester = new PrefixSuggester();
+    private final SearchIndexRebuild searchIndexRebuild = new SearchIndexRebuild("category-search-index-rebuild");
 
-    public CategoryMySQLGateway(final CategoryRepository aCategoryRepository) {
+    public CategoryMySQLGateway(
+            final CategoryRepository aCategoryRepository,
+            final EntityManager anEntityManager,
+            @Value("${listing.count-cache.ttl:5s}") final Duration aCountCacheTtl,
+            @Value("${listing.search.fulltext:false}") final boolean isFullTextSearch,
+            final ObjectProvider<LuceneSearchIndex> aSearchIndex
+    ) {
         this.categoryRepository = aCategoryRepository;
+        this.entityManager = anEntityManager;
+        this.countCache = new CountCache(aCountCacheTtl);
+        this.fullTextSearch = isFullTextSearch;
+        this.searchIndex = aSearchIndex.getIfAvailable();
+    }
+
+    /*
+     * Walks the table by id, so every page is a range read however far the rebuild got, and runs off
+     * the startup thread; searches go to the database until it finishes.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildSearchIndex() {
+        this.suggester.clear();
+        if (this.searchIndex != null) {
+            this.searchIndex.deleteAll(SEARCH_INDEX_TYPE);
+        }
+
+        this.searchIndexRebuild.start(() -> {
+            final var aPage = PageRequest.of(0, SEARCH_INDEX_REBUILD_PAGE_SIZE);
+            var rows = this.categoryRepository.findAllInIdOrder(aPage);
+            while (!rows.isEmpty()) {
+                rows.forEach(anEntity -> this.searchIndexRebuild.reload(
+                        anEntity.getId(),
+                        () -> put(anEntity.toAggregate())
+                ));
+                rows = this.categoryRepository.findAllInIdOrderAfter(rows.get(rows.size() - 1).getId(), aPage);
+            }
+            if (this.searchIndex != null) {
+                this.searchIndex.refresh();
+            }
+        });
     }
 
     @Override
     public Category create(final Category aCategory) {
-        return save(aCategory);
+        return save(newEntity(aCategory));
+    }
+
+    /*
+     * Flushes and clears once per JDBC batch so the persistence context stays small however many
+     * categories are sent; the batch size matches hibernate.jdbc.batch_size.
+     */
+    @Override
+    @Transactional
+    public List<Category> createAll(final List<Category> aCategories) {
+        for (int from = 0; from < aCategories.size(); from += CREATE_ALL_BATCH_SIZE) {
+            aCategories.subList(from, Math.min(from + CREATE_ALL_BATCH_SIZE, aCategories.size()))
+                    .forEach(aCategory -> this.entityManager.persist(newEntity(aCategory)));
+            this.entityManager.flush();
+            this.entityManager.clear();
+        }
+        TransactionUtils.afterCommit(this.countCache::invalidateAll);
+        aCategories.forEach(this::index);
+        return aCategories;
     }
 
     @Override
     public Category update(final Category aCategory) {
-        return save(aCategory);
+        return save(from(aCategory));
     }
 
-    private Category save(final Category aCategory) {
-        return this.categoryRepository.save(from(aCategory)).toAggregate();
+    private Category save(final CategoryJpaEntity anEntity) {
+        final var aSavedCategory = this.categoryRepository.save(anEntity).toAggregate();
+        TransactionUtils.afterCommit(this.countCache::invalidateAll);
+        index(aSavedCategory);
+        return aSavedCategory;
     }
 
-    public Pagination<Category> findAll(final SearchQuery aQuery) {
-        final var page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Direction.fromString(aQuery.direction()), aQuery.sort())
-        );
+    // the search structures are not transactional, so they only see committed writes
+    private void index(final Category aCategory) {
+        TransactionUtils.afterCommit(() -> this.searchIndexRebuild.write(
+                List.of(aCategory.getId().getValue()),
+                () -> put(aCategory)
+        ));
+    }
+
+    private void put(final Category aCategory) {
+        this.suggester.put(aCategory.getId().getValue(), aCategory.getName());
+        if (this.searchIndex != null) {
+            this.searchIndex.index(
+                    SEARCH_INDEX_TYPE,
+                    aCategory.getId().getValue(),
+                    aCategory.getName(),
+                    aCategory.getDescription(),
+                    aCategory.getCreatedAt()
+            );
+        }
+    }
 
+    private void unindex(final List<String> ids) {
+        TransactionUtils.afterCommit(() -> this.searchIndexRebuild.write(ids, () -> {
+            ids.forEach(this.suggester::remove);
+            if (this.searchIndex != null) {
+                this.searchIndex.delete(SEARCH_INDEX_TYPE, ids);
+            }
+        }));
+    }
+
+    @Override
+    public Pagination<Category> findAll(final SearchQuery aQuery) {
+        final var aSortKey = SortKey.of(aQuery.sort());
         final var specifications = Optional.ofNullable(aQuery.terms())
                 .filter(str -> !str.isBlank())
                 .map(str -> {
-                    final Specification<CategoryJpaEntity> nameLike = like("name", str);
+                    final var normalizedTerms = SearchTermUtils.normalize(str);
+                    if (aQuery.match() == MatchMode.PREFIX) {
+                        return SpecificationUtils.<CategoryJpaEntity>startsWith("nameSearch", normalizedTerms);
+                    }
+                    final Specification<CategoryJpaEntity> nameLike = contains("nameSearch", normalizedTerms);
                     final Specification<CategoryJpaEntity> descriptionLike = like("description", str);
                     return nameLike.or(descriptionLike);
                 })
                 .orElse(null);
 
-        final var pageResult =
-                this.categoryRepository.findAll(Specification.where(specifications), page);
+        final var aCursor = CursorUtils.decode(this.entityManager, CategoryJpaEntity.class, aQuery);
+        if (aCursor.isPresent()) {
+            final var rows = CursorUtils.seek(
+                    this.entityManager,
+                    CategoryJpaEntity.class,
+                    CategoryListProjection.class,
+                    specifications,
+                    aQuery,
+                    aCursor.get()
+            );
+
+            return CursorUtils.paginate(aQuery, aCursor.get(), rows, total(aQuery, specifications))
+                    .map(CategoryListProjection::toAggregate);
+        }
+
+        final var isContains = aQuery.match() == MatchMode.CONTAINS;
+        if (this.searchIndex != null && !this.searchIndexRebuild.isRunning() && isContains && specifications != null) {
+            return findAllBySearchIndex(aQuery);
+        }
+
+        final var aFullTextQuery = this.fullTextSearch && isContains
+                ? FullTextUtils.booleanQuery(aQuery.terms())
+                : Optional.<String>empty();
+        if (aFullTextQuery.isPresent()) {
+            return findAllByRelevance(aQuery, aSortKey, aFullTextQuery.get())
+                    .map(CategoryListProjection::toAggregate);
+        }
+
+        if (aQuery.count() == CountMode.WINDOW) {
+            return findAllWithWindowCount(aQuery, aSortKey, specifications)
+                    .map(CategoryListProjection::toAggregate);
+        }
+
+        final var aSlice = CursorUtils.slice(
+                this.entityManager,
+                CategoryJpaEntity.class,
+                CategoryListProjection.class,
+                specifications,
+                aQuery
+        );
+
+        return CursorUtils.paginate(aSlice, aQuery.sort(), total(aQuery, specifications))
+                .map(CategoryListProjection::toAggregate);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Pagination<CategoryListProjection> findAllWithWindowCount(
+            final SearchQuery aQuery,
+            final SortKey aSortKey,
+            final Specification<CategoryJpaEntity> specifications
+    ) {
+        final var terms = Optional.ofNullable(aQuery.terms())
+                .filter(str -> !str.isBlank());
+        final var isPrefix = aQuery.match() == MatchMode.PREFIX;
+        final var direction = CursorUtils.isAscending(aQuery) ? "ASC" : "DESC";
+
+        final var sql = new StringBuilder("""
+                SELECT c.id, c.name, c.description, c.active, c.created_at, c.updated_at, c.deleted_at,
+                       COUNT(*) OVER () AS total_count
+                FROM category c""");
+        terms.ifPresent(str -> sql.append(" WHERE c.name_search LIKE :nameTerms ESCAPE '%s'"
+                .formatted(SearchTermUtils.LIKE_ESCAPE)));
+        terms.filter(str -> !isPrefix).ifPresent(str -> sql.append(" OR UPPER(c.description) LIKE :terms ESCAPE '%s'"
+                .formatted(SearchTermUtils.LIKE_ESCAPE)));
+        sql.append(" ORDER BY c.%s %s, c.id %s LIMIT :limit OFFSET :offset"
+                .formatted(aSortKey.column(), direction, direction));
 
-        return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(CategoryJpaEntity::toAggregate).toList()
+        final var query = this.entityManager
+                .createNativeQuery(sql.toString(), CategoryJpaEntity.LIST_WITH_TOTAL_COUNT)
+                .setParameter("limit", aQuery.perPage())
+                .setParameter("offset", (long) aQuery.page() * aQuery.perPage());
+        terms.ifPresent(str -> {
+            final var nameTerms = SearchTermUtils.escapeLike(SearchTermUtils.normalize(str)) + "%";
+            query.setParameter("nameTerms", isPrefix ? nameTerms : "%" + nameTerms);
+            if (!isPrefix) {
+                query.setParameter("terms", "%" + SearchTermUtils.escapeLike(str.toUpperCase()) + "%");
+            }
+        });
+
+        final List<Object[]> rows = query.getResultList();
+        final var total = windowTotal(rows, () -> this.categoryRepository.count(Specification.where(specifications)));
+
+        return CursorUtils.paginate(
+                new PageImpl<>(windowItems(rows), PageRequest.of(aQuery.page(), aQuery.perPage()), total),
+                aQuery.sort()
         );
     }
 
+    /*
+     * Ranks with the Lucene index and loads only the page of matching rows, in one IN query, keeping
+     * the index order. Offset only and ordered like the FULLTEXT search below; queries with a cursor
+     * were already answered from the database.
+     */
+    private Pagination<Category> findAllBySearchIndex(final SearchQuery aQuery) {
+        final var hits = this.searchIndex.search(SEARCH_INDEX_TYPE, aQuery);
+
+        final var categories = this.categoryRepository.findAllById(hits.ids()).stream()
+                .collect(Collectors.toMap(CategoryJpaEntity::getId, CategoryJpaEntity::toAggregate));
+        final var items = hits.ids().stream()
+                .map(categories::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return CursorUtils.paginate(aQuery, items, hits.total());
+    }
+
+    /*
+     * FULLTEXT search ordered by relevance first. Relevance is not a stable key to seek on, so these
+     * pages are offset only and carry no cursors; the requested sort just breaks relevance ties.
+     * Ranking already reads every match, so any count but NONE is the exact window count.
+     */
+    @SuppressWarnings("unchecked")
+    private Pagination<CategoryListProjection> findAllByRelevance(
+            final SearchQuery aQuery,
+            final SortKey aSortKey,
+            final String aFullTextQuery
+    ) {
+        final var direction = CursorUtils.isAscending(aQuery) ? "ASC" : "DESC";
+        final var isCounted = aQuery.count() != CountMode.NONE;
+        final var sql = """
+                SELECT c.id, c.name, c.description, c.active, c.created_at, c.updated_at, c.deleted_at,
+                       %s AS total_count
+                FROM category c
+                WHERE MATCH (c.name, c.description) AGAINST (:terms IN BOOLEAN MODE)
+                ORDER BY MATCH (c.name, c.description) AGAINST (:terms IN BOOLEAN MODE) DESC, c.%s %s, c.id %s
+                LIMIT :limit OFFSET :offset
+                """.formatted(isCounted ? "COUNT(*) OVER ()" : "NULL", aSortKey.column(), direction, direction);
+
+        final List<Object[]> rows = this.entityManager
+                .createNativeQuery(sql, CategoryJpaEntity.LIST_WITH_TOTAL_COUNT)
+                .setParameter("terms", aFullTextQuery)
+                .setParameter("limit", isCounted ? aQuery.perPage() : aQuery.perPage() + 1)
+                .setParameter("offset", (long) aQuery.page() * aQuery.perPage())
+                .getResultList();
+
+        final var total = isCounted
+                ? windowTotal(rows, () -> ((Number) this.entityManager
+                        .createNativeQuery(
+                                "SELECT COUNT(*) FROM category c WHERE MATCH (c.name, c.description) AGAINST (:terms IN BOOLEAN MODE)")
+                        .setParameter("terms", aFullTextQuery)
+                        .getSingleResult()).longValue())
+                : Pagination.UNKNOWN_TOTAL;
+
+        return CursorUtils.paginate(aQuery, windowItems(rows), total);
+    }
+
+    // past the last page there is no row to carry the window count
+    private static long windowTotal(final List<Object[]> rows, final LongSupplier aCount) {
+        return rows.isEmpty() ? aCount.getAsLong() : ((Number) rows.get(0)[1]).longValue();
+    }
+
+    private static List<CategoryListProjection> windowItems(final List<Object[]> rows) {
+        return rows.stream()
+                .map(row -> (CategoryListProjection) row[0])
+                .toList();
+    }
+
+    private long total(final SearchQuery aQuery, final Specification<CategoryJpaEntity> specifications) {
+        return switch (aQuery.count()) {
+            case NONE -> Pagination.UNKNOWN_TOTAL;
+            case CACHED -> this.countCache.get(
+                    aQuery.match() + ":" + Objects.toString(aQuery.terms(), "").trim().toUpperCase(),
+                    () -> this.categoryRepository.count(Specification.where(specifications))
+            );
+            case EXACT, WINDOW -> this.categoryRepository.count(Specification.where(specifications));
+        };
+    }
+
+    @Override
+    public List<Suggestion> suggest(final SuggestQuery aQuery) {
+        if (this.searchIndexRebuild.isRunning()) {
+            return suggestFromDatabase(aQuery);
+        }
+        return this.suggester.suggest(aQuery.prefix(), aQuery.limit());
+    }
+
+    // the trie is partial while it is rebuilt, so the prefix is read from name_search in the same order
+    private List<Suggestion> suggestFromDatabase(final SuggestQuery aQuery) {
+        final var aPage = PageRequest.of(0, aQuery.limit(), Sort.by("nameSearch", "id"));
+        final var aPrefix = SpecificationUtils.<CategoryJpaEntity>startsWith("nameSearch", SearchTermUtils.normalize(aQuery.prefix()));
+        return this.categoryRepository.findAll(Specification.where(aPrefix), aPage).stream()
+                .map(anEntity -> new Suggestion(anEntity.getId(), anEntity.getName()))
+                .toList();
+    }
+
     @Override
     public Optional<Category> findById(final CategoryId anId) {
-        return this.categoryRepository.findById(anId.getValue())
+        return Optional.of(anId.getValue())
+                .filter(UUIDBinaryConverter::isUUID)
+                .flatMap(this.categoryRepository::findById)
                 .map(CategoryJpaEntity::toAggregate);
     }
 
+    @Override
+    public List<Category> findAllByIds(final Iterable<CategoryId> categoryIDs) {
+        final var ids = StreamSupport.stream(categoryIDs.spliterator(), false)
+                .map(CategoryId::getValue)
+                .filter(UUIDBinaryConverter::isUUID)
+                .distinct()
+                .toList();
+
+        final var categories = new ArrayList<Category>(ids.size());
+        for (int from = 0; from < ids.size(); from += EXISTS_BY_IDS_CHUNK_SIZE) {
+            final var aChunk = ids.subList(from, Math.min(from + EXISTS_BY_IDS_CHUNK_SIZE, ids.size()));
+            this.categoryRepository.findAllById(padToPowerOfTwo(aChunk)).stream()
+                    .map(CategoryJpaEntity::toAggregate)
+                    .forEach(categories::add);
+        }
+        return categories;
+    }
+
     @Override
     public void deleteById(final CategoryId anId) {
         final var anIdValue = anId.getValue();
-        if (this.categoryRepository.existsById(anIdValue)) {
-            this.categoryRepository.deleteById(anIdValue);
+        if (UUIDBinaryConverter.isUUID(anIdValue) && this.categoryRepository.removeById(anIdValue) > 0) {
+            TransactionUtils.afterCommit(this.countCache::invalidateAll);
+            unindex(List.of(anIdValue));
+        }
+    }
+
+    // one transaction for every chunk, so the ids are either all deleted or none is
+    @Override
+    @Transactional
+    public void deleteAllById(final Iterable<CategoryId> categoryIDs) {
+        final var ids = StreamSupport.stream(categoryIDs.spliterator(), false)
+                .map(CategoryId::getValue)
+                .filter(UUIDBinaryConverter::isUUID)
+                .distinct()
+                .toList();
+
+        var removed = 0;
+        for (int from = 0; from < ids.size(); from += EXISTS_BY_IDS_CHUNK_SIZE) {
+            final var aChunk = ids.subList(from, Math.min(from + EXISTS_BY_IDS_CHUNK_SIZE, ids.size()));
+            removed += this.categoryRepository.removeAllByIds(padToPowerOfTwo(aChunk));
+        }
+        if (removed > 0) {
+            TransactionUtils.afterCommit(this.countCache::invalidateAll);
+            unindex(ids);
         }
     }
 
     @Override
-    public List<CategoryId> existsByIds(final Iterable<CategoryId> ids) {
-        // TODO: Implementar quando chegar na camada de infraestrutura de Genre.
-        return Collections.emptyList();
+    public List<CategoryId> existsByIds(final Iterable<CategoryId> categoryIDs) {
+        final var ids = StreamSupport.stream(categoryIDs.spliterator(), false)
+                .map(CategoryId::getValue)
+                .filter(UUIDBinaryConverter::isUUID)
+                .distinct()
+                .toList();
+
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return existsByIdsInChunks(ids).stream()
+                .map(CategoryId::from)
+                .toList();
+    }
+
+    private List<String> existsByIdsInChunks(final List<String> ids) {
+        final var existingIds = new ArrayList<String>(ids.size());
+        for (int from = 0; from < ids.size(); from += EXISTS_BY_IDS_CHUNK_SIZE) {
+            final var aChunk = ids.subList(from, Math.min(from + EXISTS_BY_IDS_CHUNK_SIZE, ids.size()));
+            existingIds.addAll(this.categoryRepository.existsByIds(padToPowerOfTwo(aChunk)));
+        }
+        return existingIds;
+    }
+
+    /*
+     * Hibernate caches one query plan per IN list size, so every chunk is padded with its last id
+     * up to the next power of two, keeping it to log2(EXISTS_BY_IDS_CHUNK_SIZE) + 1 plans.
+     */
+    private static List<String> padToPowerOfTwo(final List<String> aChunk) {
+        final var paddedSize = Integer.highestOneBit(aChunk.size() - 1) << 1;
+        if (aChunk.size() <= 1 || paddedSize == aChunk.size()) {
+            return aChunk;
+        }
+
+        final var paddedChunk = new ArrayList<String>(paddedSize);
+        paddedChunk.addAll(aChunk);
+        final var lastId = aChunk.get(aChunk.size() - 1);
+        while (paddedChunk.size() < paddedSize) {
+            paddedChunk.add(lastId);
+        }
+        return paddedChunk;
     }
 }
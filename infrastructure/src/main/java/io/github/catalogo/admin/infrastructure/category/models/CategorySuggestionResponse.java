@@ -0,0 +1,8 @@
+package io.github.catalogo.admin.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record CategorySuggestionResponse(
+        @JsonProperty("id") String id,
+        @JsonProperty("name") String name
+) {}
@@ -0,0 +1,13 @@
+package io.github.catalogo.admin.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.github.catalogo.admin.domain.validation.Error;
+
+import java.util.List;
+import java.util.Map;
+
+public record CreateCategoriesResponse(
+        @JsonProperty("created_ids") List<String> createdIds,
+        @JsonProperty("errors") Map<Integer, List<Error>> errors
+) {
+}
@@ -2,23 +2,56 @@ package io.github.catalogo.admin.infrastructure.category.persistence;
 
 import io.github.catalogo.admin.domain.category.Category;
 import io.github.catalogo.admin.domain.category.CategoryId;
+import io.github.catalogo.admin.infrastructure.utils.SearchTermUtils;
+import io.github.catalogo.admin.infrastructure.utils.UUIDBinaryConverter;
+import org.springframework.data.domain.Persistable;
 
 import javax.persistence.Column;
+import javax.persistence.ColumnResult;
+import javax.persistence.ConstructorResult;
+import javax.persistence.Convert;
 import javax.persistence.Entity;
 import javax.persistence.Id;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
+import javax.persistence.SqlResultSetMapping;
 import javax.persistence.Table;
+import javax.persistence.Transient;
 import java.time.Instant;
 
 @Entity
 @Table(name = "category")
-public class CategoryJpaEntity {
+@SqlResultSetMapping(
+        name = CategoryJpaEntity.LIST_WITH_TOTAL_COUNT,
+        classes = @ConstructorResult(
+                targetClass = CategoryListProjection.class,
+                columns = {
+                        @ColumnResult(name = "id", type = byte[].class),
+                        @ColumnResult(name = "name", type = String.class),
+                        @ColumnResult(name = "description", type = String.class),
+                        @ColumnResult(name = "active", type = Boolean.class),
+                        @ColumnResult(name = "created_at", type = Instant.class),
+                        @ColumnResult(name = "updated_at", type = Instant.class),
+                        @ColumnResult(name = "deleted_at", type = Instant.class)
+                }
+        ),
+        columns = @ColumnResult(name = "total_count", type = Long.class)
+)
+public class CategoryJpaEntity implements Persistable<String> {
+
+    public static final String LIST_WITH_TOTAL_COUNT = "CategoryListWithTotalCount";
 
     @Id
+    @Convert(converter = UUIDBinaryConverter.class)
+    @Column(name = "id", columnDefinition = "BINARY(16)")
     private String id;
 
     @Column(name = "name", nullable = false)
     private String name;
 
+    @Column(name = "name_search", nullable = false)
+    private String nameSearch;
+
     @Column(name = "description", length = 4000)
     private String description;
 
@@ -34,6 +67,9 @@ public class CategoryJpaEntity {
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
 
+    @Transient
+    private boolean isNew;
+
     public CategoryJpaEntity() {
     }
 
@@ -48,6 +84,7 @@ public class CategoryJpaEntity {
     ) {
         this.id = id;
         this.name = name;
+        this.nameSearch = SearchTermUtils.normalize(name);
         this.description = description;
         this.active = active;
         this.createdAt = createdAt;
@@ -67,6 +104,16 @@ public class CategoryJpaEntity {
         );
     }
 
+    /**
+     * Marks the entity as new so {@code save} persists it straight away instead of merging,
+     * which would otherwise SELECT the assigned id before the INSERT.
+     */
+    public static CategoryJpaEntity newEntity(final Category aCategory) {
+        final var anEntity = from(aCategory);
+        anEntity.isNew = true;
+        return anEntity;
+    }
+
     public Category toAggregate() {
         return Category.with(
                 CategoryId.from(getId()),
@@ -79,6 +126,18 @@ public class CategoryJpaEntity {
         );
     }
 
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
     public String getId() {
         return id;
     }
@@ -93,6 +152,11 @@ public class CategoryJpaEntity {
 
     public void setName(String name) {
         this.name = name;
+        this.nameSearch = SearchTermUtils.normalize(name);
+    }
+
+    public String getNameSearch() {
+        return nameSearch;
     }
 
     public String getDescription() {
@@ -0,0 +1,45 @@
+package io.github.catalogo.admin.infrastructure.category.persistence;
+
+import io.github.catalogo.admin.domain.category.Category;
+import io.github.catalogo.admin.domain.category.CategoryId;
+import io.github.catalogo.admin.infrastructure.utils.UUIDBinaryConverter;
+
+import java.time.Instant;
+
+public record CategoryListProjection(
+        String id,
+        String name,
+        String description,
+        Boolean active,
+        Instant createdAt,
+        Instant updatedAt,
+        Instant deletedAt
+) {
+
+    /**
+     * Used by native queries, which read the raw BINARY(16) id.
+     */
+    public CategoryListProjection(
+            final byte[] id,
+            final String name,
+            final String description,
+            final Boolean active,
+            final Instant createdAt,
+            final Instant updatedAt,
+            final Instant deletedAt
+    ) {
+        this(UUIDBinaryConverter.fromBytes(id), name, description, active, createdAt, updatedAt, deletedAt);
+    }
+
+    public Category toAggregate() {
+        return Category.with(
+                CategoryId.from(id),
+                name,
+                description,
+                active,
+                createdAt,
+                updatedAt,
+                deletedAt
+        );
+    }
+}
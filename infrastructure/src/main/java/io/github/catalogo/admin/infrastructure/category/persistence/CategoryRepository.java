@@ -4,11 +4,39 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String> {
 
     Page<CategoryJpaEntity> findAll(Specification<CategoryJpaEntity> spec, Pageable pageable);
 
+    long count(Specification<CategoryJpaEntity> spec);
+
+    @Query(value = "select c.id from CategoryJpaEntity c where c.id in :ids")
+    List<String> existsByIds(@Param("ids") List<String> ids);
+
+    @Query(value = "select c from CategoryJpaEntity c order by c.id")
+    List<CategoryJpaEntity> findAllInIdOrder(Pageable page);
+
+    @Query(value = "select c from CategoryJpaEntity c where c.id > :id order by c.id")
+    List<CategoryJpaEntity> findAllInIdOrderAfter(@Param("id") String id, Pageable page);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from CategoryJpaEntity c where c.id = :id")
+    int removeById(@Param("id") String id);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from CategoryJpaEntity c where c.id in :ids")
+    int removeAllByIds(@Param("ids") Collection<String> ids);
+
 }
@@ -1,10 +1,17 @@
 package io.github.catalogo.admin.infrastructure.category.presenters;
 
+import io.github.catalogo.admin.application.category.create.CreateCategoriesOutput;
 import io.github.catalogo.admin.application.category.retrieve.get.CategoryOutput;
 import io.github.catalogo.admin.application.category.retrieve.list.CategoryListOutput;
+import io.github.catalogo.admin.application.category.retrieve.suggest.CategorySuggestionOutput;
+import io.github.catalogo.admin.domain.validation.Error;
 import io.github.catalogo.admin.infrastructure.category.models.CategoryListResponse;
 import io.github.catalogo.admin.infrastructure.category.models.CategoryResponse;
+import io.github.catalogo.admin.infrastructure.category.models.CategorySuggestionResponse;
+import io.github.catalogo.admin.infrastructure.category.models.CreateCategoriesResponse;
 
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.function.Function;
 
 public interface CategoryApiPresenter {
@@ -30,4 +37,18 @@ public interface CategoryApiPresenter {
                     output.deletedAt()
             );
         }
+
+    static CategorySuggestionResponse present(final CategorySuggestionOutput output) {
+        return new CategorySuggestionResponse(output.id().getValue(), output.name());
+    }
+
+    static CreateCategoriesResponse present(final CreateCategoriesOutput output) {
+        final var errors = new LinkedHashMap<Integer, List<Error>>();
+        output.errors().forEach((index, notification) -> errors.put(index, notification.getErrors()));
+
+        return new CreateCategoriesResponse(
+                output.created().stream().map(it -> it.id().getValue()).toList(),
+                errors
+        );
+    }
 }
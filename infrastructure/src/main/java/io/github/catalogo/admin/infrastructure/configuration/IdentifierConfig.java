@@ -0,0 +1,15 @@
+package io.github.catalogo.admin.infrastructure.configuration;
+
+import io.github.catalogo.admin.domain.utils.IdGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdentifierConfig {
+
+    @Bean
+    public IdGenerator idGenerator(@Value("${identifiers.uuid-version:v7}") final String aVersion) {
+        return IdGenerator.of(aVersion);
+    }
+}
@@ -0,0 +1,23 @@
+package io.github.catalogo.admin.infrastructure.configuration;
+
+import io.github.catalogo.admin.infrastructure.utils.ListingCaches;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class ListingCacheConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "listing.cache.enabled", havingValue = "true")
+    public ListingCaches listingCaches(
+            @Value("${listing.cache.max-entries:1000}") final long maxEntries,
+            @Value("${listing.cache.refresh-after:5s}") final Duration aRefreshAfter,
+            @Value("${listing.cache.expire-after:1m}") final Duration anExpireAfter
+    ) {
+        return new ListingCaches(maxEntries, aRefreshAfter, anExpireAfter);
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.catalogo.admin.infrastructure.configuration;
+
+import io.github.catalogo.admin.infrastructure.api.controllers.StaleResponseAdvice;
+import io.github.catalogo.admin.infrastructure.utils.ListingCaches;
+import io.github.catalogo.admin.infrastructure.utils.NearCaches;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class NearCacheConfig {
+
+    /*
+     * The entries are versioned by the listing caches' write generation, the only counter every
+     * category and genre write moves, so the near-cache cannot run without them.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "read.near-cache.enabled", havingValue = "true")
+    public NearCaches nearCaches(
+            @Value("${read.near-cache.soft-ttl:2s}") final Duration aSoftTtl,
+            @Value("${read.near-cache.hard-ttl:5m}") final Duration aHardTtl,
+            @Value("${read.near-cache.max-entries:10000}") final long maxEntries,
+            @Value("${read.near-cache.refresh-threads:4}") final int refreshThreads,
+            @Value("${read.near-cache.refresh-queue:256}") final int refreshQueue,
+            final ObjectProvider<ListingCaches> aListingCaches
+    ) {
+        final var listings = aListingCaches.getIfAvailable();
+        if (listings == null) {
+            throw new IllegalStateException("read.near-cache.enabled requires listing.cache.enabled");
+        }
+
+        return new NearCaches(
+                listings::generation,
+                aSoftTtl,
+                aHardTtl,
+                maxEntries,
+                StaleResponseAdvice::markStale,
+                refreshExecutor(refreshThreads, refreshQueue)
+        );
+    }
+
+    // refreshes block on JDBC, so they get their own pool; when it is full the stale entry is served again
+    private static ThreadPoolExecutor refreshExecutor(final int threads, final int queueCapacity) {
+        final var counter = new AtomicInteger();
+        final var anExecutor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                60,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                aTask -> {
+                    final var aThread = new Thread(aTask, "near-cache-refresh-" + counter.incrementAndGet());
+                    aThread.setDaemon(true);
+                    return aThread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        anExecutor.allowCoreThreadTimeOut(true);
+        return anExecutor;
+    }
+}
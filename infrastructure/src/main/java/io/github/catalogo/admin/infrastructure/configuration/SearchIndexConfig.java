@@ -0,0 +1,21 @@
+package io.github.catalogo.admin.infrastructure.configuration;
+
+import io.github.catalogo.admin.infrastructure.search.LuceneSearchIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class SearchIndexConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "listing.search.lucene.enabled", havingValue = "true")
+    public LuceneSearchIndex luceneSearchIndex(
+            @Value("${listing.search.lucene.max-stale:1s}") final Duration aMaxStale
+    ) {
+        return new LuceneSearchIndex(aMaxStale.toMillis() / 1000.0);
+    }
+}
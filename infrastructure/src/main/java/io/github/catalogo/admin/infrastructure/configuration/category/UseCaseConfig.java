@@ -1,31 +1,86 @@
 package io.github.catalogo.admin.infrastructure.configuration.category;
 
+import io.github.catalogo.admin.application.category.create.CreateCategoriesUseCase;
+import io.github.catalogo.admin.application.category.retrieve.batch.DefaultGetCategoriesByIdsUseCase;
+import io.github.catalogo.admin.application.category.retrieve.batch.GetCategoriesByIdsUseCase;
 import io.github.catalogo.admin.application.category.create.CreateCategoryUseCase;
+import io.github.catalogo.admin.application.category.create.DefaultCreateCategoriesUseCase;
 import io.github.catalogo.admin.application.category.create.DefaultCreateCategoryUseCase;
+import io.github.catalogo.admin.application.category.delete.DefaultDeleteCategoriesUseCase;
 import io.github.catalogo.admin.application.category.delete.DefaultDeleteCategoryUseCase;
+import io.github.catalogo.admin.application.category.delete.DeleteCategoriesUseCase;
 import io.github.catalogo.admin.application.category.delete.DeleteCategoryUseCase;
+import io.github.catalogo.admin.application.category.retrieve.get.CategoryOutput;
 import io.github.catalogo.admin.application.category.retrieve.get.DefaultGetCategoryByIddUseCase;
 import io.github.catalogo.admin.application.category.retrieve.get.GetCategoryByIddUseCase;
+import io.github.catalogo.admin.application.category.retrieve.list.CategoryListOutput;
 import io.github.catalogo.admin.application.category.retrieve.list.DefaultListCategoryUseCase;
 import io.github.catalogo.admin.application.category.retrieve.list.ListCategoryUseCase;
+import io.github.catalogo.admin.application.category.retrieve.suggest.CategorySuggestionOutput;
+import io.github.catalogo.admin.application.category.retrieve.suggest.DefaultSuggestCategoriesUseCase;
+import io.github.catalogo.admin.application.category.retrieve.suggest.SuggestCategoriesUseCase;
 import io.github.catalogo.admin.application.category.update.DefaultUpdateCategoryUseCase;
 import io.github.catalogo.admin.application.category.update.UpdateCategoryUseCase;
 import io.github.catalogo.admin.domain.category.CategoryGateway;
+import io.github.catalogo.admin.domain.pagination.Pagination;
+import io.github.catalogo.admin.domain.pagination.SearchQuery;
+import io.github.catalogo.admin.domain.pagination.SuggestQuery;
+import io.github.catalogo.admin.domain.utils.IdGenerator;
+import io.github.catalogo.admin.infrastructure.category.CachingCategoryGateway;
+import io.github.catalogo.admin.infrastructure.utils.ListingCaches;
+import io.github.catalogo.admin.infrastructure.utils.NearCaches;
+import io.github.catalogo.admin.infrastructure.utils.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
 
 @Configuration
 public class UseCaseConfig {
 
     private final CategoryGateway gateway;
+    private final IdGenerator idGenerator;
+    private final NearCaches nearCaches;
 
-    public UseCaseConfig(final CategoryGateway aGateway) {
-        this.gateway = aGateway;
+    public UseCaseConfig(
+            final CategoryGateway aGateway,
+            final IdGenerator anIdGenerator,
+            @Value("${category.cache.max-memory:32MB}") final DataSize aCacheMaxMemory,
+            @Value("${category.cache.expire-after-write:10m}") final Duration aCacheExpireAfterWrite,
+            final ObjectProvider<ListingCaches> aListingCaches,
+            final ObjectProvider<NearCaches> aNearCaches,
+            final ObjectProvider<MeterRegistry> aMeterRegistry
+    ) {
+        final var aCachingGateway = new CachingCategoryGateway(
+                aGateway,
+                aCacheMaxMemory.toBytes(),
+                aCacheExpireAfterWrite,
+                aListingCaches.getIfAvailable()
+        );
+        aMeterRegistry.ifAvailable(registry -> {
+            CaffeineCacheMetrics.monitor(registry, aCachingGateway.cache(), "categories");
+            aCachingGateway.listings().ifPresent(listings ->
+                    CaffeineCacheMetrics.monitor(registry, listings.cache(), "category-listings"));
+        });
+        this.gateway = aCachingGateway;
+        this.idGenerator = anIdGenerator;
+        this.nearCaches = aNearCaches.getIfAvailable(NearCaches::disabled);
     }
 
     @Bean
     public CreateCategoryUseCase createCategoryUseCase() {
-        return new DefaultCreateCategoryUseCase(gateway);
+        return new DefaultCreateCategoryUseCase(gateway, idGenerator);
+    }
+
+    @Bean
+    public CreateCategoriesUseCase createCategoriesUseCase() {
+        return new DefaultCreateCategoriesUseCase(gateway, idGenerator);
     }
 
     @Bean
@@ -38,13 +93,51 @@ public class UseCaseConfig {
         return new DefaultDeleteCategoryUseCase(gateway);
     }
 
+    @Bean
+    public DeleteCategoriesUseCase deleteCategoriesUseCase() {
+        return new DefaultDeleteCategoriesUseCase(gateway);
+    }
+
     @Bean
     public GetCategoryByIddUseCase getCategoryByIddUseCase() {
-        return new DefaultGetCategoryByIddUseCase(gateway);
+        final var aUseCase = new DefaultGetCategoryByIddUseCase(gateway);
+        final var inFlight = new SingleFlight<String, CategoryOutput>();
+        final NearCaches.Reader<String, CategoryOutput> nearCache = nearCaches.create();
+        return new GetCategoryByIddUseCase() {
+            @Override
+            public CategoryOutput execute(final String anId) {
+                return nearCache.get(anId, () -> inFlight.execute(anId, () -> aUseCase.execute(anId)));
+            }
+        };
     }
 
     @Bean
     public ListCategoryUseCase listCategoryUseCase() {
-        return new DefaultListCategoryUseCase(gateway);
+        final var aUseCase = new DefaultListCategoryUseCase(gateway);
+        final var inFlight = new SingleFlight<SearchQuery, Pagination<CategoryListOutput>>();
+        final NearCaches.Reader<SearchQuery, Pagination<CategoryListOutput>> nearCache = nearCaches.create();
+        return new ListCategoryUseCase() {
+            @Override
+            public Pagination<CategoryListOutput> execute(final SearchQuery aQuery) {
+                return nearCache.get(aQuery, () -> inFlight.execute(aQuery, () -> aUseCase.execute(aQuery)));
+            }
+        };
+    }
+
+    @Bean
+    public SuggestCategoriesUseCase suggestCategoriesUseCase() {
+        final var aUseCase = new DefaultSuggestCategoriesUseCase(gateway);
+        final var inFlight = new SingleFlight<SuggestQuery, List<CategorySuggestionOutput>>();
+        return new SuggestCategoriesUseCase() {
+            @Override
+            public List<CategorySuggestionOutput> execute(final SuggestQuery aQuery) {
+                return inFlight.execute(aQuery, () -> aUseCase.execute(aQuery));
+            }
+        };
+    }
+
+    @Bean
+    public GetCategoriesByIdsUseCase getCategoriesByIdsUseCase() {
+        return new DefaultGetCategoriesByIdsUseCase(gateway);
     }
 }
@@ -0,0 +1,178 @@
+package io.github.catalogo.admin.infrastructure.configuration.genre;
+
+import io.github.catalogo.admin.application.category.retrieve.batch.GetCategoriesByIdsUseCase;
+import io.github.catalogo.admin.application.genre.retrieve.bycategory.DefaultListGenresByCategoryUseCase;
+import io.github.catalogo.admin.application.genre.retrieve.bycategory.ListGenresByCategoryCommand;
+import io.github.catalogo.admin.application.genre.retrieve.bycategory.ListGenresByCategoryUseCase;
+import io.github.catalogo.admin.application.genre.retrieve.categories.DefaultListGenreCategoriesUseCase;
+import io.github.catalogo.admin.application.genre.retrieve.categories.ListGenreCategoriesCommand;
+import io.github.catalogo.admin.application.genre.retrieve.categories.ListGenreCategoriesUseCase;
+import io.github.catalogo.admin.application.genre.retrieve.expand.DefaultGetGenreWithCategoriesUseCase;
+import io.github.catalogo.admin.application.genre.retrieve.expand.DefaultListGenresWithCategoriesUseCase;
+import io.github.catalogo.admin.application.genre.retrieve.expand.GenreListWithCategoriesOutput;
+import io.github.catalogo.admin.application.genre.retrieve.expand.GenreWithCategoriesOutput;
+import io.github.catalogo.admin.application.genre.retrieve.expand.GetGenreWithCategoriesUseCase;
+import io.github.catalogo.admin.application.genre.retrieve.expand.ListGenresWithCategoriesUseCase;
+import io.github.catalogo.admin.application.genre.retrieve.get.DefaultGetGenreByIdUseCase;
+import io.github.catalogo.admin.application.genre.retrieve.get.DefaultGetGenreSummaryByIdUseCase;
+import io.github.catalogo.admin.application.genre.retrieve.get.GenreOutput;
+import io.github.catalogo.admin.application.genre.retrieve.get.GenreSummaryOutput;
+import io.github.catalogo.admin.application.genre.retrieve.get.GetGenreByIdUseCase;
+import io.github.catalogo.admin.application.genre.retrieve.get.GetGenreSummaryByIdUseCase;
+import io.github.catalogo.admin.application.genre.retrieve.list.DefaultListGenreUseCase;
+import io.github.catalogo.admin.application.genre.retrieve.list.GenreListOutput;
+import io.github.catalogo.admin.application.genre.retrieve.list.ListGenreUseCase;
+import io.github.catalogo.admin.application.genre.retrieve.suggest.DefaultSuggestGenresUseCase;
+import io.github.catalogo.admin.application.genre.retrieve.suggest.GenreSuggestionOutput;
+import io.github.catalogo.admin.application.genre.retrieve.suggest.SuggestGenresUseCase;
+import io.github.catalogo.admin.domain.category.CategoryGateway;
+import io.github.catalogo.admin.domain.genre.GenreGateway;
+import io.github.catalogo.admin.domain.pagination.Pagination;
+import io.github.catalogo.admin.domain.pagination.SearchQuery;
+import io.github.catalogo.admin.domain.pagination.SuggestQuery;
+import io.github.catalogo.admin.infrastructure.genre.CachingGenreGateway;
+import io.github.catalogo.admin.infrastructure.utils.ListingCaches;
+import io.github.catalogo.admin.infrastructure.utils.NearCaches;
+import io.github.catalogo.admin.infrastructure.utils.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+public class GenreUseCaseConfig {
+
+    private final CategoryGateway categoryGateway;
+    private final GenreGateway genreGateway;
+    private final NearCaches nearCaches;
+
+    public GenreUseCaseConfig(
+            final CategoryGateway aCategoryGateway,
+            final GenreGateway aGenreGateway,
+            final ObjectProvider<ListingCaches> aListingCaches,
+            final ObjectProvider<NearCaches> aNearCaches,
+            final ObjectProvider<MeterRegistry> aMeterRegistry
+    ) {
+        this.categoryGateway = aCategoryGateway;
+        this.nearCaches = aNearCaches.getIfAvailable(NearCaches::disabled);
+
+        final var aListingCachesBean = aListingCaches.getIfAvailable();
+        if (aListingCachesBean == null) {
+            this.genreGateway = aGenreGateway;
+            return;
+        }
+
+        final var aCachingGateway = new CachingGenreGateway(aGenreGateway, aListingCachesBean);
+        aMeterRegistry.ifAvailable(registry ->
+                CaffeineCacheMetrics.monitor(registry, aCachingGateway.listings().cache(), "genre-listings"));
+        this.genreGateway = aCachingGateway;
+    }
+
+    @Bean
+    public ListGenreUseCase listGenreUseCase() {
+        final var aUseCase = new DefaultListGenreUseCase(genreGateway);
+        final var inFlight = new SingleFlight<SearchQuery, Pagination<GenreListOutput>>();
+        final NearCaches.Reader<SearchQuery, Pagination<GenreListOutput>> nearCache = nearCaches.create();
+        return new ListGenreUseCase() {
+            @Override
+            public Pagination<GenreListOutput> execute(final SearchQuery aQuery) {
+                return nearCache.get(aQuery, () -> inFlight.execute(aQuery, () -> aUseCase.execute(aQuery)));
+            }
+        };
+    }
+
+    @Bean
+    public ListGenresWithCategoriesUseCase listGenresWithCategoriesUseCase(
+            final GetCategoriesByIdsUseCase aGetCategoriesByIdsUseCase
+    ) {
+        final var aUseCase = new DefaultListGenresWithCategoriesUseCase(genreGateway, aGetCategoriesByIdsUseCase);
+        final var inFlight = new SingleFlight<SearchQuery, Pagination<GenreListWithCategoriesOutput>>();
+        final NearCaches.Reader<SearchQuery, Pagination<GenreListWithCategoriesOutput>> nearCache = nearCaches.create();
+        return new ListGenresWithCategoriesUseCase() {
+            @Override
+            public Pagination<GenreListWithCategoriesOutput> execute(final SearchQuery aQuery) {
+                return nearCache.get(aQuery, () -> inFlight.execute(aQuery, () -> aUseCase.execute(aQuery)));
+            }
+        };
+    }
+
+    @Bean
+    public SuggestGenresUseCase suggestGenresUseCase() {
+        final var aUseCase = new DefaultSuggestGenresUseCase(genreGateway);
+        final var inFlight = new SingleFlight<SuggestQuery, List<GenreSuggestionOutput>>();
+        return new SuggestGenresUseCase() {
+            @Override
+            public List<GenreSuggestionOutput> execute(final SuggestQuery aQuery) {
+                return inFlight.execute(aQuery, () -> aUseCase.execute(aQuery));
+            }
+        };
+    }
+
+    @Bean
+    public ListGenresByCategoryUseCase listGenresByCategoryUseCase() {
+        final var aUseCase = new DefaultListGenresByCategoryUseCase(categoryGateway, genreGateway);
+        final var inFlight = new SingleFlight<ListGenresByCategoryCommand, Pagination<String>>();
+        return new ListGenresByCategoryUseCase() {
+            @Override
+            public Pagination<String> execute(final ListGenresByCategoryCommand aCommand) {
+                return inFlight.execute(aCommand, () -> aUseCase.execute(aCommand));
+            }
+        };
+    }
+
+    @Bean
+    public GetGenreByIdUseCase getGenreByIdUseCase() {
+        final var aUseCase = new DefaultGetGenreByIdUseCase(genreGateway);
+        final var inFlight = new SingleFlight<String, GenreOutput>();
+        final NearCaches.Reader<String, GenreOutput> nearCache = nearCaches.create();
+        return new GetGenreByIdUseCase() {
+            @Override
+            public GenreOutput execute(final String anId) {
+                return nearCache.get(anId, () -> inFlight.execute(anId, () -> aUseCase.execute(anId)));
+            }
+        };
+    }
+
+    @Bean
+    public GetGenreWithCategoriesUseCase getGenreWithCategoriesUseCase(
+            final GetCategoriesByIdsUseCase aGetCategoriesByIdsUseCase
+    ) {
+        final var aUseCase = new DefaultGetGenreWithCategoriesUseCase(genreGateway, aGetCategoriesByIdsUseCase);
+        final var inFlight = new SingleFlight<String, GenreWithCategoriesOutput>();
+        final NearCaches.Reader<String, GenreWithCategoriesOutput> nearCache = nearCaches.create();
+        return new GetGenreWithCategoriesUseCase() {
+            @Override
+            public GenreWithCategoriesOutput execute(final String anId) {
+                return nearCache.get(anId, () -> inFlight.execute(anId, () -> aUseCase.execute(anId)));
+            }
+        };
+    }
+
+    @Bean
+    public GetGenreSummaryByIdUseCase getGenreSummaryByIdUseCase() {
+        final var aUseCase = new DefaultGetGenreSummaryByIdUseCase(genreGateway);
+        final var inFlight = new SingleFlight<String, GenreSummaryOutput>();
+        final NearCaches.Reader<String, GenreSummaryOutput> nearCache = nearCaches.create();
+        return new GetGenreSummaryByIdUseCase() {
+            @Override
+            public GenreSummaryOutput execute(final String anId) {
+                return nearCache.get(anId, () -> inFlight.execute(anId, () -> aUseCase.execute(anId)));
+            }
+        };
+    }
+
+    @Bean
+    public ListGenreCategoriesUseCase listGenreCategoriesUseCase() {
+        final var aUseCase = new DefaultListGenreCategoriesUseCase(genreGateway);
+        final var inFlight = new SingleFlight<ListGenreCategoriesCommand, Pagination<String>>();
+        return new ListGenreCategoriesUseCase() {
+            @Override
+            public Pagination<String> execute(final ListGenreCategoriesCommand aCommand) {
+                return inFlight.execute(aCommand, () -> aUseCase.execute(aCommand));
+            }
+        };
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.catalogo.admin.infrastructure.genre;
+
+import io.github.catalogo.admin.domain.category.CategoryId;
+import io.github.catalogo.admin.domain.genre.Genre;
+import io.github.catalogo.admin.domain.genre.GenreGateway;
+import io.github.catalogo.admin.domain.genre.GenreId;
+import io.github.catalogo.admin.domain.genre.GenreSummary;
+import io.github.catalogo.admin.domain.pagination.Pagination;
+import io.github.catalogo.admin.domain.pagination.SearchQuery;
+import io.github.catalogo.admin.domain.pagination.SuggestQuery;
+import io.github.catalogo.admin.domain.pagination.Suggestion;
+import io.github.catalogo.admin.infrastructure.utils.ListingCache;
+import io.github.catalogo.admin.infrastructure.utils.ListingCaches;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Serves genre listing pages from a {@link ListingCache}; writes through this gateway invalidate it.
+ */
+public class CachingGenreGateway implements GenreGateway {
+
+    private final GenreGateway delegate;
+    private final ListingCache<Genre> listings;
+
+    public CachingGenreGateway(final GenreGateway aDelegate, final ListingCaches aListingCaches) {
+        this.delegate = Objects.requireNonNull(aDelegate);
+        this.listings = aListingCaches.create(aDelegate::findAll, Genre::with);
+    }
+
+    public ListingCache<Genre> listings() {
+        return listings;
+    }
+
+    @Override
+    public Genre create(final Genre aGenre) {
+        try {
+            return this.delegate.create(aGenre);
+        } finally {
+            this.listings.invalidateAll();
+        }
+    }
+
+    @Override
+    public void deleteById(final GenreId anId) {
+        try {
+            this.delegate.deleteById(anId);
+        } finally {
+            this.listings.invalidateAll();
+        }
+    }
+
+    @Override
+    public Genre update(final Genre aGenre) {
+        try {
+            return this.delegate.update(aGenre);
+        } finally {
+            this.listings.invalidateAll();
+        }
+    }
+
+    @Override
+    public Pagination<Genre> findAll(final SearchQuery aQuery) {
+        return this.listings.get(aQuery);
+    }
+
+    @Override
+    public Optional<Genre> findById(final GenreId anId) {
+        return this.delegate.findById(anId);
+    }
+
+    @Override
+    public Optional<GenreSummary> findSummaryById(final GenreId anId) {
+        return this.delegate.findSummaryById(anId);
+    }
+
+    @Override
+    public boolean existsById(final GenreId anId) {
+        return this.delegate.existsById(anId);
+    }
+
+    @Override
+    public List<Suggestion> suggest(final SuggestQuery aQuery) {
+        return this.delegate.suggest(aQuery);
+    }
+
+    @Override
+    public Pagination<GenreId> findIdsByCategory(final CategoryId aCategoryId, final String aCursor, final int perPage) {
+        return this.delegate.findIdsByCategory(aCategoryId, aCursor, perPage);
+    }
+
+    @Override
+    public Pagination<CategoryId> findCategoryIds(final GenreId anId, final String aCursor, final int perPage) {
+        return this.delegate.findCategoryIds(anId, aCursor, perPage);
+    }
+}
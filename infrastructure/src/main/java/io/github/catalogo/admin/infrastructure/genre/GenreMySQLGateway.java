@@ -1,56 +1,435 @@
 package io.github.catalogo.admin.infrastructure.genre;
 
+import io.github.catalogo.admin.domain.category.CategoryId;
+import io.github.catalogo.admin.domain.exceptions.DomainException;
 import io.github.catalogo.admin.domain.genre.Genre;
 import io.github.catalogo.admin.domain.genre.GenreGateway;
 import io.github.catalogo.admin.domain.genre.GenreId;
+import io.github.catalogo.admin.domain.genre.GenreSummary;
+import io.github.catalogo.admin.domain.pagination.CountMode;
+import io.github.catalogo.admin.domain.pagination.Cursor;
+import io.github.catalogo.admin.domain.pagination.MatchMode;
 import io.github.catalogo.admin.domain.pagination.Pagination;
 import io.github.catalogo.admin.domain.pagination.SearchQuery;
+import io.github.catalogo.admin.domain.pagination.SortKey;
+import io.github.catalogo.admin.domain.pagination.SuggestQuery;
+import io.github.catalogo.admin.domain.pagination.Suggestion;
+import io.github.catalogo.admin.domain.validation.Error;
+import io.github.catalogo.admin.infrastructure.genre.persistence.GenreCategoryJpaEntity;
 import io.github.catalogo.admin.infrastructure.genre.persistence.GenreJpaEntity;
 import io.github.catalogo.admin.infrastructure.genre.persistence.GenreRepository;
+import io.github.catalogo.admin.infrastructure.search.LuceneSearchIndex;
+import io.github.catalogo.admin.infrastructure.search.PrefixSuggester;
+import io.github.catalogo.admin.infrastructure.search.SearchIndexRebuild;
+import io.github.catalogo.admin.infrastructure.utils.CountCache;
+import io.github.catalogo.admin.infrastructure.utils.CursorUtils;
+import io.github.catalogo.admin.infrastructure.utils.FullTextUtils;
+import io.github.catalogo.admin.infrastructure.utils.SearchTermUtils;
+import io.github.catalogo.admin.infrastructure.utils.SpecificationUtils;
+import io.github.catalogo.admin.infrastructure.utils.TransactionUtils;
+import io.github.catalogo.admin.infrastructure.utils.UUIDBinaryConverter;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
 
 @Component
 public class GenreMySQLGateway implements GenreGateway {
 
+    private static final String SEARCH_INDEX_TYPE = "genre";
+    private static final int SEARCH_INDEX_REBUILD_PAGE_SIZE = 500;
+
     private final GenreRepository genreRepository;
+    private final EntityManager entityManager;
+    private final boolean fullTextSearch;
+    private final LuceneSearchIndex searchIndex;
+    private final PrefixSuggester suggester = new PrefixSuggester();
+    private final SearchIndexRebuild searchIndexRebuild = new SearchIndexRebuild("genre-search-index-rebuild");
+    private final CountCache countCache;
 
-    public GenreMySQLGateway(final GenreRepository genreRepository) {
+    public GenreMySQLGateway(
+            final GenreRepository genreRepository,
+            final EntityManager entityManager,
+            @Value("${listing.count-cache.ttl:5s}") final Duration aCountCacheTtl,
+            @Value("${listing.search.fulltext:false}") final boolean isFullTextSearch,
+            final ObjectProvider<LuceneSearchIndex> aSearchIndex
+    ) {
         this.genreRepository = Objects.requireNonNull(genreRepository);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.countCache = new CountCache(aCountCacheTtl);
+        this.fullTextSearch = isFullTextSearch;
+        this.searchIndex = aSearchIndex.getIfAvailable();
+    }
+
+    // the same background walk by id as categories; searches go to the database until it finishes
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildSearchIndex() {
+        this.suggester.clear();
+        if (this.searchIndex != null) {
+            this.searchIndex.deleteAll(SEARCH_INDEX_TYPE);
+        }
+
+        this.searchIndexRebuild.start(() -> {
+            final var aPage = PageRequest.of(0, SEARCH_INDEX_REBUILD_PAGE_SIZE);
+            var rows = this.genreRepository.findAllInIdOrder(aPage);
+            while (!rows.isEmpty()) {
+                rows.forEach(anEntity -> this.searchIndexRebuild.reload(
+                        anEntity.getId(),
+                        () -> put(anEntity.getId(), anEntity.getName(), anEntity.getCreatedAt())
+                ));
+                rows = this.genreRepository.findAllInIdOrderAfter(rows.get(rows.size() - 1).getId(), aPage);
+            }
+            if (this.searchIndex != null) {
+                this.searchIndex.refresh();
+            }
+        });
     }
 
     @Override
     public Genre create(final Genre aGenre) {
-        return save(aGenre);
+        TransactionUtils.afterCommit(this.countCache::invalidateAll);
+        return index(this.genreRepository.save(GenreJpaEntity.newEntity(aGenre))
+                .toAggregate());
     }
 
     @Override
     public void deleteById(final GenreId anId) {
         final var aGenreId = anId.getValue();
-        if (this.genreRepository.existsById(aGenreId)) {
-            this.genreRepository.deleteById(aGenreId);
+        if (UUIDBinaryConverter.isUUID(aGenreId) && this.genreRepository.removeById(aGenreId) > 0) {
+            TransactionUtils.afterCommit(this.countCache::invalidateAll);
+            TransactionUtils.afterCommit(() -> this.searchIndexRebuild.write(List.of(aGenreId), () -> {
+                this.suggester.remove(aGenreId);
+                if (this.searchIndex != null) {
+                    this.searchIndex.delete(SEARCH_INDEX_TYPE, List.of(aGenreId));
+                }
+            }));
+        }
+    }
+
+    @Override
+    public List<Suggestion> suggest(final SuggestQuery aQuery) {
+        if (this.searchIndexRebuild.isRunning()) {
+            return suggestFromDatabase(aQuery);
         }
+        return this.suggester.suggest(aQuery.prefix(), aQuery.limit());
+    }
+
+    // the trie is partial while it is rebuilt, so the prefix is read from name_search in the same order
+    private List<Suggestion> suggestFromDatabase(final SuggestQuery aQuery) {
+        final var aPage = PageRequest.of(0, aQuery.limit(), Sort.by("nameSearch", "id"));
+        final var aPrefix = SpecificationUtils.<GenreJpaEntity>startsWith("nameSearch", SearchTermUtils.normalize(aQuery.prefix()));
+        return this.genreRepository.findAll(Specification.where(aPrefix), aPage).stream()
+                .map(anEntity -> new Suggestion(anEntity.getId(), anEntity.getName()))
+                .toList();
+    }
+
+    @Override
+    public Optional<Genre> findById(final GenreId anId) {
+        return Optional.of(anId.getValue())
+                .filter(UUIDBinaryConverter::isUUID)
+                .flatMap(this.genreRepository::findWithCategoriesById)
+                .map(GenreJpaEntity::toAggregate);
+    }
+
+    @Override
+    public Optional<GenreSummary> findSummaryById(final GenreId anId) {
+        return Optional.of(anId.getValue())
+                .filter(UUIDBinaryConverter::isUUID)
+                .flatMap(this.genreRepository::findById)
+                .map(anEntity -> new GenreSummary(
+                        GenreId.from(anEntity.getId()),
+                        anEntity.getName(),
+                        anEntity.isActive(),
+                        this.genreRepository.countCategoriesByGenreId(anEntity.getId()),
+                        anEntity.getCreatedAt(),
+                        anEntity.getUpdatedAt(),
+                        anEntity.getDeletedAt()
+                ));
+    }
+
+    @Override
+    public boolean existsById(final GenreId anId) {
+        final var aGenreId = anId.getValue();
+        return UUIDBinaryConverter.isUUID(aGenreId) && this.genreRepository.existsById(aGenreId);
     }
 
+    /*
+     * Seeks on (category_id, genre_id), which the idx_genres_categories_category_genre index covers, so
+     * every page is a range read of perPage + 1 index entries however many genres use the category.
+     * Counting those genres would scan all of them, so the total is left unknown.
+     */
     @Override
-    public Optional<Genre> findById(GenreId anId) {
-        return Optional.empty();
+    public Pagination<GenreId> findIdsByCategory(final CategoryId aCategoryId, final String aCursor, final int perPage) {
+        final var aCategory = aCategoryId.getValue();
+        return seekLinks(
+                aCategory,
+                aCursor,
+                perPage,
+                aPage -> this.genreRepository.findGenreIdsByCategoryId(aCategory, aPage),
+                (anAfterId, aPage) -> this.genreRepository.findGenreIdsByCategoryIdAfter(aCategory, anAfterId, aPage)
+        ).map(GenreId::from);
     }
 
+    // the same seek over (genre_id, category_id), the leading columns of the idx_genre_category unique key
     @Override
-    public Genre update(Genre aGenre) {
-        return save(aGenre);
+    public Pagination<CategoryId> findCategoryIds(final GenreId anId, final String aCursor, final int perPage) {
+        final var aGenreId = anId.getValue();
+        return seekLinks(
+                aGenreId,
+                aCursor,
+                perPage,
+                aPage -> this.genreRepository.findCategoryIdsByGenreId(aGenreId, aPage),
+                (anAfterId, aPage) -> this.genreRepository.findCategoryIdsByGenreIdAfter(aGenreId, anAfterId, aPage)
+        ).map(CategoryId::from);
+    }
+
+    private static Pagination<String> seekLinks(
+            final String anOwnerId,
+            final String aCursor,
+            final int perPage,
+            final Function<Pageable, List<String>> firstPage,
+            final BiFunction<String, Pageable, List<String>> nextPage
+    ) {
+        if (!UUIDBinaryConverter.isUUID(anOwnerId)) {
+            return new Pagination<>(0, perPage, Pagination.UNKNOWN_TOTAL, List.of(), false, null, null);
+        }
+
+        final var aPage = PageRequest.of(0, perPage + 1);
+        final var rows = Optional.ofNullable(aCursor)
+                .filter(token -> !token.isBlank())
+                .map(GenreMySQLGateway::afterId)
+                .map(anAfterId -> nextPage.apply(anAfterId, aPage))
+                .orElseGet(() -> firstPage.apply(aPage));
+
+        final var items = rows.stream()
+                .limit(perPage)
+                .toList();
+        final var next = rows.size() > perPage
+                ? Cursor.after(null, items.get(items.size() - 1)).encode()
+                : null;
+
+        return new Pagination<>(0, perPage, Pagination.UNKNOWN_TOTAL, items, next, null);
     }
 
+    private static String afterId(final String aCursor) {
+        final var aCursorId = Cursor.decode(aCursor).id();
+        if (!UUIDBinaryConverter.isUUID(aCursorId)) {
+            throw DomainException.with(new Error("Invalid cursor '%s'".formatted(aCursor)));
+        }
+        return aCursorId;
+    }
+
+    /*
+     * Writes the scalar columns and only the links added or removed since the genre was loaded, in
+     * batched statements. Unless the persistence context already holds them, the links are not read.
+     */
     @Override
-    public Pagination<Genre> findAll(SearchQuery aQuery) {
-        return null;
+    @Transactional
+    public Genre update(final Genre aGenre) {
+        final var anEntity = this.entityManager.find(GenreJpaEntity.class, aGenre.getId().getValue());
+        if (anEntity == null) {
+            return save(aGenre);
+        }
+
+        anEntity.setName(aGenre.getName())
+                .setActive(aGenre.isActive())
+                .setUpdatedAt(aGenre.getUpdatedAt())
+                .setDeletedAt(aGenre.getDeletedAt());
+
+        if (Hibernate.isInitialized(anEntity.getCategories())) {
+            aGenre.getRemovedCategories().forEach(anEntity::removeCategory);
+            aGenre.getAddedCategories().forEach(anEntity::addCategory);
+        } else {
+            final var removedCategories = aGenre.getRemovedCategories().stream()
+                    .map(CategoryId::getValue)
+                    .toList();
+            if (!removedCategories.isEmpty()) {
+                this.genreRepository.removeCategories(anEntity.getId(), removedCategories);
+            }
+            aGenre.getAddedCategories()
+                    .forEach(anId -> this.entityManager.persist(GenreCategoryJpaEntity.from(anEntity, anId)));
+        }
+
+        this.entityManager.flush();
+        TransactionUtils.afterCommit(this.countCache::invalidateAll);
+        return index(Genre.with(aGenre));
+    }
+
+    @Override
+    public Pagination<Genre> findAll(final SearchQuery aQuery) {
+        final var aSortKey = SortKey.of(aQuery.sort());
+        final var specifications = Optional.ofNullable(aQuery.terms())
+                .filter(str -> !str.isBlank())
+                .map(SearchTermUtils::normalize)
+                .map(str -> aQuery.match() == MatchMode.PREFIX
+                        ? SpecificationUtils.<GenreJpaEntity>startsWith("nameSearch", str)
+                        : SpecificationUtils.<GenreJpaEntity>contains("nameSearch", str))
+                .orElse(null);
+
+        final var aCursor = CursorUtils.decode(this.entityManager, GenreJpaEntity.class, aQuery);
+        if (aCursor.isPresent()) {
+            final var rows = CursorUtils.seek(
+                    this.entityManager,
+                    GenreJpaEntity.class,
+                    specifications,
+                    aQuery,
+                    aCursor.get()
+            );
+            return CursorUtils.paginate(aQuery, aCursor.get(), rows, total(aQuery, specifications))
+                    .map(withCategories(rows));
+        }
+
+        final var isContains = aQuery.match() == MatchMode.CONTAINS;
+        if (this.searchIndex != null && !this.searchIndexRebuild.isRunning() && isContains && specifications != null) {
+            return findAllBySearchIndex(aQuery);
+        }
+
+        final var aFullTextQuery = this.fullTextSearch && isContains
+                ? FullTextUtils.booleanQuery(aQuery.terms())
+                : Optional.<String>empty();
+        if (aFullTextQuery.isPresent()) {
+            return findAllByRelevance(aQuery, aSortKey, aFullTextQuery.get());
+        }
+
+        final var direction = Direction.fromString(aQuery.direction());
+        final var page = PageRequest.of(
+                aQuery.page(),
+                aQuery.perPage(),
+                Sort.by(direction, aSortKey.property()).and(Sort.by(direction, "id"))
+        );
+
+        final var pageResult =
+                this.genreRepository.findAll(Specification.where(specifications), page);
+
+        return CursorUtils.paginate(pageResult, aQuery.sort())
+                .map(withCategories(pageResult.getContent()));
+    }
+
+    /*
+     * Categories are lazy: the links of every genre on the page are loaded by one join fetch instead
+     * of one select per genre, so a listing costs the same number of queries whatever its size.
+     */
+    private Function<GenreJpaEntity, Genre> withCategories(final List<GenreJpaEntity> rows) {
+        if (rows.isEmpty()) {
+            return GenreJpaEntity::toAggregate;
+        }
+
+        final var genres = this.genreRepository
+                .findAllWithCategoriesByIds(rows.stream().map(GenreJpaEntity::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(GenreJpaEntity::getId, GenreJpaEntity::toAggregate));
+
+        // a genre deleted between both queries is still listed, without its categories
+        return row -> Optional.ofNullable(genres.get(row.getId()))
+                .orElseGet(() -> row.setCategories(new LinkedHashSet<>()).toAggregate());
+    }
+
+    private long total(final SearchQuery aQuery, final Specification<GenreJpaEntity> specifications) {
+        return switch (aQuery.count()) {
+            case NONE -> Pagination.UNKNOWN_TOTAL;
+            case CACHED -> this.countCache.get(
+                    aQuery.match() + ":" + Objects.toString(aQuery.terms(), "").trim().toUpperCase(),
+                    () -> this.genreRepository.count(Specification.where(specifications))
+            );
+            case EXACT, WINDOW -> this.genreRepository.count(Specification.where(specifications));
+        };
+    }
+
+    private Pagination<Genre> findAllBySearchIndex(final SearchQuery aQuery) {
+        final var hits = this.searchIndex.search(SEARCH_INDEX_TYPE, aQuery);
+
+        final var genres = this.genreRepository.findAllWithCategoriesByIds(hits.ids()).stream()
+                .collect(Collectors.toMap(GenreJpaEntity::getId, GenreJpaEntity::toAggregate));
+        final var items = hits.ids().stream()
+                .map(genres::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return CursorUtils.paginate(aQuery, items, hits.total());
+    }
+
+    // the same window count as the category search; relevance pages are offset only and carry no cursors
+    @SuppressWarnings("unchecked")
+    private Pagination<Genre> findAllByRelevance(
+            final SearchQuery aQuery,
+            final SortKey aSortKey,
+            final String aFullTextQuery
+    ) {
+        final var direction = CursorUtils.isAscending(aQuery) ? "ASC" : "DESC";
+        final var isCounted = aQuery.count() != CountMode.NONE;
+        final var sql = """
+                SELECT g.*, %s AS total_count
+                FROM genres g
+                WHERE MATCH (g.name) AGAINST (:terms IN BOOLEAN MODE)
+                ORDER BY MATCH (g.name) AGAINST (:terms IN BOOLEAN MODE) DESC, g.%s %s, g.id %s
+                LIMIT :limit OFFSET :offset
+                """.formatted(isCounted ? "COUNT(*) OVER ()" : "NULL", aSortKey.column(), direction, direction);
+
+        final List<Object[]> rows = this.entityManager
+                .createNativeQuery(sql, GenreJpaEntity.LIST_WITH_TOTAL_COUNT)
+                .setParameter("terms", aFullTextQuery)
+                .setParameter("limit", isCounted ? aQuery.perPage() : aQuery.perPage() + 1)
+                .setParameter("offset", (long) aQuery.page() * aQuery.perPage())
+                .getResultList();
+        final var genres = rows.stream()
+                .map(row -> (GenreJpaEntity) row[0])
+                .toList();
+
+        final var total = isCounted
+                ? windowTotal(rows, () -> ((Number) this.entityManager
+                        .createNativeQuery("SELECT COUNT(*) FROM genres g WHERE MATCH (g.name) AGAINST (:terms IN BOOLEAN MODE)")
+                        .setParameter("terms", aFullTextQuery)
+                        .getSingleResult()).longValue())
+                : Pagination.UNKNOWN_TOTAL;
+
+        final var aPage = CursorUtils.paginate(aQuery, genres, total);
+        return aPage.map(withCategories(aPage.items()));
+    }
+
+    // past the last page there is no row to carry the window count
+    private static long windowTotal(final List<Object[]> rows, final LongSupplier aCount) {
+        return rows.isEmpty() ? aCount.getAsLong() : ((Number) rows.get(0)[1]).longValue();
     }
 
     private Genre save(final Genre aGenre) {
-        return this.genreRepository.save(GenreJpaEntity.from(aGenre))
-                .toAggregate();
+        TransactionUtils.afterCommit(this.countCache::invalidateAll);
+        return index(this.genreRepository.save(GenreJpaEntity.from(aGenre))
+                .toAggregate());
+    }
+
+    // the search structures are not transactional, so they only see committed writes
+    private Genre index(final Genre aGenre) {
+        final var anId = aGenre.getId().getValue();
+        final var aName = aGenre.getName();
+        final var aCreatedAt = aGenre.getCreatedAt();
+        TransactionUtils.afterCommit(() -> this.searchIndexRebuild.write(List.of(anId), () -> put(anId, aName, aCreatedAt)));
+        return aGenre;
+    }
+
+    private void put(final String anId, final String aName, final Instant aCreatedAt) {
+        this.suggester.put(anId, aName);
+        if (this.searchIndex != null) {
+            this.searchIndex.index(SEARCH_INDEX_TYPE, anId, aName, null, aCreatedAt);
+        }
     }
 }
@@ -0,0 +1,18 @@
+package io.github.catalogo.admin.infrastructure.genre.models;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.github.catalogo.admin.infrastructure.category.models.CategoryResponse;
+
+import java.time.Instant;
+import java.util.List;
+
+public record GenreListResponse(
+        @JsonProperty("id") String id,
+        @JsonProperty("name") String name,
+        @JsonProperty("is_active") Boolean active,
+        @JsonProperty("categories_id") List<String> categories,
+        @JsonInclude(JsonInclude.Include.NON_NULL) @JsonProperty("categories") List<CategoryResponse> expandedCategories,
+        @JsonProperty("created_at") Instant createdAt,
+        @JsonProperty("deleted_at") Instant deletedAt
+) {}
@@ -0,0 +1,20 @@
+package io.github.catalogo.admin.infrastructure.genre.models;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.github.catalogo.admin.infrastructure.category.models.CategoryResponse;
+
+import java.time.Instant;
+import java.util.List;
+
+public record GenreResponse(
+        @JsonProperty("id") String id,
+        @JsonProperty("name") String name,
+        @JsonProperty("is_active") Boolean active,
+        @JsonInclude(JsonInclude.Include.NON_NULL) @JsonProperty("categories_id") List<String> categories,
+        @JsonProperty("categories_count") long categoriesCount,
+        @JsonInclude(JsonInclude.Include.NON_NULL) @JsonProperty("categories") List<CategoryResponse> expandedCategories,
+        @JsonProperty("created_at") Instant createdAt,
+        @JsonProperty("updated_at") Instant updatedAt,
+        @JsonProperty("deleted_at") Instant deletedAt
+) {}
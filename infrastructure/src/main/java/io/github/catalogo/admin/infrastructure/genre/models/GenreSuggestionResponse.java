@@ -0,0 +1,8 @@
+package io.github.catalogo.admin.infrastructure.genre.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record GenreSuggestionResponse(
+        @JsonProperty("id") String id,
+        @JsonProperty("name") String name
+) {}
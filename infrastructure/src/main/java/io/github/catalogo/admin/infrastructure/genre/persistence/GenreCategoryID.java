@@ -1,6 +1,9 @@
 package io.github.catalogo.admin.infrastructure.genre.persistence;
 
+import io.github.catalogo.admin.infrastructure.utils.UUIDBinaryConverter;
+
 import javax.persistence.Column;
+import javax.persistence.Convert;
 import javax.persistence.Embeddable;
 import java.io.Serializable;
 import java.util.Objects;
@@ -8,10 +11,12 @@ import java.util.Objects;
 @Embeddable
 public class GenreCategoryID implements Serializable {
 
-    @Column(name = "genre_id", nullable = false)
+    @Convert(converter = UUIDBinaryConverter.class)
+    @Column(name = "genre_id", nullable = false, columnDefinition = "BINARY(16)")
     private String genreId;
 
-    @Column(name = "category_id", nullable = false)
+    @Convert(converter = UUIDBinaryConverter.class)
+    @Column(name = "category_id", nullable = false, columnDefinition = "BINARY(16)")
     private String categoryId;
 
     public GenreCategoryID() {}
@@ -3,31 +3,45 @@ package io.github.catalogo.admin.infrastructure.genre.persistence;
 import io.github.catalogo.admin.domain.category.CategoryId;
 import io.github.catalogo.admin.domain.genre.Genre;
 import io.github.catalogo.admin.domain.genre.GenreId;
+import io.github.catalogo.admin.infrastructure.utils.SearchTermUtils;
+import io.github.catalogo.admin.infrastructure.utils.UUIDBinaryConverter;
+import org.springframework.data.domain.Persistable;
 
 import javax.persistence.*;
 import java.time.Instant;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
 import static javax.persistence.CascadeType.ALL;
-import static javax.persistence.FetchType.EAGER;
+import static javax.persistence.FetchType.LAZY;
 
 @Entity
 @Table(name = "genres")
-public class GenreJpaEntity {
+@SqlResultSetMapping(
+        name = GenreJpaEntity.LIST_WITH_TOTAL_COUNT,
+        entities = @EntityResult(entityClass = GenreJpaEntity.class),
+        columns = @ColumnResult(name = "total_count", type = Long.class)
+)
+public class GenreJpaEntity implements Persistable<String> {
+
+    public static final String LIST_WITH_TOTAL_COUNT = "GenreListWithTotalCount";
 
     @Id
-    @Column(name = "id", nullable = false)
+    @Convert(converter = UUIDBinaryConverter.class)
+    @Column(name = "id", nullable = false, columnDefinition = "BINARY(16)")
     private String id;
 
     @Column(name = "name", nullable = false)
     private String name;
 
+    @Column(name = "name_search", nullable = false)
+    private String nameSearch;
+
     @Column(name = "active", nullable = false)
     private boolean active;
 
-    @OneToMany(mappedBy = "genre", cascade = ALL, fetch = EAGER, orphanRemoval = true)
+    @OneToMany(mappedBy = "genre", cascade = ALL, fetch = LAZY, orphanRemoval = true)
     private Set<GenreCategoryJpaEntity> categories;
 
     @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
@@ -39,6 +53,9 @@ public class GenreJpaEntity {
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
 
+    @Transient
+    private boolean isNew;
+
     public GenreJpaEntity() {
     }
 
@@ -52,8 +69,9 @@ public class GenreJpaEntity {
     ) {
         this.id = anId;
         this.name = aName;
+        this.nameSearch = SearchTermUtils.normalize(aName);
         this.active = isActive;
-        this.categories = new HashSet<>();
+        this.categories = new LinkedHashSet<>();
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.deletedAt = deletedAt;
@@ -75,6 +93,16 @@ public class GenreJpaEntity {
         return anEntity;
     }
 
+    /**
+     * Marks the entity as new so {@code save} persists it, and cascades the persist to its
+     * category links, instead of merging and selecting every assigned id first.
+     */
+    public static GenreJpaEntity newEntity(final Genre aGenre) {
+        final var anEntity = from(aGenre);
+        anEntity.isNew = true;
+        return anEntity;
+    }
+
     public Genre toAggregate() {
         return Genre.with(
                 GenreId.from(getId()),
@@ -87,14 +115,26 @@ public class GenreJpaEntity {
         );
     }
 
-    private void addCategory(final CategoryId anId) {
+    public void addCategory(final CategoryId anId) {
         this.categories.add(GenreCategoryJpaEntity.from(this, anId));
     }
 
-    private void removeCategory(final CategoryId anId) {
+    public void removeCategory(final CategoryId anId) {
         this.categories.remove(GenreCategoryJpaEntity.from(this, anId));
     }
 
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
     public String getId() {
         return id;
     }
@@ -110,9 +150,14 @@ public class GenreJpaEntity {
 
     public GenreJpaEntity setName(String name) {
         this.name = name;
+        this.nameSearch = SearchTermUtils.normalize(name);
         return this;
     }
 
+    public String getNameSearch() {
+        return nameSearch;
+    }
+
     public boolean isActive() {
         return active;
     }
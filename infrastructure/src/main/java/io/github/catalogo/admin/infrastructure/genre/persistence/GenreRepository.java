@@ -1,6 +1,65 @@
 package io.github.catalogo.admin.infrastructure.genre.persistence;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface GenreRepository extends JpaRepository<GenreJpaEntity, String> {
+
+    Page<GenreJpaEntity> findAll(Specification<GenreJpaEntity> spec, Pageable pageable);
+
+    long count(Specification<GenreJpaEntity> spec);
+
+    @Query(value = "select distinct g from GenreJpaEntity g left join fetch g.categories where g.id = :id")
+    Optional<GenreJpaEntity> findWithCategoriesById(@Param("id") String id);
+
+    @Query(value = "select distinct g from GenreJpaEntity g left join fetch g.categories where g.id in :ids")
+    List<GenreJpaEntity> findAllWithCategoriesByIds(@Param("ids") Collection<String> ids);
+
+    @Query(value = "select g from GenreJpaEntity g order by g.id")
+    List<GenreJpaEntity> findAllInIdOrder(Pageable page);
+
+    @Query(value = "select g from GenreJpaEntity g where g.id > :id order by g.id")
+    List<GenreJpaEntity> findAllInIdOrderAfter(@Param("id") String id, Pageable page);
+
+    @Query(value = "select gc.id.genreId from GenreCategoryJpaEntity gc where gc.id.categoryId = :categoryId order by gc.id.genreId")
+    List<String> findGenreIdsByCategoryId(@Param("categoryId") String categoryId, Pageable page);
+
+    @Query(value = "select gc.id.genreId from GenreCategoryJpaEntity gc where gc.id.categoryId = :categoryId and gc.id.genreId > :genreId order by gc.id.genreId")
+    List<String> findGenreIdsByCategoryIdAfter(
+            @Param("categoryId") String categoryId,
+            @Param("genreId") String genreId,
+            Pageable page
+    );
+
+    @Query(value = "select gc.id.categoryId from GenreCategoryJpaEntity gc where gc.id.genreId = :genreId order by gc.id.categoryId")
+    List<String> findCategoryIdsByGenreId(@Param("genreId") String genreId, Pageable page);
+
+    @Query(value = "select gc.id.categoryId from GenreCategoryJpaEntity gc where gc.id.genreId = :genreId and gc.id.categoryId > :categoryId order by gc.id.categoryId")
+    List<String> findCategoryIdsByGenreIdAfter(
+            @Param("genreId") String genreId,
+            @Param("categoryId") String categoryId,
+            Pageable page
+    );
+
+    @Query(value = "select count(gc) from GenreCategoryJpaEntity gc where gc.id.genreId = :genreId")
+    long countCategoriesByGenreId(@Param("genreId") String genreId);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from GenreJpaEntity g where g.id = :id")
+    int removeById(@Param("id") String id);
+
+    @Modifying
+    @Query(value = "delete from GenreCategoryJpaEntity gc where gc.id.genreId = :genreId and gc.id.categoryId in :categoryIds")
+    int removeCategories(@Param("genreId") String genreId, @Param("categoryIds") Collection<String> categoryIds);
 }
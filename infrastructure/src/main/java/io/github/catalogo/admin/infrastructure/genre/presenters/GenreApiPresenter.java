@@ -0,0 +1,85 @@
+package io.github.catalogo.admin.infrastructure.genre.presenters;
+
+import io.github.catalogo.admin.application.category.retrieve.get.CategoryOutput;
+import io.github.catalogo.admin.application.genre.retrieve.expand.GenreListWithCategoriesOutput;
+import io.github.catalogo.admin.application.genre.retrieve.expand.GenreWithCategoriesOutput;
+import io.github.catalogo.admin.application.genre.retrieve.get.GenreOutput;
+import io.github.catalogo.admin.application.genre.retrieve.get.GenreSummaryOutput;
+import io.github.catalogo.admin.application.genre.retrieve.list.GenreListOutput;
+import io.github.catalogo.admin.application.genre.retrieve.suggest.GenreSuggestionOutput;
+import io.github.catalogo.admin.infrastructure.category.models.CategoryResponse;
+import io.github.catalogo.admin.infrastructure.category.presenters.CategoryApiPresenter;
+import io.github.catalogo.admin.infrastructure.genre.models.GenreListResponse;
+import io.github.catalogo.admin.infrastructure.genre.models.GenreResponse;
+import io.github.catalogo.admin.infrastructure.genre.models.GenreSuggestionResponse;
+
+import java.util.List;
+
+public interface GenreApiPresenter {
+
+    static GenreResponse present(final GenreOutput output) {
+        return present(output, null);
+    }
+
+    static GenreResponse present(final GenreWithCategoriesOutput output) {
+        return present(output.genre(), expand(output.categories()));
+    }
+
+    private static GenreResponse present(final GenreOutput output, final List<CategoryResponse> categories) {
+        return new GenreResponse(
+                output.id(),
+                output.name(),
+                output.isActive(),
+                output.categories(),
+                output.categories().size(),
+                categories,
+                output.createdAt(),
+                output.updatedAt(),
+                output.deletedAt()
+        );
+    }
+
+    static GenreResponse present(final GenreSummaryOutput output) {
+        return new GenreResponse(
+                output.id(),
+                output.name(),
+                output.isActive(),
+                null,
+                output.categoriesCount(),
+                null,
+                output.createdAt(),
+                output.updatedAt(),
+                output.deletedAt()
+        );
+    }
+
+    static GenreListResponse present(final GenreListOutput output) {
+        return present(output, null);
+    }
+
+    static GenreListResponse present(final GenreListWithCategoriesOutput output) {
+        return present(output.genre(), expand(output.categories()));
+    }
+
+    private static GenreListResponse present(final GenreListOutput output, final List<CategoryResponse> categories) {
+        return new GenreListResponse(
+                output.id(),
+                output.name(),
+                output.isActive(),
+                output.categories(),
+                categories,
+                output.createdAt(),
+                output.deletedAt()
+        );
+    }
+
+    static GenreSuggestionResponse present(final GenreSuggestionOutput output) {
+        return new GenreSuggestionResponse(output.id(), output.name());
+    }
+
+    private static List<CategoryResponse> expand(final List<CategoryOutput> categories) {
+        return categories.stream()
+                .map(CategoryApiPresenter.present)
+                .toList();
+    }
+}
@@ -0,0 +1,258 @@
+package io.github.catalogo.admin.infrastructure.search;
+
+import io.github.catalogo.admin.domain.pagination.CountMode;
+import io.github.catalogo.admin.domain.pagination.Pagination;
+import io.github.catalogo.admin.domain.pagination.SearchQuery;
+import io.github.catalogo.admin.domain.pagination.SortKey;
+import io.github.catalogo.admin.infrastructure.utils.CursorUtils;
+import io.github.catalogo.admin.infrastructure.utils.SearchTermUtils;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.util.BytesRef;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * In-memory full text index over the catalog names and descriptions, rebuilt from the database on
+ * startup. Writes become searchable within {@code maxStaleSeconds} without committing.
+ */
+public class LuceneSearchIndex implements Closeable {
+
+    private static final String KEY = "key";
+    private static final String TYPE = "type";
+    private static final String ID = "id";
+    private static final String NAME = "name";
+    private static final String DESCRIPTION = "description";
+    private static final String ID_SORT = "id_sort";
+    private static final String NAME_SORT = "name_sort";
+    private static final String CREATED_AT_SORT = "created_at_sort";
+
+    private static final float NAME_BOOST = 2.0f;
+    private static final int FUZZY_MIN_TOKEN_SIZE = 4;
+
+    private final Analyzer analyzer;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+
+    public LuceneSearchIndex(final double maxStaleSeconds) {
+        try {
+            this.analyzer = new FoldingAnalyzer();
+            this.writer = new IndexWriter(new ByteBuffersDirectory(), new IndexWriterConfig(this.analyzer));
+            this.searcherManager = new SearcherManager(this.writer, null);
+            this.reopenThread = new ControlledRealTimeReopenThread<>(
+                    this.writer, this.searcherManager, maxStaleSeconds, Math.min(0.025, maxStaleSeconds));
+            this.reopenThread.setName("lucene-nrt-reopen");
+            this.reopenThread.setDaemon(true);
+            this.reopenThread.start();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public void index(
+            final String aType,
+            final String anId,
+            final String aName,
+            final String aDescription,
+            final Instant aCreatedAt
+    ) {
+        final var aDocument = new Document();
+        aDocument.add(new StringField(KEY, key(aType, anId), Field.Store.NO));
+        aDocument.add(new StringField(TYPE, aType, Field.Store.NO));
+        aDocument.add(new StoredField(ID, anId));
+        aDocument.add(new SortedDocValuesField(ID_SORT, new BytesRef(anId)));
+        if (aName != null) {
+            aDocument.add(new TextField(NAME, aName, Field.Store.NO));
+            aDocument.add(new SortedDocValuesField(NAME_SORT, new BytesRef(SearchTermUtils.normalize(aName))));
+        }
+        if (aDescription != null) {
+            aDocument.add(new TextField(DESCRIPTION, aDescription, Field.Store.NO));
+        }
+        if (aCreatedAt != null) {
+            aDocument.add(new NumericDocValuesField(CREATED_AT_SORT, ChronoUnit.MICROS.between(Instant.EPOCH, aCreatedAt)));
+        }
+
+        try {
+            this.writer.updateDocument(new Term(KEY, key(aType, anId)), aDocument);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public void delete(final String aType, final Iterable<String> ids) {
+        final var keys = new ArrayList<Term>();
+        ids.forEach(anId -> keys.add(new Term(KEY, key(aType, anId))));
+
+        try {
+            this.writer.deleteDocuments(keys.toArray(Term[]::new));
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public void deleteAll(final String aType) {
+        try {
+            this.writer.deleteDocuments(new Term(TYPE, aType));
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Ids of the documents matching every token of the query terms, best match first and then in the
+     * query's sort. Tokens of at least four characters also match with one typo. Pages are offset
+     * only; with {@link CountMode#NONE} the total is left unknown and one id past the page tells
+     * whether there is a next one.
+     */
+    public Hits search(final String aType, final SearchQuery aSearchQuery) {
+        final var isCounted = aSearchQuery.count() != CountMode.NONE;
+        final var offset = (long) aSearchQuery.page() * aSearchQuery.perPage();
+        final var limit = isCounted ? aSearchQuery.perPage() : aSearchQuery.perPage() + 1;
+
+        final var tokens = tokens(aSearchQuery.terms());
+        if (tokens.isEmpty()) {
+            return new Hits(isCounted ? 0 : Pagination.UNKNOWN_TOTAL, List.of());
+        }
+
+        final var aBuilder = new BooleanQuery.Builder()
+                .add(new TermQuery(new Term(TYPE, aType)), Occur.FILTER);
+        tokens.forEach(aToken -> aBuilder.add(tokenQuery(aToken), Occur.MUST));
+        final var aQuery = aBuilder.build();
+
+        try {
+            final var aSearcher = this.searcherManager.acquire();
+            try {
+                // Lucene caps the hits it collects at the index size, so a page past the end returns none
+                final var numHits = (int) Math.min(Math.max(1, offset + limit), Integer.MAX_VALUE);
+                final var topDocs = aSearcher.search(aQuery, numHits, sort(aSearchQuery));
+                final long total;
+                if (!isCounted) {
+                    total = Pagination.UNKNOWN_TOTAL;
+                } else if (topDocs.totalHits.relation == TotalHits.Relation.EQUAL_TO) {
+                    total = topDocs.totalHits.value;
+                } else {
+                    total = aSearcher.count(aQuery);
+                }
+
+                final var ids = new ArrayList<String>(limit);
+                for (long i = offset; i < topDocs.scoreDocs.length && ids.size() < limit; i++) {
+                    ids.add(aSearcher.storedFields().document(topDocs.scoreDocs[(int) i].doc).get(ID));
+                }
+                return new Hits(total, ids);
+            } finally {
+                this.searcherManager.release(aSearcher);
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public void refresh() {
+        try {
+            this.searcherManager.maybeRefreshBlocking();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.reopenThread.close();
+        this.searcherManager.close();
+        this.writer.close();
+    }
+
+    // relevance first; as in the FULLTEXT search, the requested sort and then the id only break ties
+    private static Sort sort(final SearchQuery aSearchQuery) {
+        final var isDescending = !CursorUtils.isAscending(aSearchQuery);
+        final var aTieBreak = switch (SortKey.of(aSearchQuery.sort())) {
+            case ID -> new SortField(ID_SORT, SortField.Type.STRING, isDescending);
+            case NAME -> new SortField(NAME_SORT, SortField.Type.STRING, isDescending);
+            case CREATED_AT -> new SortField(CREATED_AT_SORT, SortField.Type.LONG, isDescending);
+        };
+        return new Sort(SortField.FIELD_SCORE, aTieBreak, new SortField(ID_SORT, SortField.Type.STRING, isDescending));
+    }
+
+    private static Query tokenQuery(final String aToken) {
+        final var aQuery = new BooleanQuery.Builder();
+        Stream.of(NAME, DESCRIPTION).forEach(aField -> {
+            final var boost = NAME.equals(aField) ? NAME_BOOST : 1.0f;
+            aQuery.add(new BoostQuery(new TermQuery(new Term(aField, aToken)), 2 * boost), Occur.SHOULD);
+            aQuery.add(new BoostQuery(new PrefixQuery(new Term(aField, aToken)), boost), Occur.SHOULD);
+            if (aToken.length() >= FUZZY_MIN_TOKEN_SIZE) {
+                aQuery.add(new BoostQuery(new FuzzyQuery(new Term(aField, aToken), 1), boost / 2), Occur.SHOULD);
+            }
+        });
+        return aQuery.build();
+    }
+
+    private List<String> tokens(final String terms) {
+        if (terms == null || terms.isBlank()) {
+            return List.of();
+        }
+
+        final var tokens = new ArrayList<String>();
+        try (final var aStream = this.analyzer.tokenStream(NAME, terms)) {
+            final var aTerm = aStream.addAttribute(CharTermAttribute.class);
+            aStream.reset();
+            while (aStream.incrementToken()) {
+                tokens.add(aTerm.toString());
+            }
+            aStream.end();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return tokens;
+    }
+
+    private static String key(final String aType, final String anId) {
+        return aType + ":" + anId;
+    }
+
+    public record Hits(long total, List<String> ids) {
+    }
+
+    private static final class FoldingAnalyzer extends Analyzer {
+
+        @Override
+        protected TokenStreamComponents createComponents(final String aFieldName) {
+            final var aTokenizer = new StandardTokenizer();
+            return new TokenStreamComponents(aTokenizer, new ASCIIFoldingFilter(new LowerCaseFilter(aTokenizer)));
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package io.github.catalogo.admin.infrastructure.search;
+
+import io.github.catalogo.admin.domain.pagination.Suggestion;
+import io.github.catalogo.admin.infrastructure.utils.SearchTermUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Entries sorted by normalized name in a flat array, so a lookup is a binary search for the prefix and
+ * a walk along the run of names that start with it. Writes go to a small sorted array that is merged
+ * into the large one once it outgrows the square root of the total, which keeps the rebuild's one put
+ * per row from copying the whole array every time. Replaced and removed entries stay in the large
+ * array until that merge and are skipped because they are no longer their id's current entry.
+ */
+public class PrefixSuggester {
+
+    private static final int MIN_PENDING = 256;
+
+    private static final Entry[] EMPTY = new Entry[0];
+
+    private static final Comparator<Entry> ORDER = Comparator.comparing(Entry::key)
+            .thenComparing(Entry::id);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Entry> entries = new HashMap<>();
+    private Entry[] sorted = EMPTY;
+    private Entry[] pending = EMPTY;
+    private int stale;
+
+    public List<Suggestion> suggest(final String aPrefix, final int aLimit) {
+        final var aKey = SearchTermUtils.normalize(aPrefix);
+
+        this.lock.readLock().lock();
+        try {
+            final var suggestions = new ArrayList<Suggestion>(aLimit);
+            var i = lowerBound(this.sorted, aKey);
+            var j = lowerBound(this.pending, aKey);
+            while (suggestions.size() < aLimit) {
+                final var aSorted = matching(this.sorted, i, aKey);
+                final var aPending = matching(this.pending, j, aKey);
+                if (aSorted == null && aPending == null) {
+                    break;
+                }
+
+                final Entry aNext;
+                if (aPending == null || (aSorted != null && ORDER.compare(aSorted, aPending) < 0)) {
+                    aNext = aSorted;
+                    i++;
+                } else {
+                    aNext = aPending;
+                    j++;
+                }
+                if (isCurrent(aNext)) {
+                    suggestions.add(new Suggestion(aNext.id(), aNext.name()));
+                }
+            }
+            return suggestions;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public void put(final String anId, final String aName) {
+        final var anEntry = new Entry(anId, aName, SearchTermUtils.normalize(aName));
+
+        this.lock.writeLock().lock();
+        try {
+            final var aPrevious = this.entries.put(anId, anEntry);
+            if (aPrevious != null) {
+                discard(aPrevious);
+            }
+            final var position = -Arrays.binarySearch(this.pending, anEntry, ORDER) - 1;
+            final var aPending = new Entry[this.pending.length + 1];
+            System.arraycopy(this.pending, 0, aPending, 0, position);
+            aPending[position] = anEntry;
+            System.arraycopy(this.pending, position, aPending, position + 1, this.pending.length - position);
+            this.pending = aPending;
+            mergeIfNeeded();
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(final String anId) {
+        this.lock.writeLock().lock();
+        try {
+            final var aPrevious = this.entries.remove(anId);
+            if (aPrevious != null) {
+                discard(aPrevious);
+                mergeIfNeeded();
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        this.lock.writeLock().lock();
+        try {
+            this.entries.clear();
+            this.sorted = EMPTY;
+            this.pending = EMPTY;
+            this.stale = 0;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    // an entry still pending is cut out right away, one in the large array is left for the next merge
+    private void discard(final Entry anEntry) {
+        final var position = Arrays.binarySearch(this.pending, anEntry, ORDER);
+        if (position < 0) {
+            this.stale++;
+            return;
+        }
+
+        final var aPending = new Entry[this.pending.length - 1];
+        System.arraycopy(this.pending, 0, aPending, 0, position);
+        System.arraycopy(this.pending, position + 1, aPending, position, aPending.length - position);
+        this.pending = aPending;
+    }
+
+    private void mergeIfNeeded() {
+        final var threshold = Math.max(MIN_PENDING, (int) Math.sqrt(this.entries.size()));
+        if (this.pending.length + this.stale <= threshold) {
+            return;
+        }
+
+        final var merged = new Entry[this.entries.size()];
+        var size = 0;
+        var i = 0;
+        var j = 0;
+        while (i < this.sorted.length || j < this.pending.length) {
+            final Entry aNext;
+            if (j == this.pending.length
+                    || (i < this.sorted.length && ORDER.compare(this.sorted[i], this.pending[j]) < 0)) {
+                aNext = this.sorted[i++];
+            } else {
+                aNext = this.pending[j++];
+            }
+            if (isCurrent(aNext)) {
+                merged[size++] = aNext;
+            }
+        }
+        this.sorted = merged;
+        this.pending = EMPTY;
+        this.stale = 0;
+    }
+
+    private boolean isCurrent(final Entry anEntry) {
+        return this.entries.get(anEntry.id()) == anEntry;
+    }
+
+    // first position whose key is not below aKey, where the run of keys starting with it begins
+    private static int lowerBound(final Entry[] anArray, final String aKey) {
+        var low = 0;
+        var high = anArray.length;
+        while (low < high) {
+            final var middle = (low + high) >>> 1;
+            if (anArray[middle].key().compareTo(aKey) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static Entry matching(final Entry[] anArray, final int anIndex, final String aKey) {
+        return anIndex < anArray.length && anArray[anIndex].key().startsWith(aKey) ? anArray[anIndex] : null;
+    }
+
+    private record Entry(String id, String name, String key) {
+    }
+}
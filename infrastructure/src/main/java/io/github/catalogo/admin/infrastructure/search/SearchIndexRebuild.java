@@ -0,0 +1,66 @@
+package io.github.catalogo.admin.infrastructure.search;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Runs the reload of an aggregate's in-memory search structures on a background thread. While it
+ * runs {@link #isRunning()} tells readers to go to the database. Writes go through {@link #write}
+ * and the reload through {@link #reload}, under one lock: the ids written meanwhile are remembered
+ * in the same step that writes them, so a row the reload read before the write is either put
+ * before the write overwrites it or skipped, never put after it.
+ */
+public class SearchIndexRebuild {
+
+    private final String name;
+    private final Object lock = new Object();
+    private final Set<String> written = new HashSet<>();
+    private volatile boolean running;
+
+    public SearchIndexRebuild(final String aName) {
+        this.name = Objects.requireNonNull(aName);
+    }
+
+    public void start(final Runnable aRebuild) {
+        synchronized (this.lock) {
+            this.written.clear();
+            this.running = true;
+        }
+
+        final var aThread = new Thread(() -> {
+            try {
+                aRebuild.run();
+            } finally {
+                synchronized (this.lock) {
+                    this.running = false;
+                    this.written.clear();
+                }
+            }
+        }, this.name);
+        aThread.setDaemon(true);
+        aThread.start();
+    }
+
+    public boolean isRunning() {
+        return this.running;
+    }
+
+    public void write(final Collection<String> ids, final Runnable aWrite) {
+        synchronized (this.lock) {
+            if (this.running) {
+                this.written.addAll(ids);
+            }
+            aWrite.run();
+        }
+    }
+
+    public void reload(final String anId, final Runnable aWrite) {
+        synchronized (this.lock) {
+            if (!this.written.contains(anId)) {
+                aWrite.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package io.github.catalogo.admin.infrastructure.utils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+public class CountCache {
+
+    private static final int MAX_ENTRIES = 1_024;
+
+    private final long ttlNanos;
+    private final Map<String, Entry> entries;
+    private final AtomicLong generation;
+
+    public CountCache(final Duration aTtl) {
+        this.ttlNanos = aTtl.toNanos();
+        this.entries = new ConcurrentHashMap<>();
+        this.generation = new AtomicLong();
+    }
+
+    public long get(final String aKey, final LongSupplier aCounter) {
+        final var now = System.nanoTime();
+        // read before counting, so a count that races an invalidation is stored as already stale
+        final var aGeneration = this.generation.get();
+        final var anEntry = this.entries.get(aKey);
+        if (anEntry != null && anEntry.generation() == aGeneration && now - anEntry.countedAt() < this.ttlNanos) {
+            return anEntry.count();
+        }
+
+        final var count = aCounter.getAsLong();
+        if (this.entries.size() >= MAX_ENTRIES) {
+            this.entries.clear();
+        }
+        this.entries.put(aKey, new Entry(count, now, aGeneration));
+        return count;
+    }
+
+    public void invalidateAll() {
+        this.generation.incrementAndGet();
+        this.entries.clear();
+    }
+
+    private record Entry(long count, long countedAt, long generation) {
+    }
+}
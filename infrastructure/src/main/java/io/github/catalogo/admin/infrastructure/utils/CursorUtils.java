@@ -0,0 +1,272 @@
+package io.github.catalogo.admin.infrastructure.utils;
+
+import io.github.catalogo.admin.domain.exceptions.DomainException;
+import io.github.catalogo.admin.domain.pagination.Cursor;
+import io.github.catalogo.admin.domain.pagination.Pagination;
+import io.github.catalogo.admin.domain.pagination.SearchQuery;
+import io.github.catalogo.admin.domain.validation.Error;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+public final class CursorUtils {
+
+    private static final String ID = "id";
+
+    private CursorUtils() {
+    }
+
+    /*
+     * A tampered or stale token is rejected here, as a validation error, instead of failing later in
+     * the id converter or while parsing the sort key.
+     */
+    public static Optional<Cursor> decode(
+            final EntityManager anEntityManager,
+            final Class<?> anEntityType,
+            final SearchQuery aQuery
+    ) {
+        final var aCursor = aQuery.decodedCursor();
+        aCursor.ifPresent(it -> validate(anEntityManager, anEntityType, aQuery, it));
+        return aCursor;
+    }
+
+    public static <T> List<T> seek(
+            final EntityManager anEntityManager,
+            final Class<T> anEntityType,
+            final Specification<T> aFilter,
+            final SearchQuery aQuery,
+            final Cursor aCursor
+    ) {
+        return seek(anEntityManager, anEntityType, anEntityType, aFilter, aQuery, aCursor);
+    }
+
+    public static <T, R> List<R> seek(
+            final EntityManager anEntityManager,
+            final Class<T> anEntityType,
+            final Class<R> aResultType,
+            final Specification<T> aFilter,
+            final SearchQuery aQuery,
+            final Cursor aCursor
+    ) {
+        // walking backwards scans in the opposite order, paginate(...) flips the rows back
+        final var ascending = isAscending(aQuery) != aCursor.before();
+
+        final var cb = anEntityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(aResultType);
+        final var root = query.from(anEntityType);
+
+        final var where = Specification.where(aFilter)
+                .and(SpecificationUtils.<T>seek(aQuery.sort(), aCursor, ascending));
+
+        query.select(selection(cb, root, aResultType))
+                .where(where.toPredicate(root, query, cb))
+                .orderBy(
+                        order(cb, root.get(aQuery.sort()), ascending),
+                        order(cb, root.get(ID), ascending)
+                );
+
+        return anEntityManager.createQuery(query)
+                .setMaxResults(aQuery.perPage() + 1)
+                .getResultList();
+    }
+
+    public static <T> Slice<T> slice(
+            final EntityManager anEntityManager,
+            final Class<T> anEntityType,
+            final Specification<T> aFilter,
+            final SearchQuery aQuery
+    ) {
+        return slice(anEntityManager, anEntityType, anEntityType, aFilter, aQuery);
+    }
+
+    /*
+     * The offset page without the COUNT(*): one extra row tells whether there is a next page.
+     */
+    public static <T, R> Slice<R> slice(
+            final EntityManager anEntityManager,
+            final Class<T> anEntityType,
+            final Class<R> aResultType,
+            final Specification<T> aFilter,
+            final SearchQuery aQuery
+    ) {
+        final var ascending = isAscending(aQuery);
+
+        final var cb = anEntityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(aResultType);
+        final var root = query.from(anEntityType);
+
+        query.select(selection(cb, root, aResultType));
+
+        final var where = Specification.where(aFilter).toPredicate(root, query, cb);
+        if (where != null) {
+            query.where(where);
+        }
+        query.orderBy(
+                order(cb, root.get(aQuery.sort()), ascending),
+                order(cb, root.get(ID), ascending)
+        );
+
+        final var rows = anEntityManager.createQuery(query)
+                .setFirstResult(aQuery.page() * aQuery.perPage())
+                .setMaxResults(aQuery.perPage() + 1)
+                .getResultList();
+
+        final var hasNext = rows.size() > aQuery.perPage();
+        return new SliceImpl<>(
+                hasNext ? rows.subList(0, aQuery.perPage()) : rows,
+                PageRequest.of(aQuery.page(), aQuery.perPage()),
+                hasNext
+        );
+    }
+
+    public static <T> Pagination<T> paginate(
+            final SearchQuery aQuery,
+            final Cursor aCursor,
+            final List<T> rows,
+            final long total
+    ) {
+        final var hasMore = rows.size() > aQuery.perPage();
+        final var items = new ArrayList<>(rows.subList(0, Math.min(rows.size(), aQuery.perPage())));
+        if (aCursor.before()) {
+            Collections.reverse(items);
+        }
+
+        if (items.isEmpty()) {
+            return new Pagination<>(aQuery.page(), aQuery.perPage(), total, List.of(), false, null, null);
+        }
+
+        final var first = items.get(0);
+        final var last = items.get(items.size() - 1);
+
+        return new Pagination<>(
+                aQuery.page(),
+                aQuery.perPage(),
+                total,
+                items,
+                aCursor.before() || hasMore ? after(last, aQuery.sort()) : null,
+                !aCursor.before() || hasMore ? before(first, aQuery.sort()) : null
+        );
+    }
+
+    public static <T> Pagination<T> paginate(final Slice<T> aSlice, final String aSort, final long total) {
+        final var items = aSlice.getContent();
+        if (items.isEmpty()) {
+            return new Pagination<>(aSlice.getNumber(), aSlice.getSize(), total, items, false, null, null);
+        }
+
+        return new Pagination<>(
+                aSlice.getNumber(),
+                aSlice.getSize(),
+                total,
+                items,
+                aSlice.hasNext() ? after(items.get(items.size() - 1), aSort) : null,
+                aSlice.hasPrevious() ? before(items.get(0), aSort) : null
+        );
+    }
+
+    /*
+     * Offset pages ranked by relevance, which carry no cursors. Without a total they are read with
+     * one row more than the page, which tells whether a next page exists.
+     */
+    public static <T> Pagination<T> paginate(final SearchQuery aQuery, final List<T> rows, final long total) {
+        if (total != Pagination.UNKNOWN_TOTAL) {
+            return new Pagination<>(aQuery.page(), aQuery.perPage(), total, rows);
+        }
+
+        final var items = List.copyOf(rows.subList(0, Math.min(rows.size(), aQuery.perPage())));
+        return new Pagination<>(aQuery.page(), aQuery.perPage(), total, items, rows.size() > aQuery.perPage(), null, null);
+    }
+
+    public static <T> Pagination<T> paginate(final Page<T> aPage, final String aSort) {
+        return paginate(aPage, aSort, aPage.getTotalElements());
+    }
+
+    public static boolean isAscending(final SearchQuery aQuery) {
+        return Direction.fromString(aQuery.direction()).isAscending();
+    }
+
+    private static void validate(
+            final EntityManager anEntityManager,
+            final Class<?> anEntityType,
+            final SearchQuery aQuery,
+            final Cursor aCursor
+    ) {
+        if (!UUIDBinaryConverter.isUUID(aCursor.id())) {
+            throw invalid(aQuery.cursor());
+        }
+        if (aCursor.key() == null) {
+            return;
+        }
+        if (ID.equals(aQuery.sort()) && !UUIDBinaryConverter.isUUID(aCursor.key())) {
+            throw invalid(aQuery.cursor());
+        }
+
+        final var aKeyType = anEntityManager.getMetamodel()
+                .entity(anEntityType)
+                .getAttribute(aQuery.sort())
+                .getJavaType();
+        try {
+            SpecificationUtils.keyOf(aKeyType, aCursor.key());
+        } catch (final DateTimeParseException e) {
+            throw invalid(aQuery.cursor());
+        }
+    }
+
+    private static DomainException invalid(final String aCursor) {
+        return DomainException.with(new Error("Invalid cursor '%s'".formatted(aCursor)));
+    }
+
+    private static String after(final Object anEntity, final String aSort) {
+        return Cursor.after(keyOf(anEntity, aSort), keyOf(anEntity, ID)).encode();
+    }
+
+    private static String before(final Object anEntity, final String aSort) {
+        return Cursor.before(keyOf(anEntity, aSort), keyOf(anEntity, ID)).encode();
+    }
+
+    private static String keyOf(final Object anEntity, final String aProperty) {
+        return Objects.toString(new DirectFieldAccessor(anEntity).getPropertyValue(aProperty), null);
+    }
+
+    /*
+     * Records are selected with a constructor expression over the attributes named like their
+     * components, which keeps the rows out of the persistence context.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T, R> Selection<R> selection(
+            final CriteriaBuilder cb,
+            final Root<T> root,
+            final Class<R> aResultType
+    ) {
+        if (!aResultType.isRecord()) {
+            return (Selection<R>) root;
+        }
+
+        final var attributes = Arrays.stream(aResultType.getRecordComponents())
+                .map(component -> root.get(component.getName()))
+                .toArray(Selection<?>[]::new);
+        return cb.construct(aResultType, attributes);
+    }
+
+    private static Order order(final CriteriaBuilder cb, final Expression<?> anExpression, final boolean ascending) {
+        return ascending ? cb.asc(anExpression) : cb.desc(anExpression);
+    }
+}
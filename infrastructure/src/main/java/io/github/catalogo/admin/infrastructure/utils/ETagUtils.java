@@ -0,0 +1,81 @@
+package io.github.catalogo.admin.infrastructure.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.List;
+
+public final class ETagUtils {
+
+    private static final String WEAK_PREFIX = "W/";
+    private static final char NULL_VALUE = '\u0000';
+    private static final char SEPARATOR = '\u001f';
+
+    private ETagUtils() {
+    }
+
+    /**
+     * Strong ETag of a single resource. The instant is cut to microseconds, the precision of the
+     * DATETIME(6) columns, so an aggregate still in memory and the same row read back agree.
+     */
+    public static String of(final String anId, final Instant updatedAt) {
+        return quote(anId + "-" + micros(updatedAt));
+    }
+
+    /**
+     * Strong ETag of a representation made of the given values, such as a page and the query that
+     * produced it. The values are hashed by their string form, so every instance holding the same
+     * representation computes the same tag.
+     */
+    public static String ofValues(final String aName, final List<?> values) {
+        final var aContent = new StringBuilder();
+        for (final var aValue : values) {
+            if (aValue == null) {
+                aContent.append(NULL_VALUE);
+            } else {
+                aContent.append(aValue);
+            }
+            aContent.append(SEPARATOR);
+        }
+        return quote(aName + "-" + HexFormat.of().formatHex(sha256(aContent.toString())));
+    }
+
+    /**
+     * Weak comparison, as If-None-Match requires: "W/" prefixes are ignored and "*" matches any tag.
+     */
+    public static boolean matches(final String anIfNoneMatch, final String anETag) {
+        if (anIfNoneMatch == null || anIfNoneMatch.isBlank()) {
+            return false;
+        }
+        for (final var aCandidate : anIfNoneMatch.split(",")) {
+            final var aTag = aCandidate.trim();
+            if ("*".equals(aTag) || stripWeak(aTag).equals(stripWeak(anETag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long micros(final Instant anInstant) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, anInstant);
+    }
+
+    private static byte[] sha256(final String aContent) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(aContent.getBytes(StandardCharsets.UTF_8));
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static String quote(final String aValue) {
+        return "\"" + aValue + "\"";
+    }
+
+    private static String stripWeak(final String aTag) {
+        return aTag.startsWith(WEAK_PREFIX) ? aTag.substring(WEAK_PREFIX.length()) : aTag;
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.catalogo.admin.infrastructure.utils;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+public final class FullTextUtils {
+
+    // InnoDB does not index shorter tokens (innodb_ft_min_token_size defaults to 3)
+    public static final int MIN_TOKEN_SIZE = 3;
+
+    private static final Pattern BOOLEAN_MODE_OPERATORS = Pattern.compile("[+\\-<>()~*\"@]");
+
+    private FullTextUtils() {
+    }
+
+    /**
+     * Turns free-text terms into a BOOLEAN MODE query requiring every token as a prefix
+     * ("+filmes* +acao*"), or empty when any token is too short to be in the index. Dropping that
+     * token would match rows the LIKE search rejects, so the caller falls back to LIKE instead.
+     */
+    public static Optional<String> booleanQuery(final String terms) {
+        if (terms == null || terms.isBlank()) {
+            return Optional.empty();
+        }
+
+        final var tokens = Arrays.stream(BOOLEAN_MODE_OPERATORS.matcher(terms).replaceAll(" ").trim().split("\\s+"))
+                .filter(token -> !token.isEmpty())
+                .toList();
+        if (tokens.isEmpty() || tokens.stream().anyMatch(token -> token.length() < MIN_TOKEN_SIZE)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(tokens.stream()
+                .map(token -> "+" + token + "*")
+                .collect(Collectors.joining(" ")));
+    }
+}
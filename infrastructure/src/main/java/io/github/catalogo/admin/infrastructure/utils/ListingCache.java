@@ -0,0 +1,69 @@
+package io.github.catalogo.admin.infrastructure.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.github.catalogo.admin.domain.pagination.Pagination;
+import io.github.catalogo.admin.domain.pagination.SearchQuery;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Caches listing pages by their {@link SearchQuery}. Every page is keyed with the generation it was
+ * loaded in, and {@link #invalidateAll()} moves the generation on and evicts the pages of the older
+ * ones. A page loaded before a write is therefore never served after it, even when its load
+ * finishes later. A page read again after
+ * refreshAfter is reloaded in the background while the cached one is still served.
+ */
+public class ListingCache<T> {
+
+    private final LongSupplier generation;
+    private final Runnable invalidation;
+    private final UnaryOperator<T> copier;
+    private final LoadingCache<Key, Pagination<T>> pages;
+
+    public ListingCache(
+            final LongSupplier aGeneration,
+            final Runnable anInvalidation,
+            final Function<SearchQuery, Pagination<T>> aLoader,
+            final UnaryOperator<T> aCopier,
+            final long maxEntries,
+            final Duration aRefreshAfter,
+            final Duration anExpireAfter
+    ) {
+        Objects.requireNonNull(aLoader);
+        this.generation = Objects.requireNonNull(aGeneration);
+        this.invalidation = Objects.requireNonNull(anInvalidation);
+        this.copier = Objects.requireNonNull(aCopier);
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .refreshAfterWrite(aRefreshAfter)
+                .expireAfterWrite(anExpireAfter)
+                .recordStats()
+                .build(aKey -> aLoader.apply(aKey.query()));
+    }
+
+    public Pagination<T> get(final SearchQuery aQuery) {
+        return this.pages.get(new Key(this.generation.getAsLong(), aQuery))
+                .map(this.copier);
+    }
+
+    public void invalidateAll() {
+        this.invalidation.run();
+    }
+
+    void evictAll() {
+        this.pages.invalidateAll();
+    }
+
+    public Cache<?, ?> cache() {
+        return this.pages;
+    }
+
+    private record Key(long generation, SearchQuery query) {
+    }
+}
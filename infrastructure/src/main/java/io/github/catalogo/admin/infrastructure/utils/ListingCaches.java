@@ -0,0 +1,57 @@
+package io.github.catalogo.admin.infrastructure.utils;
+
+import io.github.catalogo.admin.domain.pagination.Pagination;
+import io.github.catalogo.admin.domain.pagination.SearchQuery;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Creates the listing caches of every aggregate over one shared generation, so a write to any of
+ * them invalidates all listings: deleting a category also changes the genres that linked to it.
+ */
+public class ListingCaches {
+
+    private final AtomicLong generation = new AtomicLong();
+    private final List<ListingCache<?>> caches = new CopyOnWriteArrayList<>();
+    private final long maxEntries;
+    private final Duration refreshAfter;
+    private final Duration expireAfter;
+
+    public ListingCaches(final long maxEntries, final Duration aRefreshAfter, final Duration anExpireAfter) {
+        this.maxEntries = maxEntries;
+        this.refreshAfter = aRefreshAfter;
+        this.expireAfter = anExpireAfter;
+    }
+
+    public long generation() {
+        return this.generation.get();
+    }
+
+    // pages keyed with an older generation can never be read again, so they are evicted right away
+    public void invalidateAll() {
+        this.generation.incrementAndGet();
+        this.caches.forEach(ListingCache::evictAll);
+    }
+
+    public <T> ListingCache<T> create(
+            final Function<SearchQuery, Pagination<T>> aLoader,
+            final UnaryOperator<T> aCopier
+    ) {
+        final var aCache = new ListingCache<>(
+                this.generation::get,
+                this::invalidateAll,
+                aLoader,
+                aCopier,
+                this.maxEntries,
+                this.refreshAfter,
+                this.expireAfter
+        );
+        this.caches.add(aCache);
+        return aCache;
+    }
+}
@@ -0,0 +1,114 @@
+package io.github.catalogo.admin.infrastructure.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.catalogo.admin.domain.exceptions.DomainException;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the last result of a read for up to the hard TTL. Until the soft TTL the entry is served as is;
+ * after it, the entry is still served while a reload runs in the background. An entry read after a write
+ * (the version moved on) is reloaded in the caller, and only served if that reload fails. Domain errors
+ * such as a 404 are answers, not failures: they drop the entry and reach the caller. Every stale entry
+ * served is reported with its age.
+ */
+public class NearCache<K, V> {
+
+    private final Cache<K, Entry<V>> entries;
+    private final Set<K> refreshing;
+    private final LongSupplier version;
+    private final long softTtlNanos;
+    private final Consumer<Duration> onStaleRead;
+    private final Executor executor;
+
+    public NearCache(
+            final LongSupplier aVersion,
+            final Duration aSoftTtl,
+            final Duration aHardTtl,
+            final long maxEntries,
+            final Consumer<Duration> anOnStaleRead,
+            final Executor anExecutor
+    ) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(aHardTtl)
+                .recordStats()
+                .build();
+        this.refreshing = ConcurrentHashMap.newKeySet();
+        this.version = Objects.requireNonNull(aVersion);
+        this.softTtlNanos = aSoftTtl.toNanos();
+        this.onStaleRead = Objects.requireNonNull(anOnStaleRead);
+        this.executor = Objects.requireNonNull(anExecutor);
+    }
+
+    public V get(final K aKey, final Supplier<V> aLoader) {
+        final var anEntry = this.entries.getIfPresent(aKey);
+        if (anEntry == null) {
+            return load(aKey, aLoader);
+        }
+
+        if (anEntry.version() != this.version.getAsLong()) {
+            try {
+                return load(aKey, aLoader);
+            } catch (final DomainException e) {
+                throw e;
+            } catch (final RuntimeException e) {
+                return stale(anEntry);
+            }
+        }
+
+        if (anEntry.age() < this.softTtlNanos) {
+            return anEntry.value();
+        }
+
+        refresh(aKey, aLoader);
+        return stale(anEntry);
+    }
+
+    private V load(final K aKey, final Supplier<V> aLoader) {
+        final var aVersion = this.version.getAsLong();
+        try {
+            final var aValue = aLoader.get();
+            this.entries.put(aKey, new Entry<>(aValue, aVersion, System.nanoTime()));
+            return aValue;
+        } catch (final DomainException e) {
+            this.entries.invalidate(aKey);
+            throw e;
+        }
+    }
+
+    private void refresh(final K aKey, final Supplier<V> aLoader) {
+        if (!this.refreshing.add(aKey)) {
+            return;
+        }
+        try {
+            CompletableFuture.runAsync(() -> load(aKey, aLoader), this.executor)
+                    .whenComplete((ignored, error) -> this.refreshing.remove(aKey));
+        } catch (final RejectedExecutionException e) {
+            // the refresh pool is saturated: keep serving the entry and let a later read try again
+            this.refreshing.remove(aKey);
+        }
+    }
+
+    private V stale(final Entry<V> anEntry) {
+        this.onStaleRead.accept(Duration.ofNanos(anEntry.age()));
+        return anEntry.value();
+    }
+
+    private record Entry<V>(V value, long version, long loadedAt) {
+
+        long age() {
+            return System.nanoTime() - loadedAt;
+        }
+    }
+}
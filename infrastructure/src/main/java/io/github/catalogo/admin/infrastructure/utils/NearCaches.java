@@ -0,0 +1,80 @@
+package io.github.catalogo.admin.infrastructure.utils;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Creates the near-caches of the read use cases with the same TTLs, write version and stale read
+ * listener, all refreshed on one bounded pool that is shut down with the context. The disabled
+ * instance creates caches that always call the loader.
+ */
+public class NearCaches {
+
+    private final boolean enabled;
+    private final LongSupplier version;
+    private final Duration softTtl;
+    private final Duration hardTtl;
+    private final long maxEntries;
+    private final Consumer<Duration> onStaleRead;
+    private final ExecutorService executor;
+
+    public NearCaches(
+            final LongSupplier aVersion,
+            final Duration aSoftTtl,
+            final Duration aHardTtl,
+            final long maxEntries,
+            final Consumer<Duration> anOnStaleRead,
+            final ExecutorService anExecutor
+    ) {
+        this.enabled = true;
+        this.version = aVersion;
+        this.softTtl = aSoftTtl;
+        this.hardTtl = aHardTtl;
+        this.maxEntries = maxEntries;
+        this.onStaleRead = anOnStaleRead;
+        this.executor = anExecutor;
+    }
+
+    private NearCaches() {
+        this.enabled = false;
+        this.version = null;
+        this.softTtl = null;
+        this.hardTtl = null;
+        this.maxEntries = 0;
+        this.onStaleRead = null;
+        this.executor = null;
+    }
+
+    public static NearCaches disabled() {
+        return new NearCaches();
+    }
+
+    public <K, V> Reader<K, V> create() {
+        if (!this.enabled) {
+            return (aKey, aLoader) -> aLoader.get();
+        }
+        final var aCache = new NearCache<K, V>(
+                this.version,
+                this.softTtl,
+                this.hardTtl,
+                this.maxEntries,
+                this.onStaleRead,
+                this.executor
+        );
+        return aCache::get;
+    }
+
+    public void close() {
+        if (this.executor != null) {
+            this.executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    public interface Reader<K, V> {
+        V get(K aKey, Supplier<V> aLoader);
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.catalogo.admin.infrastructure.utils;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public final class SearchTermUtils {
+
+    public static final char LIKE_ESCAPE = '!';
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+    private SearchTermUtils() {
+    }
+
+    /**
+     * Lower-cased, accent-free form stored in the name_search columns, so "Ação" and "acao" match.
+     */
+    public static String normalize(final String aValue) {
+        if (aValue == null) {
+            return null;
+        }
+
+        final var decomposed = Normalizer.normalize(aValue, Normalizer.Form.NFD);
+        final var unaccented = COMBINING_MARKS.matcher(decomposed).replaceAll("");
+        return WHITESPACES.matcher(unaccented.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    public static String escapeLike(final String aValue) {
+        return aValue
+                .replace(String.valueOf(LIKE_ESCAPE), "" + LIKE_ESCAPE + LIKE_ESCAPE)
+                .replace("%", LIKE_ESCAPE + "%")
+                .replace("_", LIKE_ESCAPE + "_");
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.catalogo.admin.infrastructure.utils;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key: the first caller runs the supplier and every caller
+ * that arrives while it is in flight waits for and receives the same result, or the same exception.
+ * Nothing is kept once the call finishes, so a later call always runs again.
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public V execute(final K aKey, final Supplier<V> aSupplier) {
+        final var aCall = new CompletableFuture<V>();
+        final var aRunningCall = this.inFlight.putIfAbsent(aKey, aCall);
+        if (aRunningCall != null) {
+            return await(aRunningCall);
+        }
+
+        try {
+            final var aResult = aSupplier.get();
+            aCall.complete(aResult);
+            return aResult;
+        } catch (final Throwable t) {
+            aCall.completeExceptionally(t);
+            throw t;
+        } finally {
+            this.inFlight.remove(aKey, aCall);
+        }
+    }
+
+    public int inFlight() {
+        return this.inFlight.size();
+    }
+
+    private static <V> V await(final CompletableFuture<V> aCall) {
+        try {
+            return aCall.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            if (e.getCause() instanceof Error err) {
+                throw err;
+            }
+            throw e;
+        }
+    }
+}
@@ -1,17 +1,81 @@
 package io.github.catalogo.admin.infrastructure.utils;
 
+import io.github.catalogo.admin.domain.pagination.Cursor;
 import org.springframework.data.jpa.domain.Specification;
 
+import javax.persistence.criteria.Path;
+import java.time.Instant;
+
 public final class SpecificationUtils {
 
     private SpecificationUtils() {
     }
 
     public static <T> Specification<T> like(final String prop, final String term) {
-        return (root, query, cb) -> cb.like(cb.upper(root.get(prop)), like(term.toUpperCase()));
+        return (root, query, cb) -> cb.like(
+                cb.upper(root.get(prop)),
+                like(SearchTermUtils.escapeLike(term.toUpperCase())),
+                SearchTermUtils.LIKE_ESCAPE
+        );
+    }
+
+    /*
+     * Rows strictly after the cursor in (prop, id) order. Nulls sort first ascending and last
+     * descending, as they do in MySQL.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public static <T> Specification<T> seek(final String prop, final Cursor aCursor, final boolean ascending) {
+        return (root, query, cb) -> {
+            final Path<Comparable> sortKey = root.get(prop);
+            final Path<String> id = root.get("id");
+
+            final var sameKeyAfterId = ascending
+                    ? cb.greaterThan(id, aCursor.id())
+                    : cb.lessThan(id, aCursor.id());
+
+            if (aCursor.key() == null) {
+                final var sameKey = cb.and(cb.isNull(sortKey), sameKeyAfterId);
+                return ascending ? cb.or(sameKey, cb.isNotNull(sortKey)) : sameKey;
+            }
+
+            final Comparable key = keyOf(sortKey.getJavaType(), aCursor.key());
+            final var afterKey = ascending ? cb.greaterThan(sortKey, key) : cb.lessThan(sortKey, key);
+            final var sameKey = cb.and(cb.equal(sortKey, key), sameKeyAfterId);
+            return ascending ? cb.or(afterKey, sameKey) : cb.or(afterKey, sameKey, cb.isNull(sortKey));
+        };
+    }
+
+    /**
+     * Matches the already normalized prop against a normalized term without wrapping the column
+     * in a function, so the prefix form can range-scan an index on it.
+     */
+    public static <T> Specification<T> contains(final String prop, final String normalizedTerm) {
+        return (root, query, cb) -> cb.like(
+                root.get(prop),
+                "%" + SearchTermUtils.escapeLike(normalizedTerm) + "%",
+                SearchTermUtils.LIKE_ESCAPE
+        );
+    }
+
+    public static <T> Specification<T> startsWith(final String prop, final String normalizedTerm) {
+        return (root, query, cb) -> cb.like(
+                root.get(prop),
+                SearchTermUtils.escapeLike(normalizedTerm) + "%",
+                SearchTermUtils.LIKE_ESCAPE
+        );
     }
 
     private static String like(final String term) {
         return "%" + term + "%";
     }
+
+    static Comparable<?> keyOf(final Class<?> aType, final String aKey) {
+        if (Instant.class.equals(aType)) {
+            return Instant.parse(aKey);
+        }
+        if (Boolean.class.equals(aType) || boolean.class.equals(aType)) {
+            return Boolean.valueOf(aKey);
+        }
+        return aKey;
+    }
 }
@@ -0,0 +1,55 @@
+package io.github.catalogo.admin.infrastructure.utils;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Stores the canonical string form of an identifier as the 16 raw bytes of the UUID.
+ */
+@Converter
+public class UUIDBinaryConverter implements AttributeConverter<String, byte[]> {
+
+    private static final Pattern UUID_PATTERN =
+            Pattern.compile("^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
+
+    public static boolean isUUID(final String anId) {
+        return anId != null && UUID_PATTERN.matcher(anId).matches();
+    }
+
+    public static byte[] toBytes(final String anId) {
+        if (anId == null) {
+            return null;
+        }
+        if (!isUUID(anId)) {
+            throw new IllegalArgumentException("Identifier '%s' is not a UUID".formatted(anId));
+        }
+
+        final var uuid = UUID.fromString(anId);
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    public static String fromBytes(final byte[] aValue) {
+        if (aValue == null) {
+            return null;
+        }
+
+        final var buffer = ByteBuffer.wrap(aValue);
+        return new UUID(buffer.getLong(), buffer.getLong()).toString();
+    }
+
+    @Override
+    public byte[] convertToDatabaseColumn(final String anId) {
+        return toBytes(anId);
+    }
+
+    @Override
+    public String convertToEntityAttribute(final byte[] aValue) {
+        return fromBytes(aValue);
+    }
+}
@@ -0,0 +1,5 @@
+DROP INDEX idx_category_name ON category;
+DROP INDEX idx_category_created_at ON category;
+
+DROP INDEX idx_genres_name ON genres;
+DROP INDEX idx_genres_created_at ON genres;
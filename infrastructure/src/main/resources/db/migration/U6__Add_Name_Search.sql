@@ -0,0 +1,5 @@
+DROP INDEX idx_category_name_search ON category;
+ALTER TABLE category DROP COLUMN name_search;
+
+DROP INDEX idx_genres_name_search ON genres;
+ALTER TABLE genres DROP COLUMN name_search;
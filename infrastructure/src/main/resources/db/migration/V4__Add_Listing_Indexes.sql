@@ -0,0 +1,5 @@
+CREATE INDEX idx_category_name ON category (name, id);
+CREATE INDEX idx_category_created_at ON category (created_at, id);
+
+CREATE INDEX idx_genres_name ON genres (name, id);
+CREATE INDEX idx_genres_created_at ON genres (created_at, id);
@@ -0,0 +1,68 @@
+package io.github.catalogo.admin;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+public final class Benchmarks {
+
+    private Benchmarks() {
+    }
+
+    /**
+     * Rows to seed, overridable with -Dbenchmark.rows so a run can be scaled to the machine.
+     */
+    public static int rows(final int aDefault) {
+        return Integer.getInteger("benchmark.rows", aDefault);
+    }
+
+    /**
+     * Runs the task warmups + iterations times, passing the iteration index, and prints the latency
+     * of the measured runs.
+     */
+    public static Result measure(final String aName, final int warmups, final int iterations, final IntConsumer aTask) {
+        for (int i = 0; i < warmups; i++) {
+            aTask.accept(i);
+        }
+
+        final var nanos = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            final long start = System.nanoTime();
+            aTask.accept(warmups + i);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+
+        final var aResult = new Result(
+                aName,
+                iterations,
+                Duration.ofNanos(percentile(nanos, 50)),
+                Duration.ofNanos(percentile(nanos, 99)),
+                Duration.ofNanos(Arrays.stream(nanos).sum())
+        );
+        report(aResult.toString());
+        return aResult;
+    }
+
+    public static void report(final String aLine) {
+        System.out.println("[benchmark] " + aLine);
+    }
+
+    private static long percentile(final long[] sortedNanos, final int aPercentile) {
+        final var index = (int) Math.ceil(aPercentile / 100.0 * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)];
+    }
+
+    public record Result(String name, int iterations, Duration p50, Duration p99, Duration total) {
+
+        public double perSecond() {
+            return iterations / (total.toNanos() / 1_000_000_000.0);
+        }
+
+        @Override
+        public String toString() {
+            return "%s: %d runs, p50 %d us, p99 %d us, %.0f runs/s".formatted(
+                    name, iterations, p50.toNanos() / 1_000, p99.toNanos() / 1_000, perSecond());
+        }
+    }
+}
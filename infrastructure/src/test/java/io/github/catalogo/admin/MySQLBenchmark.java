@@ -0,0 +1,22 @@
+package io.github.catalogo.admin;
+
+import io.github.catalogo.admin.infrastructure.configuration.WebServerConfig;
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.annotation.*;
+
+/**
+ * Benchmarks against a real MySQL container. They are tagged "benchmark", left out of the test
+ * task and run with ./gradlew :infrastructure:benchmark.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Tag("benchmark")
+@ActiveProfiles("test-e2e")
+@SpringBootTest(classes = {WebServerConfig.class})
+public @interface MySQLBenchmark {
+
+}
@@ -15,9 +15,10 @@ import static org.springframework.context.annotation.FilterType.REGEX;
 @DataJpaTest
 @ActiveProfiles("test-integration")
 @ComponentScan(
-        basePackages = "com.fullcycle.admin.catalogo",
+        basePackages = "io.github.catalogo.admin",
+        useDefaultFilters = false,
         includeFilters = {
-                @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".[MySQLGateway]")
+                @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*MySQLGateway")
         }
 )
 @ExtendWith(CleanUpExtension.class)
@@ -0,0 +1,117 @@
+package io.github.catalogo.admin.benchmark.category;
+
+import io.github.catalogo.admin.Benchmarks;
+import io.github.catalogo.admin.MySQLBenchmark;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/*
+ * Before and after of V3: the same rows keyed by VARCHAR(36) and by BINARY(16), each with the
+ * (name, id) and (created_at, id) listing indexes, which carry the primary key in every entry.
+ */
+@MySQLBenchmark
+@Testcontainers(disabledWithoutDocker = true)
+public class CategoryIdStorageBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final int LOOKUPS = 10_000;
+
+    @Container
+    private static final MySQLContainer MYSQL_CONTAINER
+            = new MySQLContainer("mysql:latest")
+            .withDatabaseName("adm_videos")
+            .withUsername("root")
+            .withPassword("123456");
+
+    @DynamicPropertySource
+    public static void setDatasourceProperties(final DynamicPropertyRegistry registry) {
+        registry.add("mysql.port", () -> MYSQL_CONTAINER.getMappedPort(3306));
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void compareIndexSizeAndPointLookupsOfVarcharAndBinaryIds() {
+        final var ids = randomIds(Benchmarks.rows(500_000));
+
+        createTable("bench_category_varchar", "VARCHAR(36)");
+        createTable("bench_category_binary", "BINARY(16)");
+        seed("bench_category_varchar", "?", ids);
+        seed("bench_category_binary", "UUID_TO_BIN(?)", ids);
+
+        Benchmarks.report("%d rows".formatted(ids.size()));
+        reportSizes("bench_category_varchar");
+        reportSizes("bench_category_binary");
+
+        final var random = ThreadLocalRandom.current();
+        final var lookups = new ArrayList<String>(LOOKUPS * 2);
+        for (int i = 0; i < LOOKUPS * 2; i++) {
+            lookups.add(ids.get(random.nextInt(ids.size())));
+        }
+
+        Benchmarks.measure("VARCHAR(36) point lookup", LOOKUPS, LOOKUPS, i -> assertEquals(1, jdbcTemplate.queryForList(
+                "SELECT id, name FROM bench_category_varchar WHERE id = ?", lookups.get(i)).size()));
+        Benchmarks.measure("BINARY(16) point lookup", LOOKUPS, LOOKUPS, i -> assertEquals(1, jdbcTemplate.queryForList(
+                "SELECT id, name FROM bench_category_binary WHERE id = UUID_TO_BIN(?)", lookups.get(i)).size()));
+    }
+
+    private void createTable(final String aTable, final String anIdType) {
+        jdbcTemplate.execute("""
+                CREATE TABLE %s (
+                    id %s NOT NULL PRIMARY KEY,
+                    name VARCHAR(255) NOT NULL,
+                    created_at DATETIME(6) NOT NULL,
+                    INDEX idx_%1$s_name (name, id),
+                    INDEX idx_%1$s_created_at (created_at, id)
+                )
+                """.formatted(aTable, anIdType));
+    }
+
+    private void seed(final String aTable, final String anIdExpression, final List<String> ids) {
+        final var aSql = "INSERT INTO %s (id, name, created_at) VALUES (%s, ?, ?)".formatted(aTable, anIdExpression);
+        final var now = Instant.now();
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            final var aBatch = new ArrayList<Object[]>(BATCH_SIZE);
+            for (int i = from; i < Math.min(from + BATCH_SIZE, ids.size()); i++) {
+                aBatch.add(new Object[]{ids.get(i), "Category " + i, Timestamp.from(now.plusMillis(i))});
+            }
+            jdbcTemplate.batchUpdate(aSql, aBatch);
+        }
+        jdbcTemplate.execute("ANALYZE TABLE " + aTable);
+    }
+
+    private void reportSizes(final String aTable) {
+        jdbcTemplate.queryForList("""
+                        SELECT index_name, stat_value * @@innodb_page_size AS bytes
+                        FROM mysql.innodb_index_stats
+                        WHERE database_name = DATABASE() AND table_name = ? AND stat_name = 'size'
+                        ORDER BY index_name
+                        """, aTable)
+                .forEach(row -> Benchmarks.report("%s.%s: %d KiB".formatted(
+                        aTable, row.get("index_name"), ((Number) row.get("bytes")).longValue() / 1024)));
+    }
+
+    private static List<String> randomIds(final int aCount) {
+        final var ids = new ArrayList<String>(aCount);
+        for (int i = 0; i < aCount; i++) {
+            ids.add(UUID.randomUUID().toString());
+        }
+        return ids;
+    }
+}
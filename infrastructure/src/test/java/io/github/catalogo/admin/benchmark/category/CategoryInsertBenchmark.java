@@ -0,0 +1,86 @@
+package io.github.catalogo.admin.benchmark.category;
+
+import io.github.catalogo.admin.Benchmarks;
+import io.github.catalogo.admin.MySQLBenchmark;
+import io.github.catalogo.admin.domain.utils.IdUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/*
+ * Insert throughput into a large category table with random v4 ids against time-ordered v7 ids.
+ * The buffer pool is kept small so the primary key outgrows it at a row count a container can
+ * seed; that is where scattered v4 inserts start reading pages back from disk.
+ */
+@MySQLBenchmark
+@Testcontainers(disabledWithoutDocker = true)
+public class CategoryInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final int WARMUP_BATCHES = 10;
+    private static final int MEASURED_BATCHES = 100;
+
+    @Container
+    private static final MySQLContainer MYSQL_CONTAINER
+            = new MySQLContainer("mysql:latest")
+            .withDatabaseName("adm_videos")
+            .withUsername("root")
+            .withPassword("123456")
+            .withCommand("--innodb-buffer-pool-size=32M");
+
+    @DynamicPropertySource
+    public static void setDatasourceProperties(final DynamicPropertyRegistry registry) {
+        registry.add("mysql.port", () -> MYSQL_CONTAINER.getMappedPort(3306));
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void compareInsertThroughputOfRandomAndTimeOrderedIds() {
+        final var rows = Benchmarks.rows(1_000_000);
+
+        compare("bench_category_v4", rows, UUID::randomUUID);
+        compare("bench_category_v7", rows, IdUtils::uuidV7);
+    }
+
+    private void compare(final String aTable, final int rows, final Supplier<UUID> anIdGenerator) {
+        jdbcTemplate.execute("CREATE TABLE %s LIKE category".formatted(aTable));
+        for (int i = 0; i < rows / BATCH_SIZE; i++) {
+            insertBatch(aTable, anIdGenerator);
+        }
+        Benchmarks.report("%s seeded with %d rows".formatted(aTable, rows));
+
+        final var aResult = Benchmarks.measure(
+                aTable + " insert of " + BATCH_SIZE + " rows",
+                WARMUP_BATCHES,
+                MEASURED_BATCHES,
+                i -> insertBatch(aTable, anIdGenerator)
+        );
+        Benchmarks.report("%s: %.0f rows/s".formatted(aTable, aResult.perSecond() * BATCH_SIZE));
+    }
+
+    private void insertBatch(final String aTable, final Supplier<UUID> anIdGenerator) {
+        final var now = Timestamp.from(Instant.now());
+        final var aBatch = new ArrayList<Object[]>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            final var anId = anIdGenerator.get().toString();
+            aBatch.add(new Object[]{anId, "Category " + anId, "category " + anId, now, now});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO %s (id, name, name_search, description, active, created_at, updated_at)
+                VALUES (UUID_TO_BIN(?), ?, ?, NULL, TRUE, ?, ?)
+                """.formatted(aTable), aBatch);
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.catalogo.admin.benchmark.category;
+
+import io.github.catalogo.admin.Benchmarks;
+import io.github.catalogo.admin.MySQLBenchmark;
+import io.github.catalogo.admin.domain.pagination.SearchQuery;
+import io.github.catalogo.admin.infrastructure.category.CategoryMySQLGateway;
+import io.github.catalogo.admin.infrastructure.category.persistence.CategoryRepository;
+import io.github.catalogo.admin.infrastructure.search.LuceneSearchIndex;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.persistence.EntityManager;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/*
+ * Category searches through the LIKE specifications and through the FULLTEXT index, on the same
+ * seeded table and through the same gateway code, only listing.search.fulltext differs.
+ */
+@MySQLBenchmark
+@Testcontainers(disabledWithoutDocker = true)
+public class CategorySearchBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final int WARMUPS = 5;
+    private static final int ITERATIONS = 30;
+    private static final int RARE_EVERY = 1_000;
+
+    private static final List<String> WORDS = List.of(
+            "filmes", "series", "documentarios", "animacao", "acao", "comedia", "drama", "terror",
+            "romance", "suspense", "aventura", "fantasia", "musical", "policial", "guerra", "faroeste"
+    );
+
+    @Container
+    private static final MySQLContainer MYSQL_CONTAINER
+            = new MySQLContainer("mysql:latest")
+            .withDatabaseName("adm_videos")
+            .withUsername("root")
+            .withPassword("123456");
+
+    @DynamicPropertySource
+    public static void setDatasourceProperties(final DynamicPropertyRegistry registry) {
+        registry.add("mysql.port", () -> MYSQL_CONTAINER.getMappedPort(3306));
+    }
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectProvider<LuceneSearchIndex> searchIndex;
+
+    @Test
+    public void compareLikeAndFullTextSearchOnAMillionCategories() {
+        final var rows = Benchmarks.rows(1_000_000);
+        seed(rows);
+        Benchmarks.report("category seeded with %d rows".formatted(rows));
+
+        final var likeGateway = gateway(false);
+        final var fullTextGateway = gateway(true);
+
+        for (final var aTerm : List.of("raridade", "drama")) {
+            final var aQuery = new SearchQuery(0, 10, aTerm, "name", "asc");
+
+            final var likeTotal = likeGateway.findAll(aQuery).total();
+            final var fullTextTotal = fullTextGateway.findAll(aQuery).total();
+            Benchmarks.report("'%s' matches %d categories (LIKE) and %d (FULLTEXT)".formatted(aTerm, likeTotal, fullTextTotal));
+            if ("raridade".equals(aTerm)) {
+                assertEquals(likeTotal, fullTextTotal);
+            }
+
+            Benchmarks.measure("LIKE '%s'".formatted(aTerm), WARMUPS, ITERATIONS, i -> likeGateway.findAll(aQuery));
+            Benchmarks.measure("FULLTEXT '%s'".formatted(aTerm), WARMUPS, ITERATIONS, i -> fullTextGateway.findAll(aQuery));
+        }
+    }
+
+    private CategoryMySQLGateway gateway(final boolean isFullTextSearch) {
+        return new CategoryMySQLGateway(
+                categoryRepository,
+                entityManager,
+                Duration.ZERO,
+                isFullTextSearch,
+                searchIndex
+        );
+    }
+
+    // names and descriptions are drawn from a small vocabulary; one row in RARE_EVERY also mentions "raridade"
+    private void seed(final int rows) {
+        final var now = Instant.now();
+        for (int from = 0; from < rows; from += BATCH_SIZE) {
+            final var aBatch = new ArrayList<Object[]>(BATCH_SIZE);
+            for (int i = from; i < Math.min(from + BATCH_SIZE, rows); i++) {
+                final var aName = word(i) + " " + word(i / WORDS.size()) + " " + i;
+                final var aDescription = "Categoria de " + word(i / 7) + " e " + word(i / 13)
+                        + (i % RARE_EVERY == 0 ? " raridade" : "");
+                final var aTimestamp = Timestamp.from(now.plusMillis(i));
+                aBatch.add(new Object[]{UUID.randomUUID().toString(), aName, aName, aDescription, aTimestamp, aTimestamp});
+            }
+            jdbcTemplate.batchUpdate("""
+                    INSERT INTO category (id, name, name_search, description, active, created_at, updated_at)
+                    VALUES (UUID_TO_BIN(?), ?, ?, ?, TRUE, ?, ?)
+                    """, aBatch);
+        }
+        jdbcTemplate.execute("ANALYZE TABLE category");
+    }
+
+    private static String word(final int anIndex) {
+        return WORDS.get(anIndex % WORDS.size());
+    }
+}
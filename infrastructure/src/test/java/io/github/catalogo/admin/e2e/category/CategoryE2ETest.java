@@ -18,8 +18,10 @@ import org.testcontainers.containers.MySQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
@@ -132,7 +134,7 @@ public class CategoryE2ETest {
     }
 
     @Test
-    public void asACatalogAdminIShouldBeAbleToSortAllCategoriesByDescriptionDesc() throws Exception {
+    public void asACatalogAdminIShouldBeAbleToSortAllCategoriesByNameDesc() throws Exception {
         assertTrue(MYSQL_CONTAINER.isRunning());
         assertEquals(0, categoryRepository.count());
 
@@ -140,15 +142,24 @@ public class CategoryE2ETest {
         givenACategory("Documentários", "Z", true);
         givenACategory("Séries", "A", true);
 
-        listCategories(0, 3, "", "description", "desc")
+        listCategories(0, 3, "", "name", "desc")
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.current_page", equalTo(0)))
                 .andExpect(jsonPath("$.per_page", equalTo(3)))
                 .andExpect(jsonPath("$.total", equalTo(3)))
                 .andExpect(jsonPath("$.items", hasSize(3)))
-                .andExpect(jsonPath("$.items[0].name", equalTo("Documentários")))
+                .andExpect(jsonPath("$.items[0].name", equalTo("Séries")))
                 .andExpect(jsonPath("$.items[1].name", equalTo("Filmes")))
-                .andExpect(jsonPath("$.items[2].name", equalTo("Séries")));
+                .andExpect(jsonPath("$.items[2].name", equalTo("Documentários")));
+    }
+
+    @Test
+    public void asACatalogAdminIShouldNotBeAbleToSortCategoriesByAnUnindexedColumn() throws Exception {
+        assertTrue(MYSQL_CONTAINER.isRunning());
+
+        listCategories(0, 3, "", "description", "desc")
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors[0].message", equalTo("Invalid sort 'description'")));
     }
 
     @Test
@@ -276,6 +287,23 @@ public class CategoryE2ETest {
         assertNull(actualCategory.getDeletedAt());
     }
 
+    @Test
+    public void asACatalogAdminIShouldBeAbleToSearchCategoriesByRelevanceUsingTheFullTextIndex() throws Exception {
+        assertTrue(MYSQL_CONTAINER.isRunning());
+        assertEquals(0, categoryRepository.count());
+
+        givenACategory("Filmes", null, true);
+        givenACategory("Ação", "Filmes de ação e filmes de aventura", true);
+        givenACategory("Séries", "Séries de TV", true);
+
+        listCategories(0, 10, "filme")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", equalTo(2)))
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[*].name", containsInAnyOrder("Filmes", "Ação")))
+                .andExpect(jsonPath("$.next", nullValue()));
+    }
+
     private ResultActions listCategories(final int page, final int perPage) throws Exception {
         return listCategories(page, perPage, "", "", "");
     }
@@ -296,7 +324,7 @@ public class CategoryE2ETest {
                 .queryParam("perPage", String.valueOf(perPage))
                 .queryParam("search", search)
                 .queryParam("sort", sort)
-                .queryParam("dir", direction)
+                .queryParam("direction", direction)
                 .accept(APPLICATION_JSON)
                 .contentType(APPLICATION_JSON);
 
@@ -2,32 +2,44 @@ package io.github.catalogo.admin.infrastructure.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.catalogo.admin.ControllerTest;
+import io.github.catalogo.admin.application.category.create.CreateCategoriesOutput;
+import io.github.catalogo.admin.application.category.create.CreateCategoriesUseCase;
 import io.github.catalogo.admin.application.category.create.CreateCategoryOutput;
 import io.github.catalogo.admin.application.category.create.CreateCategoryUseCase;
+import io.github.catalogo.admin.application.category.delete.DeleteCategoriesUseCase;
 import io.github.catalogo.admin.application.category.delete.DeleteCategoryUseCase;
 import io.github.catalogo.admin.application.category.retrieve.get.CategoryOutput;
 import io.github.catalogo.admin.application.category.retrieve.get.GetCategoryByIddUseCase;
 import io.github.catalogo.admin.application.category.retrieve.list.CategoryListOutput;
 import io.github.catalogo.admin.application.category.retrieve.list.ListCategoryUseCase;
+import io.github.catalogo.admin.application.category.retrieve.suggest.CategorySuggestionOutput;
+import io.github.catalogo.admin.application.category.retrieve.suggest.SuggestCategoriesUseCase;
 import io.github.catalogo.admin.application.category.update.UpdateCategoryOutput;
 import io.github.catalogo.admin.application.category.update.UpdateCategoryUseCase;
+import io.github.catalogo.admin.application.genre.retrieve.bycategory.ListGenresByCategoryUseCase;
 import io.github.catalogo.admin.domain.category.Category;
 import io.github.catalogo.admin.domain.category.CategoryId;
 import io.github.catalogo.admin.domain.exceptions.DomainException;
 import io.github.catalogo.admin.domain.exceptions.NotFoundException;
+import io.github.catalogo.admin.domain.pagination.CountMode;
+import io.github.catalogo.admin.domain.pagination.MatchMode;
 import io.github.catalogo.admin.domain.pagination.Pagination;
+import io.github.catalogo.admin.domain.pagination.SuggestQuery;
 import io.github.catalogo.admin.domain.validation.Error;
 import io.github.catalogo.admin.domain.validation.handler.Notification;
 import io.github.catalogo.admin.infrastructure.category.models.CreateCategoryRequest;
 import io.github.catalogo.admin.infrastructure.category.models.UpdateCategoryRequest;
+import io.github.catalogo.admin.infrastructure.utils.ETagUtils;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import static io.vavr.API.Left;
@@ -55,6 +67,9 @@ public class CategoryAPITests {
     @MockBean
     private CreateCategoryUseCase createCategoryUseCase;
 
+    @MockBean
+    private CreateCategoriesUseCase createCategoriesUseCase;
+
     @MockBean
     private GetCategoryByIddUseCase getCategoryByIddUseCase;
 
@@ -64,9 +79,18 @@ public class CategoryAPITests {
     @MockBean
     private DeleteCategoryUseCase deleteCategoryUseCase;
 
+    @MockBean
+    private DeleteCategoriesUseCase deleteCategoriesUseCase;
+
     @MockBean
     private ListCategoryUseCase listCategoriesUseCase;
 
+    @MockBean
+    private SuggestCategoriesUseCase suggestCategoriesUseCase;
+
+    @MockBean
+    private ListGenresByCategoryUseCase listGenresByCategoryUseCase;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -148,6 +172,59 @@ public class CategoryAPITests {
                         && Objects.equals(expectIsActive, cmd.isActive())));
     }
 
+    @Test
+    void givenValidAndInvalidCommands_whenCallsCreateCategories_shouldReturnCreatedIdsAndErrorsByPosition() throws Exception {
+        final var expectedMessage = format(FIELD_CANNOT_BE_NULL_ERROR_MESSAGE, "name");
+
+        when(createCategoriesUseCase.execute(any()))
+                .thenReturn(Right(CreateCategoriesOutput.with(
+                        List.of(CreateCategoryOutput.from(CategoryId.from("123"))),
+                        Map.of(1, Notification.create(new Error(expectedMessage)))
+                )));
+
+        final var anInput = List.of(
+                new CreateCategoryRequest("Filmes", "A categoria mais assistida", null),
+                new CreateCategoryRequest(null, "Sem nome", false)
+        );
+
+        this.mvc.perform(MockMvcRequestBuilders.post("/categories/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(this.mapper.writeValueAsString(anInput)))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.created_ids", hasSize(1)),
+                        jsonPath("$.created_ids[0]", equalTo("123")),
+                        jsonPath("$.errors['1'][0].message", equalTo(expectedMessage))
+                );
+
+        verify(createCategoriesUseCase).execute(argThat(cmds ->
+                cmds.size() == 2
+                        && Objects.equals("Filmes", cmds.get(0).name())
+                        && cmds.get(0).isActive()
+                        && Objects.isNull(cmds.get(1).name())
+                        && !cmds.get(1).isActive()));
+    }
+
+    @Test
+    void givenOnlyValidCommands_whenCallsCreateCategories_shouldReturnCreated() throws Exception {
+        when(createCategoriesUseCase.execute(any()))
+                .thenReturn(Right(CreateCategoriesOutput.with(
+                        List.of(CreateCategoryOutput.from(CategoryId.from("123"))),
+                        Map.of()
+                )));
+
+        final var anInput = List.of(new CreateCategoryRequest("Filmes", null, true));
+
+        this.mvc.perform(MockMvcRequestBuilders.post("/categories/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(this.mapper.writeValueAsString(anInput)))
+                .andExpectAll(
+                        status().isCreated(),
+                        jsonPath("$.created_ids[0]", equalTo("123")),
+                        jsonPath("$.errors", anEmptyMap())
+                );
+    }
+
     @Test
     public void givenAValidId_whenCallsGetCategory_shouldReturnCategory() throws Exception {
         final var expectedName = "Filmes";
@@ -176,6 +253,57 @@ public class CategoryAPITests {
         verify(getCategoryByIddUseCase).execute(eq(expectedId));
     }
 
+    @Test
+    public void givenAValidId_whenCallsGetCategory_shouldReturnItsETag() throws Exception {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var expectedId = aCategory.getId().getValue();
+        final var expectedETag = ETagUtils.of(expectedId, aCategory.getUpdatedAt());
+
+        when(getCategoryByIddUseCase.execute(any()))
+                .thenReturn(CategoryOutput.from(aCategory));
+
+        mvc.perform(get("/categories/{id}", expectedId)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, expectedETag));
+    }
+
+    @Test
+    public void givenTheCurrentETag_whenCallsGetCategory_shouldReturnNotModifiedWithoutABody() throws Exception {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var expectedId = aCategory.getId().getValue();
+        final var expectedETag = ETagUtils.of(expectedId, aCategory.getUpdatedAt());
+
+        when(getCategoryByIddUseCase.execute(any()))
+                .thenReturn(CategoryOutput.from(aCategory));
+
+        mvc.perform(get("/categories/{id}", expectedId)
+                        .header(HttpHeaders.IF_NONE_MATCH, expectedETag)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, expectedETag))
+                .andExpect(content().string(""));
+
+        verify(getCategoryByIddUseCase).execute(eq(expectedId));
+    }
+
+    @Test
+    public void givenAnOutdatedETag_whenCallsGetCategory_shouldReturnTheCategory() throws Exception {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var expectedId = aCategory.getId().getValue();
+        final var anOutdatedETag = ETagUtils.of(expectedId, aCategory.getUpdatedAt().minusSeconds(1));
+
+        when(getCategoryByIddUseCase.execute(any()))
+                .thenReturn(CategoryOutput.from(aCategory));
+
+        mvc.perform(get("/categories/{id}", expectedId)
+                        .header(HttpHeaders.IF_NONE_MATCH, anOutdatedETag)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETagUtils.of(expectedId, aCategory.getUpdatedAt())))
+                .andExpect(jsonPath("$.id", equalTo(expectedId)));
+    }
+
     @Test
     public void givenAInvalidId_whenCallsGetCategory_shouldReturnNotFound() throws Exception {
         final var expectedErrorMessage = "Category with id 123 was not found";
@@ -301,6 +429,48 @@ public class CategoryAPITests {
         verify(deleteCategoryUseCase).execute(eq(expectedId));
     }
 
+    @Test
+    public void givenSomeIds_whenCallsDeleteCategories_shouldDeleteThemAtOnce() throws Exception {
+        final var expectedIds = List.of("123", "456");
+
+        doNothing().when(deleteCategoriesUseCase).execute(any());
+
+        mvc.perform(delete("/categories/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(this.mapper.writeValueAsString(expectedIds)))
+                .andExpect(status().isNoContent());
+
+        verify(deleteCategoriesUseCase).execute(eq(expectedIds));
+        verify(deleteCategoryUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenTooManyIds_whenCallsDeleteCategories_shouldReturnUnprocessableEntity() throws Exception {
+        final var expectedMessage = "'ids' must not have more than 1000 entries";
+
+        doThrow(DomainException.with(new Error(expectedMessage))).when(deleteCategoriesUseCase).execute(any());
+
+        mvc.perform(delete("/categories/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(this.mapper.writeValueAsString(List.of("123", "456"))))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedMessage)));
+    }
+
+    @Test
+    public void givenNoSort_whenCallsListCategories_shouldSortByName() throws Exception {
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 10, 0, List.of()));
+
+        mvc.perform(get("/categories")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        verify(listCategoriesUseCase).execute(argThat(query ->
+                Objects.equals("name", query.sort())
+                        && Objects.equals("asc", query.direction())));
+    }
+
     @Test
     public void givenValidParams_whenCallsListCategories_shouldReturnCategories() throws Exception {
         final var aCategory = Category.newCategory("Movies", null, true);
@@ -346,4 +516,233 @@ public class CategoryAPITests {
                     && Objects.equals(expectedSort, query.sort())
                     && Objects.equals(expectedTerms, query.terms())));
     }
+
+    @Test
+    public void givenACursor_whenCallsListCategories_shouldForwardItAndReturnTheNextCursors() throws Exception {
+        final var aCategory = Category.newCategory("Movies", null, true);
+
+        final var expectedPage = 0;
+        final var expectedPerPage = 10;
+        final var expectedTotal = 11;
+        final var expectedCursor = "bjE6MTIz";
+        final var expectedNext = "bjE6NDU2";
+        final var expectedPrev = "cDE6MTIz";
+
+        final var expectedItems = List.of(CategoryListOutput.from(aCategory));
+
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(new Pagination<>(expectedPage, expectedPerPage, expectedTotal, expectedItems, expectedNext, expectedPrev));
+
+        mvc.perform(get("/categories")
+                        .queryParam("cursor", expectedCursor)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.next", equalTo(expectedNext)))
+                .andExpect(jsonPath("$.prev", equalTo(expectedPrev)))
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andDo(print());
+
+        verify(listCategoriesUseCase).execute(argThat(query -> Objects.equals(expectedCursor, query.cursor())));
+    }
+
+    @Test
+    public void givenACountMode_whenCallsListCategories_shouldForwardItAndReturnHasNext() throws Exception {
+        final var aCategory = Category.newCategory("Movies", null, true);
+
+        final var expectedPage = 0;
+        final var expectedPerPage = 1;
+        final var expectedCount = CountMode.NONE;
+        final var expectedItems = List.of(CategoryListOutput.from(aCategory));
+
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(new Pagination<>(expectedPage, expectedPerPage, Pagination.UNKNOWN_TOTAL, expectedItems, true, null, null));
+
+        mvc.perform(get("/categories")
+                        .queryParam("perPage", String.valueOf(expectedPerPage))
+                        .queryParam("count", "none")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", equalTo(-1)))
+                .andExpect(jsonPath("$.has_next", equalTo(true)))
+                .andDo(print());
+
+        verify(listCategoriesUseCase).execute(argThat(query -> Objects.equals(expectedCount, query.count())));
+    }
+
+    @Test
+    public void givenTheCurrentPageETag_whenCallsListCategories_shouldReturnNotModifiedWithoutABody() throws Exception {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 10, 1, List.of(CategoryListOutput.from(aCategory))));
+
+        final var expectedETag = mvc.perform(get("/categories")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mvc.perform(get("/categories")
+                        .header(HttpHeaders.IF_NONE_MATCH, expectedETag)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, expectedETag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    public void givenAChangedPage_whenCallsListCategories_shouldReturnItWithANewETag() throws Exception {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var anUpdatedCategory = aCategory.clone().update("Filmes e Series", null, true);
+
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 10, 1, List.of(CategoryListOutput.from(aCategory))))
+                .thenReturn(new Pagination<>(0, 10, 1, List.of(CategoryListOutput.from(anUpdatedCategory))));
+
+        final var anOutdatedETag = mvc.perform(get("/categories")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mvc.perform(get("/categories")
+                        .header(HttpHeaders.IF_NONE_MATCH, anOutdatedETag)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(equalTo(anOutdatedETag))))
+                .andExpect(jsonPath("$.items[0].name", equalTo("Filmes e Series")));
+    }
+
+    @Test
+    public void givenTheETagOfAnotherQuery_whenCallsListCategories_shouldReturnThePage() throws Exception {
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 10, 0, List.of()));
+
+        final var anotherQueryETag = mvc.perform(get("/categories")
+                        .queryParam("search", "filmes")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mvc.perform(get("/categories")
+                        .queryParam("search", "series")
+                        .header(HttpHeaders.IF_NONE_MATCH, anotherQueryETag)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(equalTo(anotherQueryETag))));
+    }
+
+    @Test
+    public void givenAnInvalidCountMode_whenCallsListCategories_shouldReturnUnprocessableEntity() throws Exception {
+        final var expectedErrorMessage = "Invalid count mode 'approximate'";
+
+        mvc.perform(get("/categories")
+                        .queryParam("count", "approximate")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
+
+        verify(listCategoriesUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenAPrefixMatch_whenCallsListCategories_shouldForwardIt() throws Exception {
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 10, 0, List.of()));
+
+        mvc.perform(get("/categories")
+                        .queryParam("search", "acao")
+                        .queryParam("match", "prefix")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        verify(listCategoriesUseCase).execute(argThat(query -> Objects.equals(MatchMode.PREFIX, query.match())));
+    }
+
+    @Test
+    public void givenAnInvalidMatchMode_whenCallsListCategories_shouldReturnUnprocessableEntity() throws Exception {
+        final var expectedErrorMessage = "Invalid match mode 'fuzzy'";
+
+        mvc.perform(get("/categories")
+                        .queryParam("match", "fuzzy")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
+
+        verify(listCategoriesUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenAPrefix_whenCallsSuggestCategories_shouldReturnSuggestions() throws Exception {
+        final var aCategory = Category.newCategory("Ação", null, true);
+        final var expectedPrefix = "ac";
+        final var expectedLimit = 5;
+
+        when(suggestCategoriesUseCase.execute(any()))
+                .thenReturn(List.of(new CategorySuggestionOutput(aCategory.getId(), aCategory.getName())));
+
+        mvc.perform(get("/categories/suggest")
+                        .queryParam("prefix", expectedPrefix)
+                        .queryParam("limit", String.valueOf(expectedLimit))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", equalTo(aCategory.getId().getValue())))
+                .andExpect(jsonPath("$[0].name", equalTo(aCategory.getName())));
+
+        verify(suggestCategoriesUseCase).execute(eq(new SuggestQuery(expectedPrefix, expectedLimit)));
+        verify(listCategoriesUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenALimitAboveTheMaximum_whenCallsSuggestCategories_shouldReturnUnprocessableEntity() throws Exception {
+        mvc.perform(get("/categories/suggest")
+                        .queryParam("prefix", "ac")
+                        .queryParam("limit", "50")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors[0].message", equalTo("'limit' must be between 1 and 10")));
+
+        verify(suggestCategoriesUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenACursor_whenCallsListGenresOfCategory_shouldReturnGenreIdsAndTheNextCursor() throws Exception {
+        final var expectedId = "123";
+        final var expectedCursor = "bjA3OjQ1Ng";
+        final var expectedNext = "bjA3Ojc4OQ";
+        final var expectedPerPage = 2;
+        final var expectedItems = List.of("456", "789");
+
+        when(listGenresByCategoryUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, expectedPerPage, Pagination.UNKNOWN_TOTAL, expectedItems, expectedNext, null));
+
+        mvc.perform(get("/categories/{id}/genres", expectedId)
+                        .queryParam("cursor", expectedCursor)
+                        .queryParam("perPage", String.valueOf(expectedPerPage))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", equalTo(-1)))
+                .andExpect(jsonPath("$.next", equalTo(expectedNext)))
+                .andExpect(jsonPath("$.items", equalTo(expectedItems)));
+
+        verify(listGenresByCategoryUseCase).execute(argThat(cmd ->
+                Objects.equals(expectedId, cmd.categoryId())
+                        && Objects.equals(expectedCursor, cmd.cursor())
+                        && Objects.equals(expectedPerPage, cmd.perPage())
+        ));
+    }
+
+    @Test
+    public void givenAnUnknownCategory_whenCallsListGenresOfCategory_shouldReturnNotFound() throws Exception {
+        final var expectedErrorMessage = "Category with id 123 was not found";
+
+        when(listGenresByCategoryUseCase.execute(any()))
+                .thenThrow(NotFoundException.with(Category.class, CategoryId.from("123")));
+
+        mvc.perform(get("/categories/{id}/genres", "123")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+    }
 }
@@ -0,0 +1,299 @@
+package io.github.catalogo.admin.infrastructure.api;
+
+import io.github.catalogo.admin.ControllerTest;
+import io.github.catalogo.admin.application.category.retrieve.get.CategoryOutput;
+import io.github.catalogo.admin.application.genre.retrieve.categories.ListGenreCategoriesUseCase;
+import io.github.catalogo.admin.application.genre.retrieve.expand.GenreListWithCategoriesOutput;
+import io.github.catalogo.admin.application.genre.retrieve.expand.GenreWithCategoriesOutput;
+import io.github.catalogo.admin.application.genre.retrieve.expand.GetGenreWithCategoriesUseCase;
+import io.github.catalogo.admin.application.genre.retrieve.expand.ListGenresWithCategoriesUseCase;
+import io.github.catalogo.admin.application.genre.retrieve.get.GenreOutput;
+import io.github.catalogo.admin.application.genre.retrieve.get.GenreSummaryOutput;
+import io.github.catalogo.admin.application.genre.retrieve.get.GetGenreByIdUseCase;
+import io.github.catalogo.admin.application.genre.retrieve.get.GetGenreSummaryByIdUseCase;
+import io.github.catalogo.admin.application.genre.retrieve.list.GenreListOutput;
+import io.github.catalogo.admin.application.genre.retrieve.list.ListGenreUseCase;
+import io.github.catalogo.admin.application.genre.retrieve.suggest.GenreSuggestionOutput;
+import io.github.catalogo.admin.application.genre.retrieve.suggest.SuggestGenresUseCase;
+import io.github.catalogo.admin.domain.category.Category;
+import io.github.catalogo.admin.domain.category.CategoryId;
+import io.github.catalogo.admin.domain.genre.Genre;
+import io.github.catalogo.admin.domain.pagination.Pagination;
+import io.github.catalogo.admin.domain.pagination.SuggestQuery;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Objects;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ControllerTest(controllers = GenreAPI.class)
+public class GenreAPITests {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private ListGenreUseCase listGenreUseCase;
+
+    @MockBean
+    private SuggestGenresUseCase suggestGenresUseCase;
+
+    @MockBean
+    private GetGenreByIdUseCase getGenreByIdUseCase;
+
+    @MockBean
+    private GetGenreSummaryByIdUseCase getGenreSummaryByIdUseCase;
+
+    @MockBean
+    private ListGenreCategoriesUseCase listGenreCategoriesUseCase;
+
+    @MockBean
+    private ListGenresWithCategoriesUseCase listGenresWithCategoriesUseCase;
+
+    @MockBean
+    private GetGenreWithCategoriesUseCase getGenreWithCategoriesUseCase;
+
+    @Test
+    public void givenValidParams_whenCallsListGenres_shouldReturnGenres() throws Exception {
+        final var aGenre = Genre.newGenre("Ação", true);
+        aGenre.addCategory(CategoryId.from("123"));
+
+        final var expectedPage = 0;
+        final var expectedPerPage = 10;
+        final var expectedTerms = "ac";
+        final var expectedSort = "createdAt";
+        final var expectedDirection = "desc";
+        final var expectedCursor = "bjE6MTIz";
+        final var expectedNext = "bjE6NDU2";
+        final var expectedItemsCount = 1;
+        final var expectedTotal = 11;
+
+        final var expectedItems = List.of(GenreListOutput.from(aGenre));
+
+        when(listGenreUseCase.execute(any()))
+                .thenReturn(new Pagination<>(expectedPage, expectedPerPage, expectedTotal, expectedItems, expectedNext, null));
+
+        mvc.perform(get("/genres")
+                        .queryParam("page", String.valueOf(expectedPage))
+                        .queryParam("perPage", String.valueOf(expectedPerPage))
+                        .queryParam("sort", expectedSort)
+                        .queryParam("direction", expectedDirection)
+                        .queryParam("search", expectedTerms)
+                        .queryParam("cursor", expectedCursor)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.current_page", equalTo(expectedPage)))
+                .andExpect(jsonPath("$.per_page", equalTo(expectedPerPage)))
+                .andExpect(jsonPath("$.total", equalTo(expectedTotal)))
+                .andExpect(jsonPath("$.next", equalTo(expectedNext)))
+                .andExpect(jsonPath("$.items", hasSize(expectedItemsCount)))
+                .andExpect(jsonPath("$.items[0].id", equalTo(aGenre.getId().getValue())))
+                .andExpect(jsonPath("$.items[0].name", equalTo(aGenre.getName())))
+                .andExpect(jsonPath("$.items[0].is_active", equalTo(aGenre.isActive())))
+                .andExpect(jsonPath("$.items[0].categories_id[0]", equalTo("123")))
+                .andExpect(jsonPath("$.items[0].created_at", equalTo(aGenre.getCreatedAt().toString())))
+                .andDo(print());
+
+        verify(listGenreUseCase).execute(argThat(query -> Objects.equals(expectedPage, query.page())
+                && Objects.equals(expectedPerPage, query.perPage())
+                && Objects.equals(expectedDirection, query.direction())
+                && Objects.equals(expectedSort, query.sort())
+                && Objects.equals(expectedTerms, query.terms())
+                && Objects.equals(expectedCursor, query.cursor())));
+    }
+
+    @Test
+    public void givenAPrefix_whenCallsSuggestGenres_shouldReturnSuggestions() throws Exception {
+        final var aGenre = Genre.newGenre("Ação", true);
+        final var expectedPrefix = "ac";
+
+        when(suggestGenresUseCase.execute(any()))
+                .thenReturn(List.of(new GenreSuggestionOutput(aGenre.getId().getValue(), aGenre.getName())));
+
+        mvc.perform(get("/genres/suggest")
+                        .queryParam("prefix", expectedPrefix)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", equalTo(aGenre.getId().getValue())))
+                .andExpect(jsonPath("$[0].name", equalTo(aGenre.getName())));
+
+        verify(suggestGenresUseCase).execute(eq(new SuggestQuery(expectedPrefix, 10)));
+    }
+
+    @Test
+    public void givenAValidId_whenCallsGetGenre_shouldReturnOnlyTheCategoriesCount() throws Exception {
+        final var aGenre = Genre.newGenre("Ação", true);
+        final var expectedId = aGenre.getId().getValue();
+
+        when(getGenreSummaryByIdUseCase.execute(any()))
+                .thenReturn(new GenreSummaryOutput(expectedId, aGenre.getName(), true, 25_000L,
+                        aGenre.getCreatedAt(), aGenre.getUpdatedAt(), null));
+
+        mvc.perform(get("/genres/{id}", expectedId)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", equalTo(expectedId)))
+                .andExpect(jsonPath("$.name", equalTo(aGenre.getName())))
+                .andExpect(jsonPath("$.categories_count", equalTo(25_000)))
+                .andExpect(jsonPath("$.categories_id").doesNotExist());
+
+        verify(getGenreSummaryByIdUseCase).execute(eq(expectedId));
+        verify(getGenreByIdUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenTheIdsMode_whenCallsGetGenre_shouldEmbedTheCategoryIds() throws Exception {
+        final var aGenre = Genre.newGenre("Ação", true)
+                .addCategories(List.of(CategoryId.from("123"), CategoryId.from("456")));
+        final var expectedId = aGenre.getId().getValue();
+
+        when(getGenreByIdUseCase.execute(any()))
+                .thenReturn(GenreOutput.from(aGenre));
+
+        mvc.perform(get("/genres/{id}", expectedId)
+                        .queryParam("categories", "ids")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.categories_id", equalTo(List.of("123", "456"))))
+                .andExpect(jsonPath("$.categories_count", equalTo(2)));
+
+        verify(getGenreSummaryByIdUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenAnInvalidCategoriesMode_whenCallsGetGenre_shouldReturnUnprocessableEntity() throws Exception {
+        mvc.perform(get("/genres/{id}", "123")
+                        .queryParam("categories", "all")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors[0].message", equalTo("Invalid categories mode 'all'")));
+    }
+
+    @Test
+    public void givenACursor_whenCallsListGenreCategories_shouldReturnCategoryIdsAndTheNextCursor() throws Exception {
+        final var expectedCursor = "bjA3OjQ1Ng";
+        final var expectedNext = "bjA3Ojc4OQ";
+        final var expectedItems = List.of("456", "789");
+
+        when(listGenreCategoriesUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 2, Pagination.UNKNOWN_TOTAL, expectedItems, expectedNext, null));
+
+        mvc.perform(get("/genres/{id}/categories", "123")
+                        .queryParam("cursor", expectedCursor)
+                        .queryParam("perPage", "2")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", equalTo(-1)))
+                .andExpect(jsonPath("$.next", equalTo(expectedNext)))
+                .andExpect(jsonPath("$.items", equalTo(expectedItems)));
+
+        verify(listGenreCategoriesUseCase).execute(argThat(cmd ->
+                Objects.equals("123", cmd.genreId())
+                        && Objects.equals(expectedCursor, cmd.cursor())
+                        && Objects.equals(2, cmd.perPage())
+        ));
+    }
+
+    @Test
+    public void givenExpandCategories_whenCallsListGenres_shouldEmbedTheCategoriesOfEachGenre() throws Exception {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, true);
+
+        final var acao = Genre.newGenre("Ação", true)
+                .addCategories(List.of(filmes.getId(), series.getId()));
+        final var drama = Genre.newGenre("Drama", true)
+                .addCategory(filmes.getId());
+
+        final var expectedItems = List.of(
+                new GenreListWithCategoriesOutput(
+                        GenreListOutput.from(acao),
+                        List.of(CategoryOutput.from(filmes), CategoryOutput.from(series))
+                ),
+                new GenreListWithCategoriesOutput(
+                        GenreListOutput.from(drama),
+                        List.of(CategoryOutput.from(filmes))
+                )
+        );
+
+        when(listGenresWithCategoriesUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 10, 2, expectedItems));
+
+        mvc.perform(get("/genres")
+                        .queryParam("expand", "categories")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].categories", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].categories[0].name", equalTo("Filmes")))
+                .andExpect(jsonPath("$.items[0].categories[1].name", equalTo("Series")))
+                .andExpect(jsonPath("$.items[1].categories", hasSize(1)))
+                .andExpect(jsonPath("$.items[1].categories[0].id", equalTo(filmes.getId().getValue())));
+
+        verify(listGenresWithCategoriesUseCase, times(1)).execute(any());
+        verify(listGenreUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenExpandCategories_whenCallsGetById_shouldEmbedTheCategories() throws Exception {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var aGenre = Genre.newGenre("Ação", true)
+                .addCategory(filmes.getId());
+        final var expectedId = aGenre.getId().getValue();
+
+        when(getGenreWithCategoriesUseCase.execute(any()))
+                .thenReturn(new GenreWithCategoriesOutput(GenreOutput.from(aGenre), List.of(CategoryOutput.from(filmes))));
+
+        mvc.perform(get("/genres/{id}", expectedId)
+                        .queryParam("expand", "categories")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.categories_id", equalTo(List.of(filmes.getId().getValue()))))
+                .andExpect(jsonPath("$.categories", hasSize(1)))
+                .andExpect(jsonPath("$.categories[0].name", equalTo("Filmes")));
+
+        verify(getGenreWithCategoriesUseCase).execute(eq(expectedId));
+        verify(getGenreByIdUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenNoExpand_whenCallsListGenres_shouldNotLoadTheCategories() throws Exception {
+        when(listGenreUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 10, 1, List.of(GenreListOutput.from(Genre.newGenre("Ação", true)))));
+
+        mvc.perform(get("/genres")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].categories").doesNotExist());
+
+        verify(listGenresWithCategoriesUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenAnUnknownExpand_whenCallsListGenres_shouldReturnUnprocessableEntity() throws Exception {
+        when(listGenreUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 10, 0, List.of()));
+
+        mvc.perform(get("/genres")
+                        .queryParam("expand", "videos")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors[0].message", equalTo("Invalid expand 'videos'")));
+    }
+}
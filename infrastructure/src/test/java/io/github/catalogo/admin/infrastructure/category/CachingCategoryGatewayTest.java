@@ -0,0 +1,118 @@
+package io.github.catalogo.admin.infrastructure.category;
+
+import io.github.catalogo.admin.domain.category.Category;
+import io.github.catalogo.admin.domain.category.CategoryGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CachingCategoryGatewayTest {
+
+    @Mock
+    private CategoryGateway delegate;
+
+    private CachingCategoryGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        gateway = new CachingCategoryGateway(delegate, 1024 * 1024, Duration.ofMinutes(10), null);
+    }
+
+    @Test
+    void givenACachedCategory_whenCallsFindByIdTwice_shouldReadTheDelegateOnceAndCountAHit() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+
+        when(delegate.findById(eq(aCategory.getId())))
+                .thenReturn(Optional.of(aCategory));
+
+        final var firstRead = gateway.findById(aCategory.getId()).orElseThrow();
+        final var secondRead = gateway.findById(aCategory.getId()).orElseThrow();
+
+        assertEquals(aCategory.getName(), secondRead.getName());
+        assertNotSame(firstRead, secondRead);
+        verify(delegate, times(1)).findById(eq(aCategory.getId()));
+        assertEquals(1, gateway.stats().hitCount());
+        assertEquals(1, gateway.stats().missCount());
+    }
+
+    @Test
+    void givenACachedCategory_whenTheCallerMutatesIt_shouldNotChangeTheCachedCopy() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+
+        when(delegate.findById(eq(aCategory.getId())))
+                .thenReturn(Optional.of(aCategory));
+
+        gateway.findById(aCategory.getId()).orElseThrow()
+                .update("Series", "mutated", false);
+
+        final var actualCategory = gateway.findById(aCategory.getId()).orElseThrow();
+        assertEquals("Filmes", actualCategory.getName());
+        assertTrue(actualCategory.isActive());
+    }
+
+    @Test
+    void givenACachedCategory_whenCallsUpdate_shouldServeTheUpdatedCategoryWithoutReadingTheDelegate() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var anUpdatedCategory = aCategory.clone().update("Series", null, true);
+
+        when(delegate.findById(eq(aCategory.getId())))
+                .thenReturn(Optional.of(aCategory));
+        when(delegate.update(any()))
+                .thenReturn(anUpdatedCategory);
+
+        gateway.findById(aCategory.getId());
+        gateway.update(anUpdatedCategory);
+
+        assertEquals("Series", gateway.findById(aCategory.getId()).orElseThrow().getName());
+        verify(delegate, times(1)).findById(eq(aCategory.getId()));
+    }
+
+    @Test
+    void givenACachedCategory_whenCallsDeleteById_shouldReadTheDelegateAgain() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+
+        when(delegate.findById(eq(aCategory.getId())))
+                .thenReturn(Optional.of(aCategory), Optional.empty());
+
+        gateway.findById(aCategory.getId());
+        gateway.deleteById(aCategory.getId());
+
+        assertTrue(gateway.findById(aCategory.getId()).isEmpty());
+        verify(delegate, times(2)).findById(eq(aCategory.getId()));
+    }
+
+    @Test
+    void givenSomeCachedCategories_whenCallsFindAllByIds_shouldLoadOnlyTheMissingOnesInOneCall() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, true);
+
+        when(delegate.findById(eq(filmes.getId())))
+                .thenReturn(Optional.of(filmes));
+        when(delegate.findAllByIds(eq(List.of(series.getId()))))
+                .thenReturn(List.of(series));
+
+        gateway.findById(filmes.getId());
+        final var actualCategories = gateway.findAllByIds(List.of(filmes.getId(), series.getId(), filmes.getId()));
+
+        assertEquals(List.of(filmes.getId(), series.getId()), actualCategories.stream().map(Category::getId).toList());
+        verify(delegate, times(1)).findAllByIds(any());
+        verify(delegate, never()).findById(eq(series.getId()));
+    }
+}
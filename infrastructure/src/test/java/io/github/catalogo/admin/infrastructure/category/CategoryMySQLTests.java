@@ -1,12 +1,34 @@
 package io.github.catalogo.admin.infrastructure.category;
 
+import db.migration.V8__Backfill_Name_Search;
 import io.github.catalogo.admin.domain.category.Category;
 import io.github.catalogo.admin.domain.category.CategoryId;
+import io.github.catalogo.admin.domain.exceptions.DomainException;
+import io.github.catalogo.admin.domain.pagination.CountMode;
+import io.github.catalogo.admin.domain.pagination.Cursor;
+import io.github.catalogo.admin.domain.pagination.MatchMode;
+import io.github.catalogo.admin.domain.pagination.Pagination;
 import io.github.catalogo.admin.domain.pagination.SearchQuery;
+import io.github.catalogo.admin.domain.pagination.SuggestQuery;
+import io.github.catalogo.admin.domain.pagination.Suggestion;
 import io.github.catalogo.admin.MySQLGatewayTest;
 import io.github.catalogo.admin.infrastructure.category.persistence.CategoryRepository;
+import io.github.catalogo.admin.infrastructure.utils.UUIDBinaryConverter;
+import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.api.migration.Context;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import javax.persistence.EntityManager;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
 
 import static io.github.catalogo.admin.domain.category.Category.newCategory;
 import static io.github.catalogo.admin.infrastructure.category.persistence.CategoryJpaEntity.from;
@@ -24,6 +46,12 @@ public class CategoryMySQLTests {
     @Autowired
     private CategoryMySQLGateway categoryMySQLGateway;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     void givenAValidCategory_whenCallsCreate_shouldReturnANewCategory() {
         final var expectedName = "Filmes";
@@ -274,4 +302,521 @@ public class CategoryMySQLTests {
         assertEquals(expectedPerPage, actualResult.items().size());
         assertEquals(categoryFilmes.getId(), actualResult.items().get(0).getId());
     }
+
+    @Test
+    void givenAccentedNamesAndAPrefixMatch_whenCallsFindAll_shouldIgnoreCaseAndAccents() {
+        final var categoryAcao = Category.newCategory("Ação", null, true);
+        final var categoryAventura = Category.newCategory("Aventura", "Ação e aventura", true);
+        final var categoryDocumentarios = Category.newCategory("Documentários", null, true);
+
+        repository.saveAll(of(from(categoryAcao), from(categoryAventura), from(categoryDocumentarios)));
+
+        final var aQuery = new SearchQuery(0, 10, "ACAO", "name", "asc").withMatch(MatchMode.PREFIX);
+        final var actualResult = categoryMySQLGateway.findAll(aQuery);
+
+        assertEquals(1, actualResult.total());
+        assertEquals(categoryAcao.getId(), actualResult.items().get(0).getId());
+        assertEquals("documentarios", repository.findById(categoryDocumentarios.getId().getValue())
+                .orElseThrow()
+                .getNameSearch());
+    }
+
+    @Test
+    void givenANameSearchTheSqlBackfillApproximated_whenTheJavaBackfillRuns_shouldRewriteItWithTheNormalizer() throws Exception {
+        final var aCategory = newCategory("Animação  Japonesa", null, true);
+        repository.saveAndFlush(from(aCategory));
+        jdbcTemplate.update("UPDATE category SET name_search = ?", "animacao  japonesa");
+
+        final var aConnection = DataSourceUtils.getConnection(jdbcTemplate.getDataSource());
+        new V8__Backfill_Name_Search().migrate(new Context() {
+            @Override
+            public Configuration getConfiguration() {
+                return null;
+            }
+
+            @Override
+            public Connection getConnection() {
+                return aConnection;
+            }
+        });
+
+        assertEquals("animacao japonesa", jdbcTemplate.queryForObject("SELECT name_search FROM category", String.class));
+    }
+
+    @Test
+    void givenCategoriesWrittenThroughTheGateway_whenCallsSuggest_shouldReturnThemByPrefixWithoutQuerying() {
+        final var categoryDocumentarios = categoryMySQLGateway.create(newCategory("Documentários", null, true));
+        final var categoryDoramas = categoryMySQLGateway.create(newCategory("Doramas", null, true));
+        categoryMySQLGateway.create(newCategory("Filmes", null, true));
+
+        assertTrue(categoryMySQLGateway.suggest(new SuggestQuery("DO", 10)).isEmpty());
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        final var statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        final var actualSuggestions = categoryMySQLGateway.suggest(new SuggestQuery("DO", 10));
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(
+                of(categoryDocumentarios.getId().getValue(), categoryDoramas.getId().getValue()),
+                actualSuggestions.stream().map(Suggestion::id).toList()
+        );
+
+        categoryMySQLGateway.deleteById(categoryDocumentarios.getId());
+
+        assertTrue(categoryMySQLGateway.suggest(new SuggestQuery("docu", 10)).isEmpty());
+        assertEquals(
+                of(new Suggestion(categoryDoramas.getId().getValue(), "Doramas")),
+                categoryMySQLGateway.suggest(new SuggestQuery("do", 10))
+        );
+    }
+
+    @Test
+    void givenACategoryCreatedInATransactionThatRollsBack_whenCallsSuggest_shouldNotReturnIt() {
+        categoryMySQLGateway.create(newCategory("Documentários", null, true));
+
+        TestTransaction.end();
+
+        assertTrue(categoryMySQLGateway.suggest(new SuggestQuery("DO", 10)).isEmpty());
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsExistsByIds_shouldReturnOnlyTheExistingIds() {
+        final var categoryFilmes = Category.newCategory("Filmes", null, true);
+        final var categorySeries = Category.newCategory("Series", null, true);
+        final var categoryDocumentarios = Category.newCategory("Documentarios", null, true);
+
+        assertEquals(0, repository.count());
+        repository.saveAllAndFlush(of(from(categoryDocumentarios), from(categoryFilmes), from(categorySeries)));
+        assertEquals(3, repository.count());
+
+        final var expectedIds = Set.of(categoryFilmes.getId(), categorySeries.getId());
+
+        final var actualIds = categoryMySQLGateway.existsByIds(of(
+                categoryFilmes.getId(),
+                CategoryId.from("123"),
+                categorySeries.getId(),
+                categorySeries.getId()
+        ));
+
+        assertEquals(expectedIds.size(), actualIds.size());
+        assertEquals(expectedIds, new HashSet<>(actualIds));
+    }
+
+    @Test
+    void givenMoreIdsThanASingleChunk_whenCallsExistsByIds_shouldReturnOnlyTheExistingIds() {
+        final var categoryFilmes = Category.newCategory("Filmes", null, true);
+        final var categorySeries = Category.newCategory("Series", null, true);
+
+        assertEquals(0, repository.count());
+        repository.saveAllAndFlush(of(from(categoryFilmes), from(categorySeries)));
+        assertEquals(2, repository.count());
+
+        final var ids = new ArrayList<CategoryId>();
+        ids.add(categoryFilmes.getId());
+        for (int i = 0; i < 1_500; i++) {
+            ids.add(CategoryId.unique());
+        }
+        ids.add(categorySeries.getId());
+
+        final var expectedIds = Set.of(categoryFilmes.getId(), categorySeries.getId());
+
+        final var actualIds = categoryMySQLGateway.existsByIds(ids);
+
+        assertEquals(expectedIds.size(), actualIds.size());
+        assertEquals(expectedIds, new HashSet<>(actualIds));
+    }
+
+    @Test
+    void givenThousandsOfIds_whenCallsExistsByIds_shouldLookThemUpInChunks() {
+        final var categoryFilmes = Category.newCategory("Filmes", null, true);
+        final var categorySeries = Category.newCategory("Series", null, true);
+        repository.saveAllAndFlush(of(from(categoryFilmes), from(categorySeries)));
+        entityManager.clear();
+
+        final var ids = new ArrayList<CategoryId>();
+        ids.add(categoryFilmes.getId());
+        for (int i = 0; i < 5_000; i++) {
+            ids.add(CategoryId.unique());
+        }
+        ids.add(categorySeries.getId());
+
+        final var statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        final var actualIds = categoryMySQLGateway.existsByIds(ids);
+
+        assertEquals(Set.of(categoryFilmes.getId(), categorySeries.getId()), new HashSet<>(actualIds));
+        assertEquals(10, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsFindAllByIds_shouldLoadTheExistingOnesInOneStatement() {
+        final var categoryFilmes = Category.newCategory("Filmes", null, true);
+        final var categorySeries = Category.newCategory("Series", null, true);
+
+        repository.saveAllAndFlush(of(from(categoryFilmes), from(categorySeries)));
+        entityManager.clear();
+
+        final var statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        final var actualCategories = categoryMySQLGateway.findAllByIds(of(
+                categoryFilmes.getId(),
+                CategoryId.from("123"),
+                categorySeries.getId(),
+                categoryFilmes.getId()
+        ));
+
+        assertEquals(
+                Set.of(categoryFilmes.getId(), categorySeries.getId()),
+                new HashSet<>(actualCategories.stream().map(Category::getId).toList())
+        );
+        assertEquals(2, actualCategories.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void givenNoIds_whenCallsExistsByIds_shouldReturnEmpty() {
+        final var actualIds = categoryMySQLGateway.existsByIds(of());
+
+        assertTrue(actualIds.isEmpty());
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsFindAllFollowingCursors_shouldWalkForwardAndBackward() {
+        final var expectedTotal = 3;
+
+        final var categoryFilmes = Category.newCategory("Filmes", null, true);
+        final var categorySeries = Category.newCategory("Series", null, true);
+        final var categoryDocumentarios = Category.newCategory("Documentarios", null, true);
+
+        assertEquals(0, repository.count());
+        repository.saveAllAndFlush(of(from(categoryDocumentarios), from(categoryFilmes), from(categorySeries)));
+        assertEquals(3, repository.count());
+
+        final var aQuery = new SearchQuery(0, 1, "", "name", "asc");
+
+        final var firstPage = categoryMySQLGateway.findAll(aQuery);
+        assertEquals(categoryDocumentarios.getId(), firstPage.items().get(0).getId());
+        assertNotNull(firstPage.next());
+        assertNull(firstPage.prev());
+
+        final var secondPage = categoryMySQLGateway.findAll(aQuery.withCursor(firstPage.next()));
+        assertEquals(expectedTotal, secondPage.total());
+        assertEquals(1, secondPage.items().size());
+        assertEquals(categoryFilmes.getId(), secondPage.items().get(0).getId());
+        assertNotNull(secondPage.next());
+        assertNotNull(secondPage.prev());
+
+        final var thirdPage = categoryMySQLGateway.findAll(aQuery.withCursor(secondPage.next()));
+        assertEquals(categorySeries.getId(), thirdPage.items().get(0).getId());
+        assertNull(thirdPage.next());
+        assertNotNull(thirdPage.prev());
+
+        final var backToSecondPage = categoryMySQLGateway.findAll(aQuery.withCursor(thirdPage.prev()));
+        assertEquals(categoryFilmes.getId(), backToSecondPage.items().get(0).getId());
+        assertNotNull(backToSecondPage.next());
+        assertNotNull(backToSecondPage.prev());
+
+        final var backToFirstPage = categoryMySQLGateway.findAll(aQuery.withCursor(backToSecondPage.prev()));
+        assertEquals(categoryDocumentarios.getId(), backToFirstPage.items().get(0).getId());
+        assertNotNull(backToFirstPage.next());
+        assertNull(backToFirstPage.prev());
+    }
+
+    @Test
+    void givenACursorAndADescendingSort_whenCallsFindAll_shouldReturnTheRowsAfterTheCursor() {
+        final var categoryFilmes = Category.newCategory("Filmes", null, true);
+        final var categorySeries = Category.newCategory("Series", null, true);
+        final var categoryDocumentarios = Category.newCategory("Documentarios", null, true);
+
+        assertEquals(0, repository.count());
+        repository.saveAllAndFlush(of(from(categoryDocumentarios), from(categoryFilmes), from(categorySeries)));
+        assertEquals(3, repository.count());
+
+        final var aQuery = new SearchQuery(0, 2, "", "name", "desc");
+
+        final var firstPage = categoryMySQLGateway.findAll(aQuery);
+        assertEquals(categorySeries.getId(), firstPage.items().get(0).getId());
+        assertEquals(categoryFilmes.getId(), firstPage.items().get(1).getId());
+
+        final var secondPage = categoryMySQLGateway.findAll(aQuery.withCursor(firstPage.next()));
+        assertEquals(1, secondPage.items().size());
+        assertEquals(categoryDocumentarios.getId(), secondPage.items().get(0).getId());
+        assertNull(secondPage.next());
+    }
+
+    @Test
+    void givenCountModeNone_whenCallsFindAll_shouldSkipTheTotalAndReturnHasNext() {
+        final var categoryFilmes = Category.newCategory("Filmes", null, true);
+        final var categorySeries = Category.newCategory("Series", null, true);
+        final var categoryDocumentarios = Category.newCategory("Documentarios", null, true);
+
+        assertEquals(0, repository.count());
+        repository.saveAllAndFlush(of(from(categoryDocumentarios), from(categoryFilmes), from(categorySeries)));
+        assertEquals(3, repository.count());
+
+        final var firstPage = categoryMySQLGateway.findAll(
+                new SearchQuery(0, 2, "", "name", "asc").withCount(CountMode.NONE));
+
+        assertEquals(Pagination.UNKNOWN_TOTAL, firstPage.total());
+        assertTrue(firstPage.hasNext());
+        assertEquals(2, firstPage.items().size());
+        assertEquals(categoryDocumentarios.getId(), firstPage.items().get(0).getId());
+        assertEquals(categoryFilmes.getId(), firstPage.items().get(1).getId());
+
+        final var lastPage = categoryMySQLGateway.findAll(
+                new SearchQuery(1, 2, "", "name", "asc").withCount(CountMode.NONE));
+
+        assertEquals(Pagination.UNKNOWN_TOTAL, lastPage.total());
+        assertFalse(lastPage.hasNext());
+        assertEquals(1, lastPage.items().size());
+        assertEquals(categorySeries.getId(), lastPage.items().get(0).getId());
+    }
+
+    @Test
+    void givenCountModeWindow_whenCallsFindAll_shouldReturnTheTotalFromTheSameStatement() {
+        final var categoryFilmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var categorySeries = Category.newCategory("Series", "Uma categoria assistida", true);
+        final var categoryDocumentarios = Category.newCategory("Documentarios", "A categoria menos assistida", true);
+
+        assertEquals(0, repository.count());
+        repository.saveAllAndFlush(of(from(categoryDocumentarios), from(categoryFilmes), from(categorySeries)));
+        assertEquals(3, repository.count());
+
+        final var actualResult = categoryMySQLGateway.findAll(
+                new SearchQuery(0, 1, "", "name", "desc").withCount(CountMode.WINDOW));
+
+        assertEquals(3, actualResult.total());
+        assertTrue(actualResult.hasNext());
+        assertEquals(1, actualResult.items().size());
+        assertEquals(categorySeries.getId(), actualResult.items().get(0).getId());
+
+        final var actualFilteredResult = categoryMySQLGateway.findAll(
+                new SearchQuery(0, 10, "CATEGORIA A", "name", "asc").withCount(CountMode.WINDOW));
+
+        assertEquals(1, actualFilteredResult.total());
+        assertFalse(actualFilteredResult.hasNext());
+        assertEquals(categorySeries.getId(), actualFilteredResult.items().get(0).getId());
+
+        final var actualPastTheEndResult = categoryMySQLGateway.findAll(
+                new SearchQuery(5, 10, "", "name", "asc").withCount(CountMode.WINDOW));
+
+        assertEquals(3, actualPastTheEndResult.total());
+        assertTrue(actualPastTheEndResult.items().isEmpty());
+    }
+
+    @Test
+    void givenTermsWithLikeWildcards_whenCallsFindAll_shouldMatchThemLiterally() {
+        final var categoryNatural = Category.newCategory("Organicos", "100% natural", true);
+        final var categoryOther = Category.newCategory("Outros", "100 naturais", true);
+
+        repository.saveAllAndFlush(of(from(categoryNatural), from(categoryOther)));
+
+        for (final var aCount : of(CountMode.EXACT, CountMode.WINDOW)) {
+            final var actualResult = categoryMySQLGateway.findAll(
+                    new SearchQuery(0, 10, "100%", "name", "asc").withCount(aCount));
+
+            assertEquals(1, actualResult.total());
+            assertEquals(categoryNatural.getId(), actualResult.items().get(0).getId());
+
+            final var actualUnderscoreResult = categoryMySQLGateway.findAll(
+                    new SearchQuery(0, 10, "100_n", "name", "asc").withCount(aCount));
+
+            assertEquals(0, actualUnderscoreResult.total());
+        }
+    }
+
+    @Test
+    void givenCountModeCached_whenCallsFindAllTwice_shouldReuseTheTotalUntilAGatewayWriteCommits() {
+        final var categoryFilmes = Category.newCategory("Filmes", null, true);
+        final var categorySeries = Category.newCategory("Series", null, true);
+
+        assertEquals(0, repository.count());
+        repository.saveAllAndFlush(of(from(categoryFilmes), from(categorySeries)));
+
+        final var aQuery = new SearchQuery(0, 1, "", "name", "asc").withCount(CountMode.CACHED);
+
+        assertEquals(2, categoryMySQLGateway.findAll(aQuery).total());
+
+        repository.saveAndFlush(from(Category.newCategory("Documentarios", null, true)));
+        assertEquals(2, categoryMySQLGateway.findAll(aQuery).total());
+
+        categoryMySQLGateway.create(Category.newCategory("Animes", null, true));
+        assertEquals(2, categoryMySQLGateway.findAll(aQuery).total());
+
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        assertEquals(4, categoryMySQLGateway.findAll(aQuery).total());
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsFindAll_shouldNotManageTheListedRows() {
+        final var categoryFilmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var categorySeries = Category.newCategory("Series", null, true);
+
+        assertEquals(0, repository.count());
+        repository.saveAllAndFlush(of(from(categoryFilmes), from(categorySeries)));
+        entityManager.clear();
+
+        final var actualResult = categoryMySQLGateway.findAll(new SearchQuery(0, 10, "", "name", "asc"));
+
+        assertEquals(2, actualResult.items().size());
+        assertEquals(categoryFilmes.getId(), actualResult.items().get(0).getId());
+        assertEquals(categoryFilmes.getDescription(), actualResult.items().get(0).getDescription());
+        assertEquals(categoryFilmes.getCreatedAt(), actualResult.items().get(0).getCreatedAt());
+        assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    @Test
+    void givenAValidCategory_whenCallsCreate_shouldIssueASingleInsert() {
+        final var aCategory = newCategory("Filmes", "A categoria mais assistida", true);
+        final var statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        categoryMySQLGateway.create(aCategory);
+        entityManager.flush();
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void givenManyValidCategories_whenCallsCreateAll_shouldInsertThemInJdbcBatches() {
+        final var categories = new ArrayList<Category>();
+        for (int i = 0; i < 120; i++) {
+            categories.add(newCategory("Categoria " + i, null, true));
+        }
+        final var statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        final var actualCategories = categoryMySQLGateway.createAll(categories);
+
+        assertEquals(120, actualCategories.size());
+        assertEquals(120, statistics.getEntityInsertCount());
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(120, repository.count());
+        assertTrue(repository.findById(categories.get(119).getId().getValue()).isPresent());
+    }
+
+    @Test
+    void givenAValidCategory_whenCallsCreate_shouldStoreTheIdAsSixteenBytes() {
+        final var aCategory = newCategory("Filmes", null, true);
+
+        categoryMySQLGateway.create(aCategory);
+        entityManager.flush();
+
+        final var actualId = jdbcTemplate.queryForObject("SELECT id FROM category", byte[].class);
+
+        assertEquals(16, actualId.length);
+        assertArrayEquals(UUIDBinaryConverter.toBytes(aCategory.getId().getValue()), actualId);
+        assertEquals(aCategory.getId(), categoryMySQLGateway.findById(aCategory.getId()).get().getId());
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsDeleteAllById_shouldDeleteOnlyTheGivenIdsInOneStatement() {
+        final var categoryFilmes = newCategory("Filmes", null, true);
+        final var categorySeries = newCategory("Series", null, true);
+        final var categoryDocumentarios = newCategory("Documentarios", null, true);
+
+        repository.saveAllAndFlush(of(from(categoryFilmes), from(categorySeries), from(categoryDocumentarios)));
+        assertEquals(3, repository.count());
+
+        final var statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        categoryMySQLGateway.deleteAllById(of(categoryFilmes.getId(), CategoryId.from("123"), categorySeries.getId()));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(1, repository.count());
+        assertTrue(repository.existsById(categoryDocumentarios.getId().getValue()));
+    }
+
+    @Test
+    void givenMoreIdsThanASingleChunk_whenCallsDeleteAllById_shouldDeleteThemOneChunkPerStatement() {
+        final var categoryFilmes = newCategory("Filmes", null, true);
+        final var categorySeries = newCategory("Series", null, true);
+        repository.saveAllAndFlush(of(from(categoryFilmes), from(categorySeries)));
+
+        final var ids = new ArrayList<CategoryId>();
+        ids.add(categoryFilmes.getId());
+        for (int i = 0; i < 998; i++) {
+            ids.add(CategoryId.unique());
+        }
+        ids.add(categorySeries.getId());
+
+        final var statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        categoryMySQLGateway.deleteAllById(ids);
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, repository.count());
+    }
+
+    @Test
+    void givenAPrePersistedCategory_whenCallsDeleteById_shouldIssueASingleDelete() {
+        final var aCategory = newCategory("Filmes", null, true);
+        repository.saveAndFlush(from(aCategory));
+
+        final var statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        categoryMySQLGateway.deleteById(aCategory.getId());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, repository.count());
+    }
+
+    @Test
+    void givenASortKeyWithoutAnIndex_whenCallsFindAll_shouldThrowDomainException() {
+        final var aQuery = new SearchQuery(0, 10, "", "description", "asc");
+
+        final var actualException = assertThrows(DomainException.class, () -> categoryMySQLGateway.findAll(aQuery));
+
+        assertEquals("Invalid sort 'description'", actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    void givenACursorWithAnUnparseableKey_whenCallsFindAll_shouldThrowDomainException() {
+        final var aCursor = Cursor.after("yesterday", CategoryId.unique().getValue()).encode();
+        final var aQuery = new SearchQuery(0, 10, "", "createdAt", "asc").withCursor(aCursor);
+
+        final var actualException = assertThrows(DomainException.class, () -> categoryMySQLGateway.findAll(aQuery));
+
+        assertEquals("Invalid cursor '%s'".formatted(aCursor), actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    void givenACursorWithAnIdThatIsNotAUUID_whenCallsFindAll_shouldThrowDomainException() {
+        final var aCursor = Cursor.after("Filmes", "123").encode();
+        final var aQuery = new SearchQuery(0, 10, "", "name", "asc").withCursor(aCursor);
+
+        final var actualException = assertThrows(DomainException.class, () -> categoryMySQLGateway.findAll(aQuery));
+
+        assertEquals("Invalid cursor '%s'".formatted(aCursor), actualException.getErrors().get(0).message());
+    }
 }
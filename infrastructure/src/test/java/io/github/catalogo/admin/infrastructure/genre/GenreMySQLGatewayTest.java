@@ -3,14 +3,24 @@ package io.github.catalogo.admin.infrastructure.genre;
 import io.github.catalogo.admin.MySQLGatewayTest;
 import io.github.catalogo.admin.domain.category.Category;
 import io.github.catalogo.admin.domain.category.CategoryId;
+import io.github.catalogo.admin.domain.exceptions.DomainException;
 import io.github.catalogo.admin.domain.genre.Genre;
 import io.github.catalogo.admin.domain.genre.GenreId;
+import io.github.catalogo.admin.domain.pagination.CountMode;
+import io.github.catalogo.admin.domain.pagination.Cursor;
+import io.github.catalogo.admin.domain.pagination.Pagination;
+import io.github.catalogo.admin.domain.pagination.SearchQuery;
+import io.github.catalogo.admin.domain.pagination.SuggestQuery;
+import io.github.catalogo.admin.domain.pagination.Suggestion;
 import io.github.catalogo.admin.infrastructure.category.CategoryMySQLGateway;
 import io.github.catalogo.admin.infrastructure.genre.persistence.GenreJpaEntity;
 import io.github.catalogo.admin.infrastructure.genre.persistence.GenreRepository;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.transaction.TestTransaction;
 
+import javax.persistence.EntityManager;
 import java.util.Comparator;
 import java.util.List;
 
@@ -29,6 +39,9 @@ public class GenreMySQLGatewayTest {
     @Autowired
     private GenreRepository genreRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     public void testDependenciesInjected() {
         assertNotNull(categoryGateway);
@@ -302,9 +315,291 @@ public class GenreMySQLGatewayTest {
         assertTrue(actualGenre.isEmpty());
     }
 
+    @Test
+    public void givenPrePersistedGenres_whenCallsFindAllFollowingTheNextCursor_shouldReturnTheFollowingPage() {
+        // given
+        final var acao = Genre.newGenre("Ação", true);
+        final var drama = Genre.newGenre("Drama", true);
+        final var terror = Genre.newGenre("Terror", true);
+        genreRepository.saveAllAndFlush(List.of(
+                GenreJpaEntity.from(terror),
+                GenreJpaEntity.from(acao),
+                GenreJpaEntity.from(drama)
+        ));
+        assertEquals(3, genreRepository.count());
+
+        final var aQuery = new SearchQuery(0, 2, "", "name", "asc");
+
+        // when
+        final var firstPage = genreGateway.findAll(aQuery);
+        final var secondPage = genreGateway.findAll(aQuery.withCursor(firstPage.next()));
+
+        // then
+        assertEquals(3, firstPage.total());
+        assertEquals(List.of(acao.getId(), drama.getId()), firstPage.items().stream().map(Genre::getId).toList());
+        assertNull(firstPage.prev());
+
+        assertEquals(3, secondPage.total());
+        assertEquals(List.of(terror.getId()), secondPage.items().stream().map(Genre::getId).toList());
+        assertNull(secondPage.next());
+        assertNotNull(secondPage.prev());
+    }
+
+    @Test
+    public void givenCountModeNone_whenCallsFindAllFollowingTheNextCursor_shouldLeaveTheTotalUnknown() {
+        // given
+        final var acao = Genre.newGenre("Ação", true);
+        final var drama = Genre.newGenre("Drama", true);
+        final var terror = Genre.newGenre("Terror", true);
+        genreRepository.saveAllAndFlush(List.of(
+                GenreJpaEntity.from(terror),
+                GenreJpaEntity.from(acao),
+                GenreJpaEntity.from(drama)
+        ));
+
+        final var aQuery = new SearchQuery(0, 2, "", "name", "asc").withCount(CountMode.NONE);
+
+        // when
+        final var firstPage = genreGateway.findAll(aQuery);
+        final var secondPage = genreGateway.findAll(aQuery.withCursor(firstPage.next()));
+
+        // then
+        assertEquals(Pagination.UNKNOWN_TOTAL, secondPage.total());
+        assertEquals(List.of(terror.getId()), secondPage.items().stream().map(Genre::getId).toList());
+        assertNull(secondPage.next());
+    }
+
+    @Test
+    public void givenACursorWithAnUnparseableKey_whenCallsFindAll_shouldThrowDomainException() {
+        // given
+        final var aCursor = Cursor.after("yesterday", GenreId.unique().getValue()).encode();
+        final var aQuery = new SearchQuery(0, 10, "", "createdAt", "asc").withCursor(aCursor);
+
+        // when
+        final var actualException = assertThrows(DomainException.class, () -> genreGateway.findAll(aQuery));
+
+        // then
+        assertEquals("Invalid cursor '%s'".formatted(aCursor), actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenAValidGenreWithCategories_whenCallsCreateGenre_shouldInsertTheGenreAndBatchTheLinks() {
+        // given
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Series", null, true));
+        final var documentarios = categoryGateway.create(Category.newCategory("Documentarios", null, true));
+        entityManager.flush();
+
+        final var aGenre = Genre.newGenre("Ação", true);
+        aGenre.addCategories(List.of(filmes.getId(), series.getId(), documentarios.getId()));
+
+        final var statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        // when
+        genreGateway.create(aGenre);
+        entityManager.flush();
+
+        // then
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(4, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    public void givenPrePersistedGenresWithCategories_whenCallsFindAll_shouldLoadTheLinksWithAConstantNumberOfQueries() {
+        // given
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Series", null, true));
+        final var expectedCategories = List.of(filmes.getId(), series.getId());
+
+        for (int i = 0; i < 6; i++) {
+            final var aGenre = Genre.newGenre("Genre " + i, true);
+            aGenre.addCategories(expectedCategories);
+            genreGateway.create(aGenre);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        final var statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+
+        for (final var perPage : List.of(3, 6)) {
+            statistics.clear();
+
+            // when
+            final var actualPage = genreGateway.findAll(new SearchQuery(0, perPage, "", "name", "asc"));
+
+            // then
+            assertEquals(perPage, actualPage.items().size());
+            actualPage.items().forEach(aGenre ->
+                    assertIterableEquals(sorted(expectedCategories), sorted(aGenre.getCategories())));
+            assertEquals(3, statistics.getPrepareStatementCount());
+            entityManager.clear();
+        }
+    }
+
+    @Test
+    public void givenAGenreWithCategories_whenCallsUpdateSwappingOneCategory_shouldWriteOnlyTheDelta() {
+        // given
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Series", null, true));
+        final var documentarios = categoryGateway.create(Category.newCategory("Documentarios", null, true));
+
+        final var aGenre = Genre.newGenre("Ação", true);
+        aGenre.addCategories(List.of(filmes.getId(), series.getId()));
+        genreGateway.create(aGenre);
+        entityManager.flush();
+        entityManager.clear();
+
+        final var expectedCategories = List.of(series.getId(), documentarios.getId());
+        final var anUpdatedGenre = Genre.with(aGenre)
+                .update("Ação", true, expectedCategories);
+
+        final var statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        // when
+        genreGateway.update(anUpdatedGenre);
+
+        // then
+        assertEquals(4, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getCollectionLoadCount());
+
+        entityManager.clear();
+        final var persistedGenre = genreRepository.findById(aGenre.getId().getValue()).get();
+        assertIterableEquals(sorted(expectedCategories), sorted(persistedGenre.getCategoryIDs()));
+    }
+
     private List<CategoryId> sorted(final List<CategoryId> expectedCategories) {
         return expectedCategories.stream()
                 .sorted(Comparator.comparing(CategoryId::getValue))
                 .toList();
     }
+
+    @Test
+    public void givenGenresLinkedToACategory_whenCallsFindIdsByCategoryFollowingTheNextCursor_shouldWalkThemInIdOrder() {
+        // given
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Series", null, true));
+
+        final var acao = genreGateway.create(Genre.newGenre("Ação", true).addCategory(filmes.getId()));
+        final var drama = genreGateway.create(Genre.newGenre("Drama", true).addCategories(List.of(filmes.getId(), series.getId())));
+        final var terror = genreGateway.create(Genre.newGenre("Terror", true).addCategory(filmes.getId()));
+        genreGateway.create(Genre.newGenre("Comédia", true).addCategory(series.getId()));
+        entityManager.flush();
+
+        final var expectedIds = List.of(acao.getId(), drama.getId(), terror.getId()).stream()
+                .sorted(Comparator.comparing(GenreId::getValue))
+                .toList();
+
+        // when
+        final var firstPage = genreGateway.findIdsByCategory(filmes.getId(), null, 2);
+        final var secondPage = genreGateway.findIdsByCategory(filmes.getId(), firstPage.next(), 2);
+
+        // then
+        assertEquals(expectedIds.subList(0, 2), firstPage.items());
+        assertEquals(Pagination.UNKNOWN_TOTAL, firstPage.total());
+        assertNotNull(firstPage.next());
+
+        assertEquals(expectedIds.subList(2, 3), secondPage.items());
+        assertNull(secondPage.next());
+    }
+
+    @Test
+    public void givenAnInvalidCategoryId_whenCallsFindIdsByCategory_shouldReturnEmpty() {
+        // when
+        final var actualPage = genreGateway.findIdsByCategory(CategoryId.from("123"), null, 10);
+
+        // then
+        assertTrue(actualPage.items().isEmpty());
+        assertNull(actualPage.next());
+    }
+
+    @Test
+    public void givenAGenreWithCategories_whenCallsFindCategoryIdsFollowingTheNextCursor_shouldWalkThemInIdOrder() {
+        // given
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Series", null, true));
+        final var documentarios = categoryGateway.create(Category.newCategory("Documentarios", null, true));
+
+        final var aGenre = genreGateway.create(Genre.newGenre("Ação", true)
+                .addCategories(List.of(filmes.getId(), series.getId(), documentarios.getId())));
+        entityManager.flush();
+        entityManager.clear();
+
+        final var expectedIds = aGenre.getCategories().stream()
+                .sorted(Comparator.comparing(CategoryId::getValue))
+                .toList();
+
+        // when
+        final var firstPage = genreGateway.findCategoryIds(aGenre.getId(), null, 2);
+        final var secondPage = genreGateway.findCategoryIds(aGenre.getId(), firstPage.next(), 2);
+
+        // then
+        assertEquals(expectedIds.subList(0, 2), firstPage.items());
+        assertEquals(Pagination.UNKNOWN_TOTAL, firstPage.total());
+        assertEquals(expectedIds.subList(2, 3), secondPage.items());
+        assertNull(secondPage.next());
+    }
+
+    @Test
+    public void givenAGenreWithCategories_whenCallsFindSummaryById_shouldCountTheLinksWithoutLoadingThem() {
+        // given
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Series", null, true));
+
+        final var aGenre = genreGateway.create(Genre.newGenre("Ação", true)
+                .addCategories(List.of(filmes.getId(), series.getId())));
+        entityManager.flush();
+        entityManager.clear();
+
+        final var statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        // when
+        final var actualSummary = genreGateway.findSummaryById(aGenre.getId()).orElseThrow();
+
+        // then
+        assertEquals(aGenre.getId(), actualSummary.id());
+        assertEquals(aGenre.getName(), actualSummary.name());
+        assertEquals(2, actualSummary.categoriesCount());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getCollectionLoadCount());
+    }
+
+    @Test
+    public void givenAGenreRenamedThroughTheGateway_whenCallsSuggest_shouldReturnTheNewNameOnlyOnceItCommits() {
+        final var aGenre = genreGateway.create(Genre.newGenre("Documentários", true));
+        final var expectedId = aGenre.getId().getValue();
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        assertEquals(
+                List.of(new Suggestion(expectedId, "Documentários")),
+                genreGateway.suggest(new SuggestQuery("docu", 10))
+        );
+
+        TestTransaction.start();
+        genreGateway.update(Genre.with(aGenre).update("Dramas", true, List.of()));
+
+        assertTrue(genreGateway.suggest(new SuggestQuery("dra", 10)).isEmpty());
+
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        assertTrue(genreGateway.suggest(new SuggestQuery("docu", 10)).isEmpty());
+        assertEquals(
+                List.of(new Suggestion(expectedId, "Dramas")),
+                genreGateway.suggest(new SuggestQuery("dra", 10))
+        );
+    }
 }
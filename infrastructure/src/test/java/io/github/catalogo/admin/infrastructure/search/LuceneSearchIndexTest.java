@@ -0,0 +1,100 @@
+package io.github.catalogo.admin.infrastructure.search;
+
+import io.github.catalogo.admin.domain.pagination.CountMode;
+import io.github.catalogo.admin.domain.pagination.Pagination;
+import io.github.catalogo.admin.domain.pagination.SearchQuery;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class LuceneSearchIndexTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    private LuceneSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new LuceneSearchIndex(1.0);
+        searchIndex.index("category", "1", "Filmes", "A categoria mais assistida", NOW);
+        searchIndex.index("category", "2", "Documentários", "A categoria menos assistida", NOW.plusSeconds(1));
+        searchIndex.index("genre", "3", "Ação", null, NOW);
+        searchIndex.refresh();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        searchIndex.close();
+    }
+
+    @Test
+    void givenAPrefixWithoutAccents_whenCallsSearch_shouldMatchAccentedNames() {
+        final var actualHits = searchIndex.search("category", query("documentarios"));
+
+        assertEquals(1, actualHits.total());
+        assertEquals(List.of("2"), actualHits.ids());
+    }
+
+    @Test
+    void givenATypo_whenCallsSearch_shouldMatchFuzzily() {
+        final var actualHits = searchIndex.search("category", query("filmez"));
+
+        assertEquals(List.of("1"), actualHits.ids());
+    }
+
+    @Test
+    void givenTermsInBothTypes_whenCallsSearch_shouldReturnOnlyTheRequestedType() {
+        assertEquals(List.of("3"), searchIndex.search("genre", query("acao")).ids());
+        assertEquals(0, searchIndex.search("category", query("acao")).total());
+    }
+
+    @Test
+    void givenASecondPage_whenCallsSearch_shouldSkipTheFirstHits() {
+        final var actualHits = searchIndex.search("category", new SearchQuery(1, 1, "assistida", "name", "asc"));
+
+        assertEquals(2, actualHits.total());
+        assertEquals(1, actualHits.ids().size());
+    }
+
+    @Test
+    void givenEquallyRelevantHits_whenCallsSearch_shouldBreakTheTieWithTheRequestedSort() {
+        assertEquals(List.of("2", "1"), searchIndex.search("category", new SearchQuery(0, 10, "categoria", "name", "asc")).ids());
+        assertEquals(List.of("1", "2"), searchIndex.search("category", new SearchQuery(0, 10, "categoria", "name", "desc")).ids());
+        assertEquals(List.of("2", "1"), searchIndex.search("category", new SearchQuery(0, 10, "categoria", "createdAt", "desc")).ids());
+    }
+
+    @Test
+    void givenCountModeNone_whenCallsSearch_shouldLeaveTheTotalUnknownAndReturnOneHitPastThePage() {
+        final var actualHits = searchIndex.search("category", new SearchQuery(0, 1, "categoria", "name", "asc")
+                .withCount(CountMode.NONE));
+
+        assertEquals(Pagination.UNKNOWN_TOTAL, actualHits.total());
+        assertEquals(List.of("2", "1"), actualHits.ids());
+    }
+
+    @Test
+    void givenAPageFarPastTheEnd_whenCallsSearch_shouldReturnNoHitsWithoutOverflowing() {
+        final var actualHits = searchIndex.search("category", new SearchQuery(Integer.MAX_VALUE, 1_000, "categoria", "name", "asc"));
+
+        assertEquals(2, actualHits.total());
+        assertEquals(List.of(), actualHits.ids());
+    }
+
+    @Test
+    void givenADeletedDocument_whenCallsSearch_shouldNotReturnIt() {
+        searchIndex.delete("category", List.of("1"));
+        searchIndex.refresh();
+
+        assertEquals(0, searchIndex.search("category", query("filmes")).total());
+    }
+
+    private static SearchQuery query(final String terms) {
+        return new SearchQuery(0, 10, terms, "name", "asc");
+    }
+}
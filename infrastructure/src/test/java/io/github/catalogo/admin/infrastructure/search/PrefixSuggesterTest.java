@@ -0,0 +1,67 @@
+package io.github.catalogo.admin.infrastructure.search;
+
+import io.github.catalogo.admin.domain.pagination.Suggestion;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PrefixSuggesterTest {
+
+    @Test
+    void givenAccentedNames_whenCallsSuggest_shouldMatchTheNormalizedPrefixInNameOrder() {
+        final var aSuggester = new PrefixSuggester();
+        aSuggester.put("1", "Documentários");
+        aSuggester.put("2", "Ação");
+        aSuggester.put("3", "Doramas");
+        aSuggester.put("4", "Dorama");
+
+        assertEquals(
+                List.of(new Suggestion("1", "Documentários"), new Suggestion("4", "Dorama"), new Suggestion("3", "Doramas")),
+                aSuggester.suggest("DO", 10)
+        );
+        assertEquals(List.of(new Suggestion("2", "Ação")), aSuggester.suggest("aca", 10));
+        assertEquals(List.of(new Suggestion("1", "Documentários")), aSuggester.suggest("do", 1));
+        assertTrue(aSuggester.suggest("x", 10).isEmpty());
+    }
+
+    @Test
+    void givenEnoughWritesToMergeThePendingEntries_whenCallsSuggest_shouldSeeOnlyTheCurrentNames() {
+        final var aSuggester = new PrefixSuggester();
+        for (int i = 0; i < 1_000; i++) {
+            aSuggester.put(String.valueOf(i), "Filme %04d".formatted(i));
+        }
+        for (int i = 0; i < 1_000; i += 2) {
+            aSuggester.put(String.valueOf(i), "Serie %04d".formatted(i));
+        }
+        for (int i = 1; i < 1_000; i += 4) {
+            aSuggester.remove(String.valueOf(i));
+        }
+
+        final var expectedFilmes = new ArrayList<Suggestion>();
+        for (int i = 3; expectedFilmes.size() < 10; i += 4) {
+            expectedFilmes.add(new Suggestion(String.valueOf(i), "Filme %04d".formatted(i)));
+        }
+
+        assertEquals(expectedFilmes, aSuggester.suggest("filme", 10));
+        assertEquals(new Suggestion("998", "Serie 0998"), aSuggester.suggest("serie 0998", 10).get(0));
+        assertTrue(aSuggester.suggest("filme 0001", 10).isEmpty());
+        assertTrue(aSuggester.suggest("filme 0002", 10).isEmpty());
+    }
+
+    @Test
+    void givenARenameStillPending_whenCallsSuggest_shouldReturnOnlyTheNewName() {
+        final var aSuggester = new PrefixSuggester();
+        aSuggester.put("1", "Drama");
+        aSuggester.put("1", "Dramas");
+
+        assertEquals(List.of(new Suggestion("1", "Dramas")), aSuggester.suggest("dra", 10));
+
+        aSuggester.clear();
+
+        assertTrue(aSuggester.suggest("dra", 10).isEmpty());
+    }
+}
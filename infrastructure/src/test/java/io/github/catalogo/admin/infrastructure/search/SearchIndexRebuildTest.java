@@ -0,0 +1,92 @@
+package io.github.catalogo.admin.infrastructure.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SearchIndexRebuildTest {
+
+    @Test
+    void givenARunningRebuild_whenAnIdIsWritten_shouldSkipItsReloadUntilTheRebuildFinishes() throws Exception {
+        final var aRebuild = new SearchIndexRebuild("test-rebuild");
+        final var release = new CountDownLatch(1);
+        final var finished = new CountDownLatch(1);
+        final var threadName = new String[1];
+        final var reloaded = new CopyOnWriteArrayList<String>();
+
+        aRebuild.start(() -> {
+            threadName[0] = Thread.currentThread().getName();
+            await(release);
+            finished.countDown();
+        });
+
+        assertTrue(aRebuild.isRunning());
+        aRebuild.write(List.of("1"), () -> {
+        });
+        aRebuild.reload("1", () -> reloaded.add("1"));
+        aRebuild.reload("2", () -> reloaded.add("2"));
+
+        release.countDown();
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        while (aRebuild.isRunning()) {
+            Thread.onSpinWait();
+        }
+        aRebuild.reload("1", () -> reloaded.add("1"));
+
+        assertEquals("test-rebuild", threadName[0]);
+        assertEquals(List.of("2", "1"), reloaded);
+    }
+
+    @Test
+    void givenNoRebuild_whenAnIdIsWritten_shouldNotBeRemembered() {
+        final var aRebuild = new SearchIndexRebuild("test-rebuild");
+        final var reloaded = new CopyOnWriteArrayList<String>();
+
+        aRebuild.write(List.of("1"), () -> {
+        });
+        aRebuild.reload("1", () -> reloaded.add("1"));
+
+        assertFalse(aRebuild.isRunning());
+        assertEquals(List.of("1"), reloaded);
+    }
+
+    @Test
+    void givenAReloadInProgress_whenTheSameIdIsWritten_shouldApplyTheWriteAfterIt() throws Exception {
+        final var aRebuild = new SearchIndexRebuild("test-rebuild");
+        final var reloading = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var applied = new CopyOnWriteArrayList<String>();
+
+        aRebuild.start(() -> aRebuild.reload("1", () -> {
+            reloading.countDown();
+            await(release);
+            applied.add("reload");
+        }));
+        assertTrue(reloading.await(5, TimeUnit.SECONDS));
+
+        final var aWriter = new Thread(() -> aRebuild.write(List.of("1"), () -> applied.add("write")));
+        aWriter.start();
+        while (aWriter.getState() != Thread.State.BLOCKED) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+        aWriter.join(5_000);
+
+        assertEquals(List.of("reload", "write"), applied);
+    }
+
+    private static void await(final CountDownLatch aLatch) {
+        try {
+            aLatch.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.catalogo.admin.infrastructure.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CountCacheTest {
+
+    @Test
+    void givenACachedCount_whenCallsGetAgain_shouldNotCountAgain() {
+        final var counts = new AtomicInteger();
+        final var cache = new CountCache(Duration.ofMinutes(1));
+
+        cache.get("categories", counts::incrementAndGet);
+        final var actualCount = cache.get("categories", counts::incrementAndGet);
+
+        assertEquals(1, actualCount);
+        assertEquals(1, counts.get());
+    }
+
+    @Test
+    void givenACountStartedBeforeAnInvalidation_whenItFinishesAfterIt_shouldNotServeThatCount() {
+        final var counts = new AtomicInteger();
+        final var cache = new CountCache(Duration.ofMinutes(1));
+
+        cache.get("categories", () -> {
+            cache.invalidateAll();
+            return counts.incrementAndGet();
+        });
+        final var actualCount = cache.get("categories", counts::incrementAndGet);
+
+        assertEquals(2, actualCount);
+        assertEquals(2, counts.get());
+    }
+}
@@ -0,0 +1,21 @@
+package io.github.catalogo.admin.infrastructure.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class FullTextUtilsTest {
+
+    @Test
+    void givenTermsWithOperators_whenCallsBooleanQuery_shouldRequireEveryTokenAsAPrefix() {
+        assertEquals(Optional.of("+filmes* +acao*"), FullTextUtils.booleanQuery(" filmes -(acao) "));
+    }
+
+    @Test
+    void givenATokenShorterThanTheIndexedOnes_whenCallsBooleanQuery_shouldReturnEmpty() {
+        assertEquals(Optional.empty(), FullTextUtils.booleanQuery("filmes de acao"));
+        assertEquals(Optional.empty(), FullTextUtils.booleanQuery("+*"));
+    }
+}
@@ -0,0 +1,112 @@
+package io.github.catalogo.admin.infrastructure.utils;
+
+import io.github.catalogo.admin.domain.category.Category;
+import io.github.catalogo.admin.domain.pagination.Pagination;
+import io.github.catalogo.admin.domain.pagination.SearchQuery;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ListingCacheTest {
+
+    private static final SearchQuery DEFAULT_QUERY = new SearchQuery(0, 10, "", "name", "asc");
+
+    @Test
+    void givenACachedPage_whenCallsGetAgain_shouldNotReloadIt() {
+        final var loads = new AtomicInteger();
+        final var caches = new ListingCaches(100, Duration.ofMinutes(1), Duration.ofMinutes(5));
+        final ListingCache<Category> cache = caches.create(aQuery -> page(loads.incrementAndGet()), Category::clone);
+
+        cache.get(DEFAULT_QUERY);
+        cache.get(new SearchQuery(0, 10, "", "name", "asc"));
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void givenACachedPage_whenAnotherCacheOfTheSameCachesIsInvalidated_shouldReloadIt() {
+        final var loads = new AtomicInteger();
+        final var caches = new ListingCaches(100, Duration.ofMinutes(1), Duration.ofMinutes(5));
+        final ListingCache<Category> categories = caches.create(aQuery -> page(loads.incrementAndGet()), Category::clone);
+        final ListingCache<Category> genres = caches.create(aQuery -> page(0), Category::clone);
+
+        categories.get(DEFAULT_QUERY);
+        genres.invalidateAll();
+        final var actualPage = categories.get(DEFAULT_QUERY);
+
+        assertEquals(2, loads.get());
+        assertEquals("2", actualPage.items().get(0).getName());
+    }
+
+    @Test
+    void givenCachedPagesInEveryCache_whenAnyOfThemIsInvalidated_shouldEvictThemAll() {
+        final var caches = new ListingCaches(100, Duration.ofMinutes(1), Duration.ofMinutes(5));
+        final ListingCache<Category> categories = caches.create(aQuery -> page(1), Category::clone);
+        final ListingCache<Category> genres = caches.create(aQuery -> page(1), Category::clone);
+
+        categories.get(DEFAULT_QUERY);
+        genres.get(DEFAULT_QUERY);
+        categories.invalidateAll();
+
+        assertEquals(0, categories.cache().estimatedSize());
+        assertEquals(0, genres.cache().estimatedSize());
+    }
+
+    @Test
+    void givenALoadStartedBeforeAWrite_whenItFinishesAfterIt_shouldNotServeThatPage() throws Exception {
+        final var loads = new AtomicInteger();
+        final var loading = new CountDownLatch(1);
+        final var written = new CountDownLatch(1);
+        final var caches = new ListingCaches(100, Duration.ofMinutes(1), Duration.ofMinutes(5));
+        final ListingCache<Category> cache = caches.create(aQuery -> {
+            final var aLoad = loads.incrementAndGet();
+            if (aLoad == 1) {
+                loading.countDown();
+                await(written);
+            }
+            return page(aLoad);
+        }, Category::clone);
+
+        final var executor = Executors.newSingleThreadExecutor();
+        try {
+            final var staleRead = executor.submit(() -> cache.get(DEFAULT_QUERY));
+            loading.await(5, TimeUnit.SECONDS);
+            cache.invalidateAll();
+            written.countDown();
+            staleRead.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals("2", cache.get(DEFAULT_QUERY).items().get(0).getName());
+    }
+
+    @Test
+    void givenACachedPage_whenTheCallerMutatesAnItem_shouldNotChangeTheCachedPage() {
+        final var caches = new ListingCaches(100, Duration.ofMinutes(1), Duration.ofMinutes(5));
+        final ListingCache<Category> cache = caches.create(aQuery -> page(1), Category::clone);
+
+        cache.get(DEFAULT_QUERY).items().get(0).update("mutated", null, true);
+
+        assertEquals("1", cache.get(DEFAULT_QUERY).items().get(0).getName());
+    }
+
+    private static Pagination<Category> page(final int aLoad) {
+        return new Pagination<>(0, 10, 1, List.of(Category.newCategory(String.valueOf(aLoad), null, true)));
+    }
+
+    private static void await(final CountDownLatch aLatch) {
+        try {
+            aLatch.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
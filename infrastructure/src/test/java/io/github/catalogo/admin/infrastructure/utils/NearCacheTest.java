@@ -0,0 +1,143 @@
+package io.github.catalogo.admin.infrastructure.utils;
+
+import io.github.catalogo.admin.domain.category.Category;
+import io.github.catalogo.admin.domain.category.CategoryId;
+import io.github.catalogo.admin.domain.exceptions.NotFoundException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NearCacheTest {
+
+    private final AtomicLong version = new AtomicLong();
+    private final List<Duration> staleReads = new ArrayList<>();
+
+    @Test
+    void givenAnEntryWithinTheSoftTtl_whenCallsGet_shouldServeItWithoutLoading() {
+        final var cache = nearCache(Duration.ofMinutes(1), Duration.ofMinutes(5));
+
+        cache.get("123", () -> "first");
+        final var actualValue = cache.get("123", () -> "second");
+
+        assertEquals("first", actualValue);
+        assertTrue(staleReads.isEmpty());
+    }
+
+    @Test
+    void givenAnEntryAfterTheSoftTtl_whenCallsGet_shouldServeItAndRefreshIt() {
+        final var cache = nearCache(Duration.ZERO, Duration.ofMinutes(5));
+
+        cache.get("123", () -> "first");
+        final var actualStaleValue = cache.get("123", () -> "second");
+        final var actualRefreshedValue = cache.get("123", () -> "third");
+
+        assertEquals("first", actualStaleValue);
+        assertEquals("second", actualRefreshedValue);
+        assertEquals(2, staleReads.size());
+    }
+
+    @Test
+    void givenAnEntryAfterTheSoftTtl_whenTheRefreshFails_shouldKeepServingIt() {
+        final var cache = nearCache(Duration.ZERO, Duration.ofMinutes(5));
+
+        cache.get("123", () -> "first");
+        cache.get("123", () -> {
+            throw new IllegalStateException("Gateway error");
+        });
+        final var actualValue = cache.get("123", () -> {
+            throw new IllegalStateException("Gateway error");
+        });
+
+        assertEquals("first", actualValue);
+        assertEquals(2, staleReads.size());
+    }
+
+    @Test
+    void givenAnEntryAfterTheSoftTtl_whenTheRefreshIsRejected_shouldServeItAndRefreshOnALaterRead() {
+        final var rejecting = new AtomicBoolean(true);
+        final var cache = new NearCache<String, String>(version::get, Duration.ZERO, Duration.ofMinutes(5), 100, staleReads::add, aTask -> {
+            if (rejecting.get()) {
+                throw new RejectedExecutionException("Refresh pool is full");
+            }
+            aTask.run();
+        });
+
+        cache.get("123", () -> "first");
+        final var actualRejectedValue = cache.get("123", () -> "second");
+        rejecting.set(false);
+        final var actualStaleValue = cache.get("123", () -> "third");
+        final var actualRefreshedValue = cache.get("123", () -> "fourth");
+
+        assertEquals("first", actualRejectedValue);
+        assertEquals("first", actualStaleValue);
+        assertEquals("third", actualRefreshedValue);
+    }
+
+    @Test
+    void givenAWriteSinceTheEntryWasLoaded_whenCallsGet_shouldReloadIt() {
+        final var cache = nearCache(Duration.ofMinutes(1), Duration.ofMinutes(5));
+
+        cache.get("123", () -> "first");
+        version.incrementAndGet();
+        final var actualValue = cache.get("123", () -> "second");
+
+        assertEquals("second", actualValue);
+        assertTrue(staleReads.isEmpty());
+    }
+
+    @Test
+    void givenAWriteSinceTheEntryWasLoaded_whenTheReloadFails_shouldServeTheStaleEntry() {
+        final var cache = nearCache(Duration.ofMinutes(1), Duration.ofMinutes(5));
+
+        cache.get("123", () -> "first");
+        version.incrementAndGet();
+        final var actualValue = cache.get("123", () -> {
+            throw new IllegalStateException("Gateway error");
+        });
+
+        assertEquals("first", actualValue);
+        assertEquals(1, staleReads.size());
+    }
+
+    @Test
+    void givenAWriteSinceTheEntryWasLoaded_whenTheReloadIsNotFound_shouldThrowIt() {
+        final var expectedError = NotFoundException.with(Category.class, CategoryId.from("123"));
+        final var cache = nearCache(Duration.ofMinutes(1), Duration.ofMinutes(5));
+
+        cache.get("123", () -> "first");
+        version.incrementAndGet();
+        final var actualError = Assertions.assertThrows(NotFoundException.class, () -> cache.get("123", () -> {
+            throw expectedError;
+        }));
+
+        Assertions.assertSame(expectedError, actualError);
+        assertEquals("second", cache.get("123", () -> "second"));
+        assertTrue(staleReads.isEmpty());
+    }
+
+    @Test
+    void givenAnEntryAfterTheHardTtl_whenTheLoadFails_shouldThrowIt() throws InterruptedException {
+        final var cache = nearCache(Duration.ZERO, Duration.ofMillis(1));
+
+        cache.get("123", () -> "first");
+        Thread.sleep(10);
+
+        Assertions.assertThrows(IllegalStateException.class, () -> cache.get("123", () -> {
+            throw new IllegalStateException("Gateway error");
+        }));
+        assertTrue(staleReads.isEmpty());
+    }
+
+    private NearCache<String, String> nearCache(final Duration aSoftTtl, final Duration aHardTtl) {
+        return new NearCache<>(version::get, aSoftTtl, aHardTtl, 100, staleReads::add, Runnable::run);
+    }
+}
@@ -0,0 +1,107 @@
+package io.github.catalogo.admin.infrastructure.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    @Test
+    void givenConcurrentCallsForTheSameKey_whenCallsExecute_shouldRunTheSupplierOnce() throws Exception {
+        final var calls = new AtomicInteger();
+        final var arrived = new CountDownLatch(CALLERS);
+        final var release = new CountDownLatch(1);
+        final var singleFlight = new SingleFlight<String, String>();
+
+        final var executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            final var results = new ArrayList<Future<String>>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> {
+                    arrived.countDown();
+                    return singleFlight.execute("123", () -> {
+                        calls.incrementAndGet();
+                        await(release);
+                        return "result";
+                    });
+                }));
+            }
+            arrived.await(5, TimeUnit.SECONDS);
+            awaitInFlight(singleFlight);
+            release.countDown();
+
+            for (final var aResult : results) {
+                assertEquals("result", aResult.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, calls.get());
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    void givenAFailingCall_whenOtherCallersWaitForIt_shouldThrowTheSameException() throws Exception {
+        final var expectedError = new IllegalStateException("Gateway error");
+        final var release = new CountDownLatch(1);
+        final var singleFlight = new SingleFlight<String, String>();
+
+        final var executor = Executors.newFixedThreadPool(2);
+        try {
+            final var leader = executor.submit(() -> singleFlight.execute("123", () -> {
+                await(release);
+                throw expectedError;
+            }));
+            awaitInFlight(singleFlight);
+            final var follower = executor.submit(() -> singleFlight.execute("123", () -> "never called"));
+            release.countDown();
+
+            final var leaderError = Assertions.assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+            final var followerError = Assertions.assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+            Assertions.assertSame(expectedError, leaderError.getCause());
+            Assertions.assertSame(expectedError, followerError.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void givenAFinishedCall_whenCallsExecuteAgain_shouldRunTheSupplierAgain() {
+        final var calls = new AtomicInteger();
+        final var singleFlight = new SingleFlight<String, Integer>();
+
+        singleFlight.execute("123", calls::incrementAndGet);
+        final var actualResult = singleFlight.execute("123", calls::incrementAndGet);
+
+        assertEquals(2, actualResult);
+    }
+
+    private static void awaitInFlight(final SingleFlight<?, ?> aSingleFlight) throws InterruptedException {
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (aSingleFlight.inFlight() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        // the leader is in flight; give the other callers time to join it
+        Thread.sleep(100);
+    }
+
+    private static void await(final CountDownLatch aLatch) {
+        try {
+            aLatch.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}